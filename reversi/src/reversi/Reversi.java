@@ -26,8 +26,10 @@ public final class Reversi {
   public static void main(String[] args) {
     if (args.length < 4 && false) {
       System.err.println("Expected more arguments: " +
-          "(easy | medium | hard | providerHard | providerVeryHard | client) " +
-          "(easy | medium | hard | providerHard | providerVeryHard | client) " +
+          "(easy | medium | hard | providerHard | providerVeryHard | expert | monteCarlo | " +
+          "client) " +
+          "(easy | medium | hard | providerHard | providerVeryHard | expert | monteCarlo | " +
+          "client) " +
           "(tui | gui | providerGui) " +
           "(natural number) " +
           "[X | O]");
@@ -89,6 +91,10 @@ public final class Reversi {
         return ReversiGameFactory.Skill.ProviderHard;
       case "providerveryhard":
         return ReversiGameFactory.Skill.ProviderVeryHard;
+      case "expert":
+        return ReversiGameFactory.Skill.Expert;
+      case "montecarlo":
+        return ReversiGameFactory.Skill.MonteCarlo;
       case "client":
         return ReversiGameFactory.Skill.Client;
       default:
@@ -1,19 +1,30 @@
 package reversi;
 
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
+import reversi.controller.AbstractReversiController;
 import reversi.controller.AsynchronousReversiController;
 import reversi.controller.Player;
 import reversi.controller.ReversiController;
 import reversi.controller.SynchronousReversiController;
 import reversi.controller.agent.AbsoluteAgent;
 import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.AlphaBetaAIAgent;
 import reversi.controller.agent.AvoidNextToCornersAIAgent;
+import reversi.controller.agent.EndgameAIAgent;
 import reversi.controller.agent.GraphicalPlayerAgent;
 import reversi.controller.agent.GreedyAIAgent;
+import reversi.controller.agent.MaybeAgent;
+import reversi.controller.agent.MonteCarloAIAgent;
+import reversi.controller.agent.OpeningBookAIAgent;
 import reversi.controller.agent.PasteAIAgent;
+import reversi.controller.agent.TablebaseAIAgent;
 import reversi.controller.agent.TextualBlockingPlayerAgent;
+import reversi.hex.summarizer.strategy.OpeningBook;
+import reversi.hex.summarizer.strategy.Tablebase;
 import reversi.model.MutableReversiModel;
 import reversi.model.ReversiModel;
 import reversi.provider.adapters.controller.ProviderAgentAIAdapter;
@@ -43,13 +54,20 @@ public class ReversiGameFactory {
   private final Player firstPlayer;
   private final ViewMode viewMode;
   private Appendable out;
+  private long aiTimeBudget;
+  private int aiThreads;
+  private int endgameEmpties;
+  private Tablebase tablebase;
+  private OpeningBook openingBook;
 
   /**
    * Skill level of the Agents. Easy makes the worst moves possible, Medium is purely greedy, Hard
-   * makes better moves than Medium (but is still not particularly amazing), and Client is a human.
+   * makes better moves than Medium (but is still not particularly amazing), Expert searches several
+   * moves ahead within a time budget, MonteCarlo plays random games within a time budget to find
+   * the move that wins most often, and Client is a human.
    */
   public enum Skill {
-    Easy, Medium, Hard, ProviderHard, ProviderVeryHard, Client
+    Easy, Medium, Hard, ProviderHard, ProviderVeryHard, Expert, MonteCarlo, Client
   }
 
   /**
@@ -84,6 +102,9 @@ public class ReversiGameFactory {
     this.firstPlayer = Objects.requireNonNullElse(firstPlayer, Player.PLAYER1);
     this.viewMode = Objects.requireNonNull(viewMode);
     this.out = System.out;
+    this.aiTimeBudget = AlphaBetaAIAgent.DEFAULT_BUDGET_MILLIS;
+    this.aiThreads = Runtime.getRuntime().availableProcessors();
+    this.endgameEmpties = EndgameAIAgent.DEFAULT_MAX_EMPTIES;
   }
 
   /**
@@ -109,13 +130,14 @@ public class ReversiGameFactory {
     switch (viewMode) {
       case TUI: {
         ReversiView tty = new ReversiTextView(out, model);
-        return new SynchronousReversiController(
-            p1Agent, p2Agent, tty, tty, model);
+        return limited(new SynchronousReversiController(
+            p1Agent, p2Agent, tty, tty, model));
       }
       case GUI: {
         ReversiView p1View = new ReversiGraphicsView(model, p1Agent.getPlayer());
         ReversiView p2View = new ReversiGraphicsView(model, p2Agent.getPlayer());
-        return new AsynchronousReversiController(p1Agent, p2Agent, p1View, p2View, model);
+        return limited(
+            new AsynchronousReversiController(p1Agent, p2Agent, p1View, p2View, model));
       }
       case ProviderGui: {
         ProviderModelAdapter adaptedModel = new ProviderModelAdapter(model);
@@ -128,19 +150,19 @@ public class ReversiGameFactory {
         // if the first player is p1, change the order of the views to show the correct one
         // in the case of player vs AI
         if (firstPlayer == Player.PLAYER1) {
-          return new AsynchronousReversiController(
+          return limited(new AsynchronousReversiController(
               p1Agent,
               p2Agent,
               p1View,
               p2View,
-              model);
+              model));
         } else {
-          return new AsynchronousReversiController(
+          return limited(new AsynchronousReversiController(
               p1Agent,
               p2Agent,
               p2View,
               p1View,
-              model);
+              model));
         }
       }
       default:
@@ -148,6 +170,12 @@ public class ReversiGameFactory {
     }
   }
 
+  // cut every move off at twice the AI time budget
+  private AbstractReversiController limited(AbstractReversiController controller) {
+    controller.setMoveTimeLimit(2 * aiTimeBudget);
+    return controller;
+  }
+
   /**
    * Set the output to the provided Appendable. By default, the output is set to stdout.
    *
@@ -158,9 +186,108 @@ public class ReversiGameFactory {
     this.out = Objects.requireNonNull(out);
   }
 
-  private AbsoluteAgent createAgent(Skill skill,
-                                    Player player,
-                                    MutableReversiModel model) {
+  /**
+   * Set how long searching AI (such as {@link Skill#Expert} and {@link Skill#MonteCarlo}) may
+   * think about each move. By default, this is {@link AlphaBetaAIAgent#DEFAULT_BUDGET_MILLIS}.
+   * Searches normally keep to their budget, but may overrun it to finish their first iteration;
+   * the controller cuts every move off at twice the budget (see
+   * {@link AbstractReversiController#setMoveTimeLimit(long)}).
+   *
+   * @param millis the time budget per move, in milliseconds
+   * @throws IllegalArgumentException if the budget is negative
+   */
+  public void setAiTimeBudget(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("AI time budget may not be negative: " + millis);
+    }
+    this.aiTimeBudget = millis;
+  }
+
+  /**
+   * Set how many threads searching AI (such as {@link Skill#Expert} and {@link Skill#MonteCarlo})
+   * may think with. By default,
+   * this is the number of processors available.
+   *
+   * @param threads the number of threads each searching AI may use
+   * @throws IllegalArgumentException if threads is less than 1
+   */
+  public void setAiThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("AI thread count must be positive: " + threads);
+    }
+    this.aiThreads = threads;
+  }
+
+  /**
+   * Set how few empty cells the board must have before searching AI (such as {@link Skill#Expert}
+   * and {@link Skill#MonteCarlo}) try to solve the rest of the game perfectly. By default, this is
+   * {@link EndgameAIAgent#DEFAULT_MAX_EMPTIES}. The attempt is abandoned if it takes longer than
+   * the AI time budget.
+   *
+   * @param empties the most empty cells a board may have to be solved, or 0 to never solve
+   * @throws IllegalArgumentException if empties is negative
+   */
+  public void setEndgameEmpties(int empties) {
+    if (empties < 0) {
+      throw new IllegalArgumentException("Endgame empty cells may not be negative: " + empties);
+    }
+    this.endgameEmpties = empties;
+  }
+
+  /**
+   * Set a {@link Tablebase} for searching AI (such as {@link Skill#Expert} and
+   * {@link Skill#MonteCarlo}) to play perfectly from, on boards of its size. By default, there is
+   * none.
+   *
+   * @param tablebase the solved positions, or null for none
+   */
+  public void setTablebase(Tablebase tablebase) {
+    this.tablebase = tablebase;
+  }
+
+  /**
+   * Set an {@link OpeningBook} for searching AI (such as {@link Skill#Expert} and
+   * {@link Skill#MonteCarlo}) to play the first moves of the game from, on boards of its size. By
+   * default, there is none.
+   *
+   * @param openingBook the book moves, or null for none
+   */
+  public void setOpeningBook(OpeningBook openingBook) {
+    this.openingBook = openingBook;
+  }
+
+  // the agents every searching AI tries before searching: the opening book, the tablebase, then
+  // the endgame solver
+  private AgentBuilder.MaybeAgentBuilder createSolvers(Player player, MutableReversiModel model) {
+    List<MaybeAgent> solvers = new ArrayList<>();
+    if (openingBook != null) {
+      solvers.add(new OpeningBookAIAgent(player, model, openingBook));
+    }
+    if (tablebase != null) {
+      solvers.add(new TablebaseAIAgent(player, model, tablebase));
+    }
+    solvers.add(new EndgameAIAgent(player, model, endgameEmpties, aiTimeBudget));
+    AgentBuilder.MaybeAgentBuilder builder = AgentBuilder.create(solvers.get(0));
+    for (MaybeAgent solver : solvers.subList(1, solvers.size())) {
+      builder = builder.andThen(solver);
+    }
+    return builder;
+  }
+
+  /**
+   * Create the agent of a given skill level, set up as this factory sets up the agents of the games
+   * it creates. This is how the agents of games played without a controller, such as those of
+   * {@link reversi.simulation.SelfPlay}, are usually created.
+   *
+   * @param skill  the skill of the agent
+   * @param player the player the agent plays as
+   * @param model  the model of the game the agent plays in
+   * @return the agent
+   * @throws IllegalArgumentException if the skill is unknown
+   */
+  public AbsoluteAgent createAgent(Skill skill,
+                                   Player player,
+                                   MutableReversiModel model) {
     switch (skill) {
       case Easy:
         return AgentBuilder
@@ -192,6 +319,16 @@ public class ReversiGameFactory {
                 new ProviderModelAdapter(model),
                 player))
             .build();
+      case Expert:
+        return createSolvers(player, model)
+            .andThen(new AlphaBetaAIAgent(player, model, aiTimeBudget, aiThreads))
+            .getFirstMoveOrPassFinalizer()
+            .build();
+      case MonteCarlo:
+        return createSolvers(player, model)
+            .andThen(new MonteCarloAIAgent(player, model, aiTimeBudget, aiThreads))
+            .getFirstMoveOrPassFinalizer()
+            .build();
       case Client:
         // determine which mode we are playing in
         if (viewMode == ViewMode.TUI) {
@@ -0,0 +1,122 @@
+package reversi.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.strategy.AlphaBetaStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Measures how the parallel search of {@link AlphaBetaStrategySummarizer} scales with threads. A
+ * fixed set of positions is taken from seeded random games, and each is searched with 1, 2, 4, ...
+ * threads in two ways: with a fixed time budget, reporting the depth reached and the positions
+ * visited per second, and to a fixed depth, reporting the time taken and the speedup over a single
+ * thread. A fresh summarizer (and so an empty transposition table) is used for every search.
+ *
+ * <p>Usage: {@code SearchBenchmark [radius] [budgetMillis] [maxThreads] [positions]}. By default,
+ * the board has radius 6, each search gets 500 milliseconds, 8 positions are searched, and the
+ * thread count goes up to the number of processors available.
+ */
+public final class SearchBenchmark {
+  private static final int MAX_DEPTH = 64;
+  // long enough that a fixed-depth search is never cut short
+  private static final long UNLIMITED_MILLIS = 3_600_000;
+
+  private SearchBenchmark() {
+  }
+
+  /**
+   * Runs the benchmark and prints its results to stdout.
+   *
+   * @param args the optional radius, budget, maximum thread count and number of positions
+   */
+  public static void main(String[] args) {
+    int radius = args.length > 0 ? Integer.parseInt(args[0]) : 6;
+    long budgetMillis = args.length > 1 ? Long.parseLong(args[1]) : 500;
+    int maxThreads = args.length > 2
+        ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+    int count = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+
+    List<ReversiModel> positions = positions(radius, count);
+    List<Integer> threadCounts = new ArrayList<>();
+    for (int threads = 1; threads < maxThreads; threads *= 2) {
+      threadCounts.add(threads);
+    }
+    threadCounts.add(maxThreads);
+
+    // let the JIT compile the search before anything is timed
+    searchAll(positions, budgetMillis, MAX_DEPTH, 1);
+
+    System.out.printf("radius %d, %d positions, %d ms per search%n%n",
+        radius, positions.size(), budgetMillis);
+    System.out.printf("%-8s %10s %14s%n", "threads", "avg depth", "nodes/s");
+    int fixedDepth = Integer.MAX_VALUE;
+    for (int threads : threadCounts) {
+      Result result = searchAll(positions, budgetMillis, MAX_DEPTH, threads);
+      if (threads == 1) {
+        fixedDepth = result.minDepth;
+      }
+      System.out.printf("%-8d %10.2f %14.0f%n", threads,
+          (double) result.totalDepth / positions.size(), result.nodes / result.seconds);
+    }
+
+    System.out.printf("%nsearching every position to depth %d%n%n", fixedDepth);
+    System.out.printf("%-8s %10s %10s%n", "threads", "seconds", "speedup");
+    double singleThreaded = 0;
+    for (int threads : threadCounts) {
+      Result result = searchAll(positions, UNLIMITED_MILLIS, fixedDepth, threads);
+      if (threads == 1) {
+        singleThreaded = result.seconds;
+      }
+      System.out.printf("%-8d %10.3f %10.2f%n",
+          threads, result.seconds, singleThreaded / result.seconds);
+    }
+  }
+
+  // positions a few moves into seeded random games, one game per position
+  private static List<ReversiModel> positions(int radius, int count) {
+    List<ReversiModel> positions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Random random = new Random(i);
+      ReversiModel model = new ReversiModel(radius);
+      for (int ply = 0; ply < 4 + 2 * i; ply++) {
+        List<HexPlaneCoord> moves = model.getPossibleMoves(model.getPlayer());
+        if (moves.isEmpty()) {
+          break;
+        }
+        model.makeMoveAsPlayer(moves.get(random.nextInt(moves.size())), model.getPlayer());
+      }
+      if (model.countLegalMoves(model.getPlayer()) > 1) {
+        positions.add(model);
+      }
+    }
+    return positions;
+  }
+
+  private static Result searchAll(List<ReversiModel> positions, long budgetMillis, int maxDepth,
+                                  int threads) {
+    Result result = new Result();
+    for (ReversiModel position : positions) {
+      Player player = position.getPlayer();
+      AlphaBetaStrategySummarizer search =
+          new AlphaBetaStrategySummarizer(player, budgetMillis, maxDepth, threads);
+      long start = System.nanoTime();
+      search.apply(position.getHexPlane());
+      result.seconds += (System.nanoTime() - start) / 1e9;
+      result.nodes += search.getLastNodes();
+      result.totalDepth += search.getLastDepth();
+      result.minDepth = Math.min(result.minDepth, search.getLastDepth());
+    }
+    return result;
+  }
+
+  private static final class Result {
+    private double seconds;
+    private long nodes;
+    private int totalDepth;
+    private int minDepth = Integer.MAX_VALUE;
+  }
+}
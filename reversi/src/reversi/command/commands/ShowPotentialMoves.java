@@ -11,7 +11,6 @@ import reversi.command.UnifiedCommand;
 import reversi.command.ViewCommand;
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
-import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
 import reversi.model.ReadOnlyReversiModel;
 import reversi.view.ReversiView;
 
@@ -50,9 +49,7 @@ public class ShowPotentialMoves implements ViewCommand {
   public void performViewCommand(ReversiView view, ReadOnlyReversiModel<Player> model)
       throws NullPointerException {
     view.clearHighlights();
-    for (HexPlaneCoord coord :
-        new PlayerPossibleMovesSummarizer(player)
-            .apply(model.getHexPlane())) {
+    for (HexPlaneCoord coord : model.getPossibleMoves(player)) {
       view.highlightTile(coord);
     }
   }
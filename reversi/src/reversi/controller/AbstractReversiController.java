@@ -9,7 +9,7 @@ import reversi.command.ViewCommand;
 import reversi.command.commands.Pass;
 import reversi.controller.agent.AbsoluteAgent;
 import reversi.exceptions.IllegalCommandException;
-import reversi.hex.summarizer.reversiinfo.IsGameOverSummarizer;
+import reversi.hex.summarizer.strategy.Deadline;
 import reversi.model.MutableReversiModel;
 import reversi.view.ReversiView;
 
@@ -24,6 +24,7 @@ public abstract class AbstractReversiController implements ReversiController {
   protected final AbsoluteAgent agent2;
   protected final ReversiView view1;
   protected final ReversiView view2;
+  private long moveTimeLimit;
 
   /**
    * Superclass constructor for Controllers. The Agents are required for obvious reasons, but the
@@ -47,6 +48,26 @@ public abstract class AbstractReversiController implements ReversiController {
     this.view1 = Objects.requireNonNull(view1);
     this.view2 = Objects.requireNonNull(view2);
     this.model = Objects.requireNonNull(model);
+    this.moveTimeLimit = -1;
+  }
+
+  /**
+   * Set how long an agent may take to choose each move. Agents that search for their move stop
+   * once the time is up and play the best move found so far. By default, there is no limit.
+   *
+   * @param millis the time limit, in milliseconds, or a negative number for no limit
+   */
+  public void setMoveTimeLimit(long millis) {
+    this.moveTimeLimit = millis;
+  }
+
+  /**
+   * Get the deadline of a move requested now, according to the time limit.
+   *
+   * @return a new deadline
+   */
+  protected final Deadline newDeadline() {
+    return moveTimeLimit < 0 ? Deadline.none() : Deadline.after(moveTimeLimit);
   }
 
   @Override
@@ -57,7 +78,7 @@ public abstract class AbstractReversiController implements ReversiController {
 
   @Override
   public boolean isGameOver() {
-    return new IsGameOverSummarizer().apply(model.getHexPlane());
+    return !(model.hasLegalMoves(Player.PLAYER1) || model.hasLegalMoves(Player.PLAYER2));
   }
 
   @Override
@@ -119,7 +140,26 @@ public abstract class AbstractReversiController implements ReversiController {
    * @return true iff a command was performed
    */
   protected final boolean performCommands(AbsoluteAgent agent, ReversiView view) {
-    UnifiedCommand cmd = getAgentCommand(agent, view);
+    try {
+      return performCommand(agent, view, getAgentCommand(agent, view));
+    } catch (IllegalCommandException e) {
+      // the agent acted on its turn, even though the model rejected it
+      return true;
+    }
+  }
+
+  /**
+   * Perform a command an Agent has chosen. If the model rejects it, the error is shown on the view,
+   * and the view command, if any, is still performed before the error is thrown.
+   *
+   * @param agent the agent that chose the command
+   * @param view  the view to apply the command to
+   * @param cmd   the command
+   * @return true iff a command was performed
+   * @throws IllegalCommandException if the model rejected the model command
+   */
+  protected final boolean performCommand(AbsoluteAgent agent, ReversiView view,
+                                         UnifiedCommand cmd) throws IllegalCommandException {
     Optional<ViewCommand> viewCmd = cmd.getViewCommand();
     Optional<ModelCommand> modelCmd = cmd.getModelCommand();
     boolean isMyTurn = model.getPlayer() == agent.getPlayer();
@@ -128,14 +168,19 @@ public abstract class AbstractReversiController implements ReversiController {
         && (viewCmd.isPresent()
         || (modelCmd.isPresent() && !modelCmd.get().equals(new Pass())));
 
+    IllegalCommandException rejected = null;
     if (modelCmd.isPresent() && isMyTurn) {
       try {
         modelCmd.get().runCommandAs(model, agent.getPlayer());
       } catch (IllegalCommandException e) {
         view.showErrorMessage(e.getMessage());
+        rejected = e;
       }
     }
     viewCmd.ifPresent(viewCommand -> viewCommand.performViewCommand(view, model));
+    if (rejected != null) {
+      throw rejected;
+    }
     return performedCommand;
   }
 
@@ -143,7 +188,7 @@ public abstract class AbstractReversiController implements ReversiController {
     UnifiedCommand retCmd = null;
     while (retCmd == null) {
       try {
-        retCmd = agent.getAndResetCommand();
+        retCmd = agent.getAndResetCommand(newDeadline());
       } catch (RuntimeException e) {
         System.err.println(e.getMessage());
         view.showErrorMessage(e.getMessage());
@@ -1,6 +1,19 @@
 package reversi.controller;
 
+import java.awt.EventQueue;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import reversi.command.UnifiedCommand;
 import reversi.controller.agent.AbsoluteAgent;
+import reversi.exceptions.IllegalCommandException;
 import reversi.model.MutableReversiModel;
 import reversi.view.ReversiView;
 
@@ -9,8 +22,44 @@ import reversi.view.ReversiView;
  * TUIs, where the players share different views. Usually the players will have their own views to
  * play the game on, unless it's an AI. AI can optionally choose to visualize their actions using an
  * Agent which decorates it.
+ *
+ * <p>The controller only does work when something happens: a player acts through their view, or
+ * an agent answers. It then handles each new state of the game once, rendering the views, checking
+ * whether the game is over, and giving each agent one chance to act on it, until the game stops
+ * changing. Agents are not asked again about a state they have already answered for, unless their
+ * request failed or the model rejected their answer: they are then asked again right away a few
+ * times, and after that whenever something else happens.
+ *
+ * <p>Agents that think about their move (see
+ * {@link AbsoluteAgent#requestCommand(reversi.hex.summarizer.strategy.Deadline, Executor)}) do so
+ * on threads of their own, so a slow AI never blocks the views. Their answers are handled on the
+ * event executor, which should be the single thread the views handle their input on. An answer
+ * about a state that is no longer current is dropped, and a request that is still running when the
+ * game moves on is cancelled.
  */
 public class AsynchronousReversiController extends AbstractReversiController {
+  // how many times in a row an agent is asked again right away after failing to answer
+  private static final int MAX_RETRIES = 3;
+
+  private final ExecutorService agentThreads;
+  private final Executor events;
+  // the request each thinking agent is working on, and the version it was last asked about
+  private final Map<AbsoluteAgent, CompletableFuture<UnifiedCommand>> requests;
+  private final Map<AbsoluteAgent, Integer> askedAt;
+  // how many times in a row each agent failed to give an answer the model accepted
+  private final Map<AbsoluteAgent, Integer> failures;
+  // the game as last seen, and how many times it was seen to change
+  private int seenTurn;
+  private long seenHash;
+  private int version;
+  // the last version rendered and checked for the end of the game
+  private int handledVersion;
+  private boolean gameOver;
+  // whether a view command has changed what the views show since they were last rendered
+  private boolean viewsDirty;
+  // whether an agent failed and should be asked again before waiting for the next event
+  private boolean retry;
+
   /**
    * Superclass constructor for Controllers. The Agents are required for obvious reasons, but the
    * Views are more complex. The subclass needn't require the View for its constructor, but should
@@ -29,7 +78,40 @@ public class AsynchronousReversiController extends AbstractReversiController {
                                        ReversiView view1,
                                        ReversiView view2,
                                        MutableReversiModel model) {
+    this(agent1, agent2, view1, view2, model, EventQueue::invokeLater);
+  }
+
+  /**
+   * Create a new {@link AsynchronousReversiController} that performs the commands of agents that
+   * think about their move on the given executor. This should be the thread the views handle their
+   * input on; by default, it is the Swing event dispatch thread.
+   *
+   * @param agent1 the agent for the first player
+   * @param agent2 the agent for the second player
+   * @param view1  the view for the first player
+   * @param view2  the view for the second player
+   * @param model  the model to use to play the game
+   * @param events the executor to perform the commands of thinking agents on
+   * @throws NullPointerException if any argument is null
+   */
+  public AsynchronousReversiController(AbsoluteAgent agent1,
+                                       AbsoluteAgent agent2,
+                                       ReversiView view1,
+                                       ReversiView view2,
+                                       MutableReversiModel model,
+                                       Executor events) {
     super(agent1, agent2, view1, view2, model);
+    this.events = Objects.requireNonNull(events);
+    this.agentThreads = Executors.newCachedThreadPool(task -> {
+      // daemon threads, so that closing the views ends the program even while an AI thinks
+      Thread thread = new Thread(task, "reversi-agent");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.requests = new IdentityHashMap<>();
+    this.askedAt = new IdentityHashMap<>();
+    this.failures = new IdentityHashMap<>();
+    this.handledVersion = -1;
     ControllerCallback p1Callback = new ControllerCallbackImpl(this, view1, agent1.getPlayer());
     ControllerCallback p2Callback = new ControllerCallbackImpl(this, view2, agent2.getPlayer());
     view1.setControllerCallback(p1Callback);
@@ -37,20 +119,140 @@ public class AsynchronousReversiController extends AbstractReversiController {
   }
 
   @Override
-  protected void pollAgents() {
-    // while there are commands being performed, continue to check. Only when commands are finished
-    // should we stop checking. Render the view between each invocation as an extra precaution
-    boolean performedCommand = true;
-    while (performedCommand) {
-      performedCommand = performCommands(agent1, view1);
-      performedCommand = performCommands(agent2, view2) || performedCommand;
-      renderViews();
-    }
-    if (isGameOver()) {
-      view1.gameEnd();
-      if (view1 != view2) {
-        view2.gameEnd();
+  public void startGame() {
+    // the first pass of pollAgents() renders the game
+    pollAgents();
+  }
+
+  @Override
+  public void accept(UnifiedCommand command, Player player) throws NullPointerException {
+    if (command.getViewCommand().isPresent()) {
+      viewsDirty = true;
+    }
+    super.accept(command, player);
+  }
+
+  @Override
+  protected synchronized void pollAgents() {
+    // handle every state the game passes through once, until it stops changing
+    do {
+      retry = false;
+      int current = observe();
+      if (current != handledVersion) {
+        handledVersion = current;
+        viewsDirty = false;
+        renderViews();
+        gameOver = isGameOver();
+        if (gameOver) {
+          endGame();
+        }
+      } else if (viewsDirty) {
+        viewsDirty = false;
+        renderViews();
+      }
+      if (!gameOver) {
+        pollAgent(agent1, view1);
+        pollAgent(agent2, view2);
       }
+    } while (observe() != handledVersion || viewsDirty || retry);
+  }
+
+  /**
+   * Find the current version of the game, which changes whenever a move, pass or undo does.
+   *
+   * @return the version
+   */
+  private int observe() {
+    int turn = model.getTurnCount();
+    long hash = model.getPositionHash();
+    if (turn != seenTurn || hash != seenHash) {
+      seenTurn = turn;
+      seenHash = hash;
+      version++;
+    }
+    return version;
+  }
+
+  private void endGame() {
+    for (CompletableFuture<UnifiedCommand> request : requests.values()) {
+      request.cancel(true);
+    }
+    requests.clear();
+    view1.gameEnd();
+    if (view1 != view2) {
+      view2.gameEnd();
+    }
+  }
+
+  /**
+   * Perform an Agent's command if it has one ready for the current version of the game, or else
+   * ask for one if it has not been asked yet, without waiting for a thinking agent to answer.
+   *
+   * @param agent the agent to perform the command of
+   * @param view  the view to apply the command to
+   */
+  private void pollAgent(AbsoluteAgent agent, ReversiView view) {
+    int current = observe();
+    boolean askedAboutCurrent = askedAt.getOrDefault(agent, -1) == current;
+    CompletableFuture<UnifiedCommand> request = requests.get(agent);
+    if (request != null && !askedAboutCurrent) {
+      // the game moved on (e.g. by an undo) while the agent was thinking
+      requests.remove(agent);
+      request.cancel(true);
+      request = null;
+    }
+    if (request == null) {
+      if (askedAboutCurrent) {
+        // the agent already answered for this version
+        return;
+      }
+      askedAt.put(agent, current);
+      request = agent.requestCommand(newDeadline(), agentThreads);
+      if (!request.isDone()) {
+        CompletableFuture<UnifiedCommand> thinking = request;
+        requests.put(agent, thinking);
+        thinking.whenCompleteAsync((command, error) -> {
+          if (!thinking.isCancelled()) {
+            pollAgents();
+          }
+        }, events);
+        return;
+      }
+    } else if (!request.isDone()) {
+      return;
+    } else {
+      requests.remove(agent);
+    }
+
+    try {
+      UnifiedCommand command = request.join();
+      if (command.getViewCommand().isPresent()) {
+        viewsDirty = true;
+      }
+      performCommand(agent, view, command);
+      failures.remove(agent);
+    } catch (IllegalCommandException e) {
+      // the view was already shown the error
+      askAgain(agent);
+    } catch (CancellationException | CompletionException e) {
+      String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+      System.err.println(message);
+      view.showErrorMessage(message);
+      askAgain(agent);
+    }
+  }
+
+  /**
+   * Forget that an Agent was asked about the current version of the game, after it failed to give
+   * an answer the model accepts, so that it is asked again. It is asked again right away
+   * {@link #MAX_RETRIES} times in a row, and after that only when something else happens.
+   *
+   * @param agent the agent that failed
+   */
+  private void askAgain(AbsoluteAgent agent) {
+    askedAt.remove(agent);
+    if (failures.merge(agent, 1, Integer::sum) <= MAX_RETRIES) {
+      retry = true;
     }
   }
 }
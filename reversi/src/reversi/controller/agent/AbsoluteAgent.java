@@ -1,6 +1,11 @@
 package reversi.controller.agent;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import reversi.command.UnifiedCommand;
+import reversi.hex.summarizer.strategy.Deadline;
 
 /**
  * An {@link AbsoluteAgent} is an {@link Agent} that always returns a value. For example, a player
@@ -10,4 +15,67 @@ import reversi.command.UnifiedCommand;
  * @see Agent
  */
 public interface AbsoluteAgent extends Agent<UnifiedCommand> {
+
+  /**
+   * Returns the command this agent currently has queued, as {@link #getAndResetCommand()} does,
+   * but answers by the given deadline. Agents that search for their move stop searching once the
+   * deadline expires and return the best command found so far. By default, the deadline is
+   * ignored.
+   *
+   * @param deadline the time by which to answer
+   * @return the Agent's queued command
+   * @throws NullPointerException if the deadline is null
+   */
+  default UnifiedCommand getAndResetCommand(Deadline deadline) {
+    Objects.requireNonNull(deadline);
+    return getAndResetCommand();
+  }
+
+  /**
+   * Ask this agent for its command without waiting for it. The returned future completes with the
+   * command of {@link #getAndResetCommand(Deadline)}, or with the exception it threw. Cancelling
+   * the future cancels the deadline, so that an agent searching for its move stops soon after.
+   *
+   * <p>By default, the command is found on the calling thread and the future is already complete,
+   * which suits agents that answer at once, such as players whose input is queued by their view.
+   * Agents that think about their move should instead find it on the given executor, usually
+   * with {@link #requestOn(AbsoluteAgent, Deadline, Executor)}.
+   *
+   * @param deadline the time by which to answer
+   * @param executor the executor to think on
+   * @return the future command
+   * @throws NullPointerException if any argument is null
+   */
+  default CompletableFuture<UnifiedCommand> requestCommand(Deadline deadline, Executor executor) {
+    Objects.requireNonNull(executor);
+    try {
+      return CompletableFuture.completedFuture(getAndResetCommand(deadline));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Find an agent's command on the given executor. Cancelling the returned future cancels the
+   * deadline.
+   *
+   * @param agent    the agent to ask
+   * @param deadline the time by which to answer
+   * @param executor the executor to think on
+   * @return the future command
+   * @throws NullPointerException if any argument is null
+   */
+  static CompletableFuture<UnifiedCommand> requestOn(AbsoluteAgent agent, Deadline deadline,
+                                                    Executor executor) {
+    Objects.requireNonNull(agent);
+    Objects.requireNonNull(deadline);
+    CompletableFuture<UnifiedCommand> command =
+        CompletableFuture.supplyAsync(() -> agent.getAndResetCommand(deadline), executor);
+    command.whenComplete((result, error) -> {
+      if (command.isCancelled()) {
+        deadline.cancel();
+      }
+    });
+    return command;
+  }
 }
@@ -2,6 +2,7 @@ package reversi.controller.agent;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import reversi.command.UnifiedCommand;
@@ -9,12 +10,19 @@ import reversi.command.commands.Move;
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.summarizer.HexPlaneSummarizer;
+import reversi.hex.summarizer.strategy.AnytimeStrategySummarizer;
+import reversi.hex.summarizer.strategy.Deadline;
 import reversi.model.ReadOnlyReversiModel;
 
 /**
  * An Agent useful for AI. Uses a specific Strategy to choose a move. Any AI <b>must</b> inherit
  * this class. Correct behavior is not guaranteed otherwise. Notably, AI must not request the view
  * be shown.
+ *
+ * <p>Given a deadline (see {@link #getFirstCommand(Deadline)}), an AI whose strategy is an
+ * {@link AnytimeStrategySummarizer} stops searching once the deadline expires. An AI asked for its
+ * move by deadline on the other player's turn has none, rather than searching a position it cannot
+ * play.
  */
 public abstract class AbstractAIAgent implements MaybeAgent {
   protected final Player player;
@@ -47,6 +55,20 @@ public abstract class AbstractAIAgent implements MaybeAgent {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Optional<UnifiedCommand> getFirstCommand(Deadline deadline) {
+    Objects.requireNonNull(deadline);
+    if (model.getPlayer() != player) {
+      return Optional.empty();
+    }
+    if (!(strategy instanceof AnytimeStrategySummarizer)) {
+      return getFirstCommand();
+    }
+    return ((AnytimeStrategySummarizer) strategy).apply(model.getHexPlane(), deadline).stream()
+        .findFirst()
+        .map(coord -> new UnifiedCommand(new Move(coord)));
+  }
+
   @Override
   public final boolean viewIsVisible() {
     return false;
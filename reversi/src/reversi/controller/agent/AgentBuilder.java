@@ -2,11 +2,15 @@ package reversi.controller.agent;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import reversi.command.UnifiedCommand;
 import reversi.command.commands.Pass;
 import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.Deadline;
 
 /**
  * A Builder for {@link Agent}s. Optional-returning agents are stacked upon one another until a
@@ -70,6 +74,24 @@ public final class AgentBuilder {
           return primCmd;
         }
 
+        @Override
+        public Optional<UnifiedCommand> getFirstCommand() {
+          Optional<UnifiedCommand> primCmd = primary.getFirstCommand();
+          if (primCmd.isEmpty()) {
+            return secondary.getFirstCommand();
+          }
+          return primCmd;
+        }
+
+        @Override
+        public Optional<UnifiedCommand> getFirstCommand(Deadline deadline) {
+          Optional<UnifiedCommand> primCmd = primary.getFirstCommand(deadline);
+          if (primCmd.isEmpty()) {
+            return secondary.getFirstCommand(deadline);
+          }
+          return primCmd;
+        }
+
         @Override
         public boolean viewIsVisible() {
           return primary.viewIsVisible();
@@ -134,8 +156,9 @@ public final class AgentBuilder {
     }
 
     /**
-     * Finalize the {@link MaybeAgentBuilder} by returning an Agent that will throw should no move
-     * options be available. This is a terminal operation.
+     * Finalize the {@link MaybeAgentBuilder} by returning an Agent that will pass should no move
+     * options be available. This is a terminal operation. The Agent thinks about its move on the
+     * executor given to {@link AbsoluteAgent#requestCommand(Deadline, Executor)}.
      *
      * @return a {@link FinalizedAgentBuilder}
      */
@@ -149,11 +172,18 @@ public final class AgentBuilder {
 
         @Override
         public UnifiedCommand getAndResetCommand() {
-          List<UnifiedCommand> command = agent.getAndResetCommand();
-          if (command.isEmpty()) {
-            return new UnifiedCommand(new Pass());
-          }
-          return command.get(0);
+          return agent.getFirstCommand().orElseGet(() -> new UnifiedCommand(new Pass()));
+        }
+
+        @Override
+        public UnifiedCommand getAndResetCommand(Deadline deadline) {
+          return agent.getFirstCommand(deadline).orElseGet(() -> new UnifiedCommand(new Pass()));
+        }
+
+        @Override
+        public CompletableFuture<UnifiedCommand> requestCommand(Deadline deadline,
+                                                               Executor executor) {
+          return AbsoluteAgent.requestOn(this, deadline, executor);
         }
 
         @Override
@@ -0,0 +1,57 @@
+package reversi.controller.agent;
+
+import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.AlphaBetaStrategySummarizer;
+import reversi.model.ReadOnlyReversiModel;
+
+/**
+ * A searching agent. It looks several moves ahead with an iterative-deepening alpha-beta search
+ * (see {@link AlphaBetaStrategySummarizer}) and plays the best move found within its time budget.
+ */
+public class AlphaBetaAIAgent extends AbstractAIAgent {
+  /**
+   * The time budget, in milliseconds, used when none is given.
+   */
+  public static final long DEFAULT_BUDGET_MILLIS = 1000;
+  private static final int MAX_DEPTH = 64;
+
+  /**
+   * Create a new {@link AlphaBetaAIAgent} given the player the agent belongs to and a reference to
+   * the model. It searches for {@link #DEFAULT_BUDGET_MILLIS} per move.
+   *
+   * @param player the player this Agent should play as
+   * @param model  the model representing the board state
+   */
+  public AlphaBetaAIAgent(Player player, ReadOnlyReversiModel<Player> model) {
+    this(player, model, DEFAULT_BUDGET_MILLIS);
+  }
+
+  /**
+   * Create a new {@link AlphaBetaAIAgent} given the player the agent belongs to, a reference to
+   * the model, and how long it may search for each move. It searches on a single thread.
+   *
+   * @param player       the player this Agent should play as
+   * @param model        the model representing the board state
+   * @param budgetMillis the time, in milliseconds, to search for each move
+   * @throws IllegalArgumentException if the budget is negative
+   */
+  public AlphaBetaAIAgent(Player player, ReadOnlyReversiModel<Player> model, long budgetMillis) {
+    this(player, model, budgetMillis, 1);
+  }
+
+  /**
+   * Create a new {@link AlphaBetaAIAgent} given the player the agent belongs to, a reference to
+   * the model, how long it may search for each move, and how many threads it may search with.
+   *
+   * @param player       the player this Agent should play as
+   * @param model        the model representing the board state
+   * @param budgetMillis the time, in milliseconds, to search for each move
+   * @param threads      the number of threads to search with
+   * @throws IllegalArgumentException if the budget is negative or threads is less than 1
+   */
+  public AlphaBetaAIAgent(Player player, ReadOnlyReversiModel<Player> model, long budgetMillis,
+                          int threads) {
+    super(player, model,
+        new AlphaBetaStrategySummarizer(player, budgetMillis, MAX_DEPTH, threads));
+  }
+}
@@ -0,0 +1,45 @@
+package reversi.controller.agent;
+
+import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.EndgameStrategySummarizer;
+import reversi.model.ReadOnlyReversiModel;
+
+/**
+ * An agent that plays the end of the game perfectly (see {@link EndgameStrategySummarizer}). It
+ * only returns a move once the board has few enough empty cells and it has found the best move
+ * within its time budget, so it should be followed by another agent with
+ * {@link AgentBuilder.MaybeAgentBuilder#andThen(MaybeAgent)}.
+ */
+public class EndgameAIAgent extends AbstractAIAgent {
+  /**
+   * The most empty cells a board may have for the search to be tried, used when none is given.
+   */
+  public static final int DEFAULT_MAX_EMPTIES = 24;
+
+  /**
+   * Create a new {@link EndgameAIAgent} given the player the agent belongs to and a reference to
+   * the model. It tries boards with at most {@link #DEFAULT_MAX_EMPTIES} empty cells, for at most
+   * {@link AlphaBetaAIAgent#DEFAULT_BUDGET_MILLIS} per move.
+   *
+   * @param player the player this Agent should play as
+   * @param model  the model representing the board state
+   */
+  public EndgameAIAgent(Player player, ReadOnlyReversiModel<Player> model) {
+    this(player, model, DEFAULT_MAX_EMPTIES, AlphaBetaAIAgent.DEFAULT_BUDGET_MILLIS);
+  }
+
+  /**
+   * Create a new {@link EndgameAIAgent} given the player the agent belongs to, a reference to the
+   * model, the most empty cells it will try to solve, and how long it may search for each move.
+   *
+   * @param player       the player this Agent should play as
+   * @param model        the model representing the board state
+   * @param maxEmpties   the most empty cells a board may have for the search to be tried
+   * @param budgetMillis the time, in milliseconds, to search for each move before giving up
+   * @throws IllegalArgumentException if maxEmpties or the budget is negative
+   */
+  public EndgameAIAgent(Player player, ReadOnlyReversiModel<Player> model, int maxEmpties,
+                        long budgetMillis) {
+    super(player, model, new EndgameStrategySummarizer(player, maxEmpties, budgetMillis));
+  }
+}
@@ -1,8 +1,11 @@
 package reversi.controller.agent;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 import reversi.command.UnifiedCommand;
+import reversi.hex.summarizer.strategy.Deadline;
 
 /**
  * A {@link MaybeAgent} represents a strategy to generate a Reversi move. The strategy may fail, in
@@ -12,4 +15,29 @@ import reversi.command.UnifiedCommand;
  * @see Agent
  */
 public interface MaybeAgent extends Agent<List<UnifiedCommand>> {
+
+  /**
+   * Returns only the most preferred command this agent has queued, if any. This is the same as the
+   * first element of {@link #getAndResetCommand()}, but implementations may stop as soon as that
+   * command is known instead of producing every option.
+   *
+   * @return the Agent's most preferred command, or empty if it has none
+   */
+  default Optional<UnifiedCommand> getFirstCommand() {
+    return getAndResetCommand().stream().findFirst();
+  }
+
+  /**
+   * Returns the most preferred command as {@link #getFirstCommand()} does, but answers by the given
+   * deadline. Agents that search for their move stop searching once the deadline expires and
+   * return the best command found so far. By default, the deadline is ignored.
+   *
+   * @param deadline the time by which to answer
+   * @return the Agent's most preferred command, or empty if it has none
+   * @throws NullPointerException if the deadline is null
+   */
+  default Optional<UnifiedCommand> getFirstCommand(Deadline deadline) {
+    Objects.requireNonNull(deadline);
+    return getFirstCommand();
+  }
 }
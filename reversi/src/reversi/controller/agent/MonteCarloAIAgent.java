@@ -0,0 +1,54 @@
+package reversi.controller.agent;
+
+import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.MonteCarloStrategySummarizer;
+import reversi.model.ReadOnlyReversiModel;
+
+/**
+ * An agent that plays by Monte Carlo tree search (see {@link MonteCarloStrategySummarizer}). It
+ * plays as many random games as it can within its time budget, so it plays better the longer it is
+ * given and the more threads it may use.
+ */
+public class MonteCarloAIAgent extends AbstractAIAgent {
+  private final MonteCarloStrategySummarizer search;
+
+  /**
+   * Create a new {@link MonteCarloAIAgent} given the player the agent belongs to and a reference to
+   * the model. It searches on a single thread for {@link AlphaBetaAIAgent#DEFAULT_BUDGET_MILLIS}
+   * per move.
+   *
+   * @param player the player this Agent should play as
+   * @param model  the model representing the board state
+   */
+  public MonteCarloAIAgent(Player player, ReadOnlyReversiModel<Player> model) {
+    this(player, model, AlphaBetaAIAgent.DEFAULT_BUDGET_MILLIS, 1);
+  }
+
+  /**
+   * Create a new {@link MonteCarloAIAgent} given the player the agent belongs to, a reference to
+   * the model, how long it may search for each move, and how many threads it may search with.
+   *
+   * @param player       the player this Agent should play as
+   * @param model        the model representing the board state
+   * @param budgetMillis the time, in milliseconds, to search for each move
+   * @param threads      the number of threads to search with
+   * @throws IllegalArgumentException if the budget is negative or threads is less than 1
+   */
+  public MonteCarloAIAgent(Player player, ReadOnlyReversiModel<Player> model, long budgetMillis,
+                           int threads) {
+    this(player, model, new MonteCarloStrategySummarizer(player, budgetMillis, threads));
+  }
+
+  private MonteCarloAIAgent(Player player, ReadOnlyReversiModel<Player> model,
+                            MonteCarloStrategySummarizer search) {
+    super(player, model, search);
+    this.search = search;
+  }
+
+  /**
+   * Gets the number of random games played per second while choosing the last move.
+   */
+  public double getPlayoutsPerSecond() {
+    return search.getLastPlayoutsPerSecond();
+  }
+}
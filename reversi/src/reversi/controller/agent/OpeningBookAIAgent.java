@@ -0,0 +1,27 @@
+package reversi.controller.agent;
+
+import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.OpeningBook;
+import reversi.hex.summarizer.strategy.OpeningBookStrategySummarizer;
+import reversi.model.ReadOnlyReversiModel;
+
+/**
+ * An agent that plays the first moves of a game from an {@link OpeningBook} (see
+ * {@link OpeningBookStrategySummarizer}). It returns no move once the game has left the book, so
+ * it should be followed by another agent with
+ * {@link AgentBuilder.MaybeAgentBuilder#andThen(MaybeAgent)}.
+ */
+public class OpeningBookAIAgent extends AbstractAIAgent {
+  /**
+   * Create a new {@link OpeningBookAIAgent} given the player the agent belongs to, a reference to
+   * the model, and the book to look moves up in.
+   *
+   * @param player the player this Agent should play as
+   * @param model  the model representing the board state
+   * @param book   the opening book
+   * @throws NullPointerException if any argument is null
+   */
+  public OpeningBookAIAgent(Player player, ReadOnlyReversiModel<Player> model, OpeningBook book) {
+    super(player, model, new OpeningBookStrategySummarizer(player, book));
+  }
+}
@@ -0,0 +1,27 @@
+package reversi.controller.agent;
+
+import reversi.controller.Player;
+import reversi.hex.summarizer.strategy.Tablebase;
+import reversi.hex.summarizer.strategy.TablebaseStrategySummarizer;
+import reversi.model.ReadOnlyReversiModel;
+
+/**
+ * An agent that plays perfectly on boards small enough to have been solved completely (see
+ * {@link TablebaseStrategySummarizer}). It returns no move on boards of any other size, so it
+ * should be followed by another agent with
+ * {@link AgentBuilder.MaybeAgentBuilder#andThen(MaybeAgent)}.
+ */
+public class TablebaseAIAgent extends AbstractAIAgent {
+  /**
+   * Create a new {@link TablebaseAIAgent} given the player the agent belongs to, a reference to the
+   * model, and the tablebase to look moves up in.
+   *
+   * @param player    the player this Agent should play as
+   * @param model     the model representing the board state
+   * @param tablebase the solved positions
+   * @throws NullPointerException if any argument is null
+   */
+  public TablebaseAIAgent(Player player, ReadOnlyReversiModel<Player> model, Tablebase tablebase) {
+    super(player, model, new TablebaseStrategySummarizer(player, tablebase));
+  }
+}
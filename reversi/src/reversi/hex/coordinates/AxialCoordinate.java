@@ -1,7 +1,5 @@
 package reversi.hex.coordinates;
 
-import java.util.Objects;
-
 /**
  * An AxialCoordinate is a means of indexing onto a diamond-oriented grid of hexagons. It takes two
  * axis instead of the three of {@link CubicalCoordinate}. Please see
@@ -56,7 +54,8 @@ public final class AxialCoordinate implements HexPlaneCoord {
 
   @Override
   public int hashCode() {
-    return Objects.hash(getQ(), getR(), getS());
+    // same value as Objects.hash(q, r, s), without boxing
+    return 31 * (31 * (31 + q) + r) + s;
   }
 
   @Override
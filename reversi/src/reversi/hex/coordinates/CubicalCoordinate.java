@@ -1,7 +1,5 @@
 package reversi.hex.coordinates;
 
-import java.util.Objects;
-
 /**
  * An CubicalCoordinate is a means of indexing onto a diamond-oriented grid of hexagons. It takes
  * three axis instead of the two of {@link AxialCoordinate}. Please see
@@ -61,7 +59,8 @@ public final class CubicalCoordinate implements HexPlaneCoord {
 
   @Override
   public int hashCode() {
-    return Objects.hash(getQ(), getR(), getS());
+    // same value as Objects.hash(q, r, s), without boxing
+    return 31 * (31 * (31 + q) + r) + s;
   }
 
   @Override
@@ -0,0 +1,188 @@
+package reversi.hex.coordinates;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A HexCoordTable describes every cell of a hexagonal plane of a given radius. It hands out a
+ * single, shared {@link HexPlaneCoord} instance per cell, maps each cell to a dense index (and
+ * back) in constant time, and stores the index of the six neighbors of every cell. Tables are
+ * immutable and shared; obtain one with {@link #forRadius(int)}.
+ *
+ * <p>Cells are indexed row by row, from the topmost {@code r} to the bottommost, and left to right
+ * along {@code q} within a row. Directions are numbered so that {@code direction ^ 1} is always the
+ * opposite direction.
+ */
+public final class HexCoordTable {
+  /**
+   * The number of directions (i.e. neighbors) of a cell.
+   */
+  public static final int DIRECTIONS = 6;
+
+  private static final int[] DELTA_Q = {1, -1, 1, -1, 0, 0};
+  private static final int[] DELTA_R = {-1, 1, 0, 0, 1, -1};
+  private static final Map<Integer, HexCoordTable> TABLES = new ConcurrentHashMap<>();
+
+  private final int radius;
+  // index of the first cell of each row, offset by the radius
+  private final int[] rowStart;
+  private final HexPlaneCoord[] coords;
+  // DIRECTIONS entries per cell, -1 if the neighbor is off of the plane
+  private final int[] neighbors;
+  // indices sorted by q + r, then by r
+  private final int[] diagonalOrder;
+
+  private HexCoordTable(int radius) {
+    this.radius = radius;
+    this.rowStart = new int[2 * radius + 1];
+    int count = 0;
+    for (int r = -radius; r <= radius; r++) {
+      rowStart[r + radius] = count;
+      count += 2 * radius + 1 - Math.abs(r);
+    }
+    this.coords = new HexPlaneCoord[count];
+    this.neighbors = new int[count * DIRECTIONS];
+    for (int r = -radius; r <= radius; r++) {
+      for (int q = Math.max(-radius - r, -radius); q <= Math.min(radius - r, radius); q++) {
+        int index = indexOf(q, r);
+        coords[index] = new AxialCoordinate(q, r);
+        for (int dir = 0; dir < DIRECTIONS; dir++) {
+          neighbors[index * DIRECTIONS + dir] = indexOf(q + DELTA_Q[dir], r + DELTA_R[dir]);
+        }
+      }
+    }
+    this.diagonalOrder = new int[count];
+    int pos = 0;
+    for (int sum = -radius; sum <= radius; sum++) {
+      for (int r = Math.max(-radius, sum - radius); r <= Math.min(radius, sum + radius); r++) {
+        diagonalOrder[pos++] = indexOf(sum - r, r);
+      }
+    }
+  }
+
+  /**
+   * Get the table for a plane of the given radius. The radius uses the same convention as
+   * {@link reversi.hex.plane.HexPlane#getRadius()}, so a radius of zero is a single cell.
+   *
+   * @param radius the distance from the center cell to the edge of the plane
+   * @return the shared table for that radius
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public static HexCoordTable forRadius(int radius) {
+    if (radius < 0) {
+      throw new IllegalArgumentException("HexCoordTable: radius may not be negative");
+    }
+    return TABLES.computeIfAbsent(radius, HexCoordTable::new);
+  }
+
+  /**
+   * Gets the radius of the plane this table describes.
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * Gets the number of cells on the plane.
+   */
+  public int size() {
+    return coords.length;
+  }
+
+  /**
+   * Get the dense index of a coordinate.
+   *
+   * @param coord the coordinate to look up
+   * @return the index of the coordinate, or -1 if it is not on the plane
+   * @throws NullPointerException if the coordinate is null
+   */
+  public int indexOf(HexPlaneCoord coord) {
+    Objects.requireNonNull(coord);
+    if (coord.getQ() + coord.getR() + coord.getS() != 0) {
+      return -1;
+    }
+    return indexOf(coord.getQ(), coord.getR());
+  }
+
+  /**
+   * Get the dense index of an axial position.
+   *
+   * @param q the position on the top-left to bottom-right diagonal axis
+   * @param r the position on the horizontal axis
+   * @return the index of the position, or -1 if it is not on the plane
+   */
+  public int indexOf(int q, int r) {
+    if (Math.abs(q) > radius || Math.abs(r) > radius || Math.abs(q + r) > radius) {
+      return -1;
+    }
+    return rowStart[r + radius] + q - Math.max(-radius - r, -radius);
+  }
+
+  /**
+   * Get the shared coordinate instance for an index.
+   *
+   * @param index the dense index of the cell
+   * @return the coordinate of that cell
+   * @throws IndexOutOfBoundsException if the index is not a cell of the plane
+   */
+  public HexPlaneCoord coordAt(int index) {
+    return coords[index];
+  }
+
+  /**
+   * Get the shared instance of a coordinate equal to the given one.
+   *
+   * @param coord the coordinate to intern
+   * @return the shared coordinate equal to {@code coord}
+   * @throws IndexOutOfBoundsException if the coordinate is not on the plane
+   * @throws NullPointerException      if the coordinate is null
+   */
+  public HexPlaneCoord intern(HexPlaneCoord coord) {
+    int index = indexOf(coord);
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("HexCoordTable: coordinate is not on a plane of " +
+          "radius " + radius + ": " + coord);
+    }
+    return coords[index];
+  }
+
+  /**
+   * Get the index of the neighbor of a cell in the given direction.
+   *
+   * @param index     the dense index of the cell
+   * @param direction the direction, from 0 (inclusive) to {@link #DIRECTIONS} (exclusive)
+   * @return the index of the neighbor, or -1 if it is off of the plane
+   */
+  public int neighbor(int index, int direction) {
+    return neighbors[index * DIRECTIONS + direction];
+  }
+
+  /**
+   * Get the index of the cell at a position in diagonal order. Cells are ordered by {@code q + r}
+   * and then by {@code r}, which starts at the uppermost-leftmost cell of the plane; this is the
+   * order moves are listed in.
+   *
+   * @param position the position in diagonal order, from 0 (inclusive) to {@link #size()}
+   *                 (exclusive)
+   * @return the index of the cell at that position
+   * @throws IndexOutOfBoundsException if the position is not less than the size of the plane
+   */
+  public int diagonalOrder(int position) {
+    return diagonalOrder[position];
+  }
+
+  /**
+   * Get the change in {@code q} of taking a step in the given direction.
+   */
+  public static int deltaQ(int direction) {
+    return DELTA_Q[direction];
+  }
+
+  /**
+   * Get the change in {@code r} of taking a step in the given direction.
+   */
+  public static int deltaR(int direction) {
+    return DELTA_R[direction];
+  }
+}
@@ -0,0 +1,159 @@
+package reversi.hex.coordinates;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A HexSymmetry describes the twelve symmetries of a hexagonal plane: the six rotations by a
+ * multiple of 60 degrees about the center cell, each with and without a reflection. The rules of
+ * Reversi do not depend on the orientation of the board, so positions that are images of one
+ * another under a symmetry are equally good for the same player. Symmetries are numbered from 0 to
+ * {@link #COUNT}; symmetry 0 is the identity. Instances are immutable and shared; obtain one with
+ * {@link #forRadius(int)}.
+ *
+ * <p>Symmetry {@code k} (for {@code k < 6}) rotates the plane {@code k} times by 60 degrees, and
+ * symmetry {@code k + 6} reflects the plane by swapping the {@code r} and {@code s} axes before
+ * rotating it {@code k} times.
+ */
+public final class HexSymmetry {
+  /**
+   * The number of symmetries of a hexagonal plane.
+   */
+  public static final int COUNT = 12;
+
+  private static final Map<Integer, HexSymmetry> SYMMETRIES = new ConcurrentHashMap<>();
+
+  private final HexCoordTable table;
+  // the image of cell c under symmetry s is images[s * size + c]
+  private final int[] images;
+  private final int[] inverses;
+
+  private HexSymmetry(HexCoordTable table) {
+    this.table = table;
+    int size = table.size();
+    this.images = new int[COUNT * size];
+    for (int sym = 0; sym < COUNT; sym++) {
+      for (int index = 0; index < size; index++) {
+        HexPlaneCoord coord = table.coordAt(index);
+        int q = coord.getQ();
+        int r = coord.getR();
+        if (sym >= COUNT / 2) {
+          // reflect, swapping r and s
+          r = -q - r;
+        }
+        for (int turn = 0; turn < sym % (COUNT / 2); turn++) {
+          // rotate by 60 degrees: (q, r, s) becomes (-r, -s, -q)
+          int rotatedQ = -r;
+          r = q + r;
+          q = rotatedQ;
+        }
+        images[sym * size + index] = table.indexOf(q, r);
+      }
+    }
+    this.inverses = new int[COUNT];
+    for (int sym = 0; sym < COUNT; sym++) {
+      for (int candidate = 0; candidate < COUNT; candidate++) {
+        if (isInverse(sym, candidate)) {
+          inverses[sym] = candidate;
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the symmetries of a plane of the given radius. The radius uses the same convention as
+   * {@link reversi.hex.plane.HexPlane#getRadius()}.
+   *
+   * @param radius the distance from the center cell to the edge of the plane
+   * @return the shared symmetries for that radius
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public static HexSymmetry forRadius(int radius) {
+    HexCoordTable table = HexCoordTable.forRadius(radius);
+    return SYMMETRIES.computeIfAbsent(radius, r -> new HexSymmetry(table));
+  }
+
+  /**
+   * Gets the {@link HexCoordTable} whose indices these symmetries map.
+   */
+  public HexCoordTable getTable() {
+    return table;
+  }
+
+  /**
+   * Get the image of a cell under a symmetry.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link #COUNT} (exclusive)
+   * @param index    the dense index of the cell
+   * @return the dense index of the cell the symmetry moves it to
+   * @throws IndexOutOfBoundsException if the symmetry or the index is out of range
+   */
+  public int map(int symmetry, int index) {
+    if (index < 0 || index >= table.size()) {
+      throw new IndexOutOfBoundsException("HexSymmetry: no cell with index " + index);
+    }
+    return images[symmetry * table.size() + index];
+  }
+
+  /**
+   * Get the image of a coordinate under a symmetry.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link #COUNT} (exclusive)
+   * @param coord    the coordinate to map
+   * @return the coordinate the symmetry moves it to
+   * @throws IndexOutOfBoundsException if the symmetry is out of range, or the coordinate is not on
+   *                                   the plane
+   * @throws NullPointerException      if the coordinate is null
+   */
+  public HexPlaneCoord map(int symmetry, HexPlaneCoord coord) {
+    int index = table.indexOf(coord);
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("HexSymmetry: coordinate is not on the plane: " + coord);
+    }
+    return table.coordAt(map(symmetry, index));
+  }
+
+  /**
+   * Get the symmetry that undoes the given one, so that
+   * {@code map(inverse(symmetry), map(symmetry, index)) == index} for every cell.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link #COUNT} (exclusive)
+   * @return the inverse symmetry
+   * @throws IndexOutOfBoundsException if the symmetry is out of range
+   */
+  public int inverse(int symmetry) {
+    return inverses[symmetry];
+  }
+
+  /**
+   * Get the image of a set of cells under a symmetry. The set is a bitset over cell indices, as
+   * used by {@link reversi.hex.plane.CompactBoard}.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link #COUNT} (exclusive)
+   * @param cells    the bitset of cells to map
+   * @return a new bitset of the images of the cells
+   * @throws IndexOutOfBoundsException if the symmetry is out of range, or a cell is not on the
+   *                                   plane
+   */
+  public long[] map(int symmetry, long[] cells) {
+    long[] mapped = new long[cells.length];
+    for (int word = 0; word < cells.length; word++) {
+      long bits = cells[word];
+      while (bits != 0) {
+        int image = map(symmetry, word << 6 | Long.numberOfTrailingZeros(bits));
+        mapped[image >>> 6] |= 1L << image;
+        bits &= bits - 1;
+      }
+    }
+    return mapped;
+  }
+
+  private boolean isInverse(int symmetry, int candidate) {
+    for (int index = 0; index < table.size(); index++) {
+      if (map(candidate, map(symmetry, index)) != index) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,636 @@
+package reversi.hex.plane;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.coordinates.HexSymmetry;
+
+/**
+ * A BitboardHexPlane is a {@link HexPlane} specialized for {@link Player}s. Instead of storing a
+ * boxed entry per cell, every cell is given a dense index by the plane's {@link HexCoordTable} and
+ * the owner of each cell is kept in one bitset per player. Reading a cell is an index computation
+ * and a bit test.
+ *
+ * <p>The {@link Map} returned by {@link #getPlane()} is a live view over the bitsets, so it
+ * honors the same contract as {@link HexPlaneImpl}: changes made through the map are reflected on
+ * the plane and vice versa. The key set of the plane is fixed by its radius; keys outside of the
+ * plane cannot be added and no key can be removed.
+ *
+ * <p>{@link #snapshot()} takes a copy in constant time by sharing the bitsets between both planes;
+ * whichever plane is written to first copies them at that point.
+ *
+ * <p>Besides its own Zobrist hash, the plane keeps the hash of its image under each of its
+ * {@link HexSymmetry}s, so that positions that are rotations or reflections of one another can
+ * share entries in caches and books (see {@link #canonicalHash()} and
+ * {@link #canonicalSymmetry()}).
+ */
+public final class BitboardHexPlane implements HexPlane<Player> {
+  private static final Optional<Player> EMPTY = Optional.empty();
+  private static final Optional<Player> PLAYER1 = Optional.of(Player.PLAYER1);
+  private static final Optional<Player> PLAYER2 = Optional.of(Player.PLAYER2);
+
+  private final HexCoordTable table;
+  private long[] player1;
+  private long[] player2;
+  private int count1;
+  private int count2;
+  private final ZobristKeys keys;
+  // the Zobrist hash of the image of the plane under each symmetry, the first being the identity
+  private long[] hashes;
+  // true if the bitsets may be shared with a snapshot, and must be copied before a write
+  private boolean shared;
+
+  /**
+   * Create a new, empty BitboardHexPlane with the given radius. The radius follows the same
+   * convention as {@link HexPlaneImpl#HexPlaneImpl(int)}.
+   *
+   * @param radius the radius of the plane from the center out, where a radius of one is a plane
+   *               with a single cell
+   * @throws IllegalArgumentException if radius is less than 1
+   */
+  public BitboardHexPlane(int radius) throws IllegalArgumentException {
+    if (radius < 1) {
+      throw new IllegalArgumentException("radius of a HexPlane may not be less than zero");
+    }
+    this.table = HexCoordTable.forRadius(radius - 1);
+    this.keys = ZobristKeys.forRadius(radius - 1);
+    this.player1 = new long[words(table)];
+    this.player2 = new long[words(table)];
+    this.hashes = new long[HexSymmetry.COUNT];
+  }
+
+  /**
+   * Create a new BitboardHexPlane given an existing plane. All cells are copied over, but none of
+   * the references are carried over.
+   *
+   * @param plane the plane to copy
+   * @throws NullPointerException     if {@code plane} is null
+   * @throws IllegalArgumentException if the plane contains a coordinate outside its radius
+   */
+  public BitboardHexPlane(HexPlane<Player> plane) throws NullPointerException {
+    Objects.requireNonNull(plane);
+    if (plane instanceof BitboardHexPlane) {
+      // copying another bitboard is the same as taking a snapshot of it
+      BitboardHexPlane other = (BitboardHexPlane) plane;
+      other.shared = true;
+      this.table = other.table;
+      this.player1 = other.player1;
+      this.player2 = other.player2;
+      this.count1 = other.count1;
+      this.count2 = other.count2;
+      this.keys = other.keys;
+      this.hashes = other.hashes;
+      this.shared = true;
+      return;
+    }
+    this.table = HexCoordTable.forRadius(plane.getRadius());
+    this.keys = ZobristKeys.forRadius(plane.getRadius());
+    this.player1 = new long[words(table)];
+    this.player2 = new long[words(table)];
+    this.hashes = new long[HexSymmetry.COUNT];
+    // go through the map rather than getAtHex, the map is the plane's canonical representation
+    for (Map.Entry<HexPlaneCoord, Optional<Player>> entry : plane.getPlane().entrySet()) {
+      int index = table.indexOf(entry.getKey());
+      if (index < 0) {
+        throw new IllegalArgumentException("BitboardHexPlane: plane contains a coordinate " +
+            "outside of its radius: " + entry.getKey());
+      }
+      entry.getValue().ifPresent(player -> set(index, player));
+    }
+  }
+
+  // snapshot constructor, shares the bitsets of the other plane
+  private BitboardHexPlane(BitboardHexPlane other, boolean shared) {
+    this.table = other.table;
+    this.player1 = other.player1;
+    this.player2 = other.player2;
+    this.count1 = other.count1;
+    this.count2 = other.count2;
+    this.keys = other.keys;
+    this.hashes = other.hashes;
+    this.shared = shared;
+  }
+
+  /**
+   * Take a copy of this plane in constant time. The copy behaves exactly like one made with
+   * {@link #BitboardHexPlane(HexPlane)}: changes to either plane are not seen by the other. The
+   * cells are only copied once one of the planes is changed.
+   *
+   * @return an independent copy of this plane
+   */
+  public BitboardHexPlane snapshot() {
+    this.shared = true;
+    return new BitboardHexPlane(this, true);
+  }
+
+  /**
+   * View the given plane as a BitboardHexPlane. If the plane already is one, it is returned as-is;
+   * otherwise, a copy is made (see {@link #BitboardHexPlane(HexPlane)}).
+   *
+   * @param plane the plane to view as a BitboardHexPlane
+   * @return the plane itself, or a copy of it
+   * @throws NullPointerException if {@code plane} is null
+   */
+  public static BitboardHexPlane of(HexPlane<Player> plane) throws NullPointerException {
+    if (plane instanceof BitboardHexPlane) {
+      return (BitboardHexPlane) plane;
+    }
+    return new BitboardHexPlane(plane);
+  }
+
+  @Override
+  public Map<HexPlaneCoord, Optional<Player>> getPlane() {
+    return new PlaneView();
+  }
+
+  @Override
+  public int getRadius() {
+    return table.getRadius();
+  }
+
+  @Override
+  public Set<HexPlaneCoord> getKnownCoords() {
+    return new CoordSet();
+  }
+
+  @Override
+  public void setElementAt(HexPlaneCoord coord, Player elem)
+      throws NullPointerException, IndexOutOfBoundsException {
+    Objects.requireNonNull(elem);
+    set(checkedIndexOf(coord), elem);
+  }
+
+  @Override
+  public <R> HexPlane<R> keysetMap(Function<HexPlaneCoord, R> func) {
+    Objects.requireNonNull(func);
+    HexPlane<R> ret = new HexPlaneImpl<>(table.getRadius() + 1);
+    for (int i = 0; i < table.size(); i++) {
+      HexPlaneCoord coord = table.coordAt(i);
+      ret.setElementAt(coord, func.apply(coord));
+    }
+    return ret;
+  }
+
+  @Override
+  public Optional<Player> getAtHex(HexPlaneCoord coordinate) throws IndexOutOfBoundsException {
+    return get(checkedIndexOf(coordinate));
+  }
+
+  /**
+   * Gets the {@link HexCoordTable} that indexes the cells of this plane.
+   */
+  public HexCoordTable getTable() {
+    return table;
+  }
+
+  /**
+   * Get the element at a dense cell index. Equivalent to calling {@link #getAtHex(HexPlaneCoord)}
+   * with the coordinate of that index in {@link #getTable()}.
+   *
+   * @param index the index of the cell
+   * @return the player at the cell, if any
+   * @throws IndexOutOfBoundsException if the index is not a cell of the plane
+   */
+  public Optional<Player> getAtIndex(int index) throws IndexOutOfBoundsException {
+    return get(checkedIndex(index));
+  }
+
+  /**
+   * Set the element at a dense cell index. Equivalent to calling
+   * {@link #setElementAt(HexPlaneCoord, Player)} with the coordinate of that index in
+   * {@link #getTable()}.
+   *
+   * @param index  the index of the cell
+   * @param player the player to put at the cell
+   * @throws NullPointerException      if the player is null
+   * @throws IndexOutOfBoundsException if the index is not a cell of the plane
+   */
+  public void setAtIndex(int index, Player player)
+      throws NullPointerException, IndexOutOfBoundsException {
+    Objects.requireNonNull(player);
+    set(checkedIndex(index), player);
+  }
+
+  /**
+   * Empty the cell at a dense cell index.
+   *
+   * @param index the index of the cell
+   * @throws IndexOutOfBoundsException if the index is not a cell of the plane
+   */
+  public void removeAtIndex(int index) throws IndexOutOfBoundsException {
+    unset(checkedIndex(index));
+  }
+
+  /**
+   * Get the number of cells owned by the given player. The count is kept up to date as cells are
+   * set, so this does not scan the plane.
+   *
+   * @param player the player to count the cells of
+   * @return the number of cells the player owns
+   * @throws NullPointerException if the player is null
+   */
+  public int count(Player player) throws NullPointerException {
+    return Objects.requireNonNull(player) == Player.PLAYER1 ? count1 : count2;
+  }
+
+  /**
+   * Get the Zobrist hash of the cells of this plane, see {@link ZobristKeys}. The hash is kept up
+   * to date as cells are set, so this does not scan the plane. Equal planes have equal hashes.
+   *
+   * @return the 64-bit hash of the plane
+   */
+  public long zobristHash() {
+    return hashes[0];
+  }
+
+  /**
+   * Get the Zobrist hash of the image of this plane under a symmetry, that is, the hash
+   * {@code transformed(symmetry).zobristHash()} would return. Like the hash of the plane itself,
+   * it is kept up to date as cells are set.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link HexSymmetry#COUNT} (exclusive)
+   * @return the 64-bit hash of the image of the plane
+   * @throws IndexOutOfBoundsException if the symmetry is out of range
+   */
+  public long symmetricHash(int symmetry) throws IndexOutOfBoundsException {
+    return hashes[symmetry];
+  }
+
+  /**
+   * Get the symmetry that moves this plane to its canonical orientation: the image whose hash is
+   * the smallest, see {@link #canonicalHash()}. If several images share that hash (because the
+   * plane is itself symmetric), the lowest-numbered symmetry is chosen. To translate a move on this
+   * plane to the canonical orientation, map it with {@link HexSymmetry#map(int, HexPlaneCoord)};
+   * to translate one back, map it with the {@link HexSymmetry#inverse(int)} of this symmetry.
+   *
+   * @return the symmetry, from 0 (inclusive) to {@link HexSymmetry#COUNT} (exclusive)
+   */
+  public int canonicalSymmetry() {
+    int best = 0;
+    for (int sym = 1; sym < HexSymmetry.COUNT; sym++) {
+      if (hashes[sym] < hashes[best]) {
+        best = sym;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Get the smallest of the hashes of the images of this plane under every symmetry. Planes that
+   * are rotations or reflections of one another have the same canonical hash.
+   *
+   * @return the 64-bit canonical hash of the plane
+   */
+  public long canonicalHash() {
+    return hashes[canonicalSymmetry()];
+  }
+
+  /**
+   * Get the image of this plane under a symmetry: a new plane in which the owner of the image of
+   * every cell is the owner of that cell on this plane.
+   *
+   * @param symmetry the symmetry, from 0 (inclusive) to {@link HexSymmetry#COUNT} (exclusive)
+   * @return a new plane holding the image of this one
+   * @throws IndexOutOfBoundsException if the symmetry is out of range
+   */
+  public BitboardHexPlane transformed(int symmetry) throws IndexOutOfBoundsException {
+    HexSymmetry symmetries = HexSymmetry.forRadius(getRadius());
+    BitboardHexPlane image = new BitboardHexPlane(getRadius() + 1);
+    for (int index = 0; index < table.size(); index++) {
+      int target = symmetries.map(symmetry, index);
+      Optional<Player> owner = get(index);
+      owner.ifPresent(player -> image.set(target, player));
+    }
+    return image;
+  }
+
+  /**
+   * Get a read-only, live {@link Set} view of the coordinates owned by the given player. Membership
+   * tests and the size of the set take constant time; iteration only visits the owned cells.
+   *
+   * @param player the player whose coordinates to view
+   * @return the coordinates the player owns
+   * @throws NullPointerException if the player is null
+   */
+  public Set<HexPlaneCoord> coordsOf(Player player) throws NullPointerException {
+    return new OwnedSet(Objects.requireNonNull(player));
+  }
+
+  /**
+   * Gets the bitset of the cells owned by the given player. The returned array is the plane's own
+   * storage and must not be modified.
+   */
+  long[] getBits(Player player) {
+    return player == Player.PLAYER1 ? player1 : player2;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof BitboardHexPlane) {
+      BitboardHexPlane that = (BitboardHexPlane) o;
+      return table == that.table
+          && Arrays.equals(player1, that.player1)
+          && Arrays.equals(player2, that.player2);
+    }
+    if (!(o instanceof HexPlane)) {
+      return false;
+    }
+    return this.getPlane().equals(((HexPlane<?>) o).getPlane());
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.getPlane(), this.getRadius());
+  }
+
+  private Optional<Player> get(int index) {
+    long mask = 1L << index;
+    if ((player1[index >>> 6] & mask) != 0) {
+      return PLAYER1;
+    }
+    if ((player2[index >>> 6] & mask) != 0) {
+      return PLAYER2;
+    }
+    return EMPTY;
+  }
+
+  private void set(int index, Player player) {
+    unshare();
+    unset(index);
+    long mask = 1L << index;
+    if (player == Player.PLAYER1) {
+      player1[index >>> 6] |= mask;
+      count1++;
+    } else {
+      player2[index >>> 6] |= mask;
+      count2++;
+    }
+    keys.toggle(hashes, index, player);
+  }
+
+  private void unset(int index) {
+    unshare();
+    long mask = 1L << index;
+    if ((player1[index >>> 6] & mask) != 0) {
+      player1[index >>> 6] &= ~mask;
+      count1--;
+      keys.toggle(hashes, index, Player.PLAYER1);
+    } else if ((player2[index >>> 6] & mask) != 0) {
+      player2[index >>> 6] &= ~mask;
+      count2--;
+      keys.toggle(hashes, index, Player.PLAYER2);
+    }
+  }
+
+  private void unshare() {
+    if (shared) {
+      player1 = player1.clone();
+      player2 = player2.clone();
+      hashes = hashes.clone();
+      shared = false;
+    }
+  }
+
+  private static int words(HexCoordTable table) {
+    return (table.size() + 63) / 64;
+  }
+
+  private int checkedIndex(int index) {
+    if (index < 0 || index >= table.size()) {
+      throw new IndexOutOfBoundsException("HexPlane: index is not a cell of the plane: " + index);
+    }
+    return index;
+  }
+
+  private int checkedIndexOf(HexPlaneCoord coordinate) {
+    int index = table.indexOf(Objects.requireNonNull(coordinate));
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("HexPlane: coordinate must already be " +
+          "present in the plane. Coordinate: " + coordinate);
+    }
+    return index;
+  }
+
+  /**
+   * A live {@link Map} view of the plane.
+   */
+  private final class PlaneView extends AbstractMap<HexPlaneCoord, Optional<Player>> {
+    @Override
+    public int size() {
+      return table.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return key instanceof HexPlaneCoord && table.indexOf((HexPlaneCoord) key) >= 0;
+    }
+
+    @Override
+    public Optional<Player> get(Object key) {
+      if (!containsKey(key)) {
+        return null;
+      }
+      return BitboardHexPlane.this.get(table.indexOf((HexPlaneCoord) key));
+    }
+
+    @Override
+    public Optional<Player> put(HexPlaneCoord key, Optional<Player> value) {
+      Objects.requireNonNull(value);
+      if (!containsKey(key)) {
+        throw new IllegalArgumentException("BitboardHexPlane: cannot add coordinate outside " +
+            "of the plane: " + key);
+      }
+      int index = table.indexOf(key);
+      Optional<Player> old = BitboardHexPlane.this.get(index);
+      if (value.isPresent()) {
+        set(index, value.get());
+      } else {
+        unset(index);
+      }
+      return old;
+    }
+
+    @Override
+    public Set<Entry<HexPlaneCoord, Optional<Player>>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<HexPlaneCoord, Optional<Player>>> iterator() {
+          return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+              return next < table.size();
+            }
+
+            @Override
+            public Entry<HexPlaneCoord, Optional<Player>> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              return new CellEntry(next++);
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return table.size();
+        }
+      };
+    }
+  }
+
+  /**
+   * A live {@link Map.Entry} for a single cell of the plane.
+   */
+  private final class CellEntry implements Map.Entry<HexPlaneCoord, Optional<Player>> {
+    private final int index;
+
+    private CellEntry(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public HexPlaneCoord getKey() {
+      return table.coordAt(index);
+    }
+
+    @Override
+    public Optional<Player> getValue() {
+      return get(index);
+    }
+
+    @Override
+    public Optional<Player> setValue(Optional<Player> value) {
+      return new PlaneView().put(getKey(), value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+      return getKey().equals(that.getKey()) && getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ getValue().hashCode();
+    }
+  }
+
+  /**
+   * A read-only {@link Set} view of the coordinates of the plane.
+   */
+  private final class CoordSet extends AbstractSet<HexPlaneCoord> {
+    @Override
+    public Iterator<HexPlaneCoord> iterator() {
+      return new Iterator<>() {
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+          return next < table.size();
+        }
+
+        @Override
+        public HexPlaneCoord next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return table.coordAt(next++);
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o instanceof HexPlaneCoord && table.indexOf((HexPlaneCoord) o) >= 0;
+    }
+
+    @Override
+    public int size() {
+      return table.size();
+    }
+  }
+
+  /**
+   * A read-only, live {@link Set} view of the coordinates owned by one player.
+   */
+  private final class OwnedSet extends AbstractSet<HexPlaneCoord> {
+    private final Player player;
+
+    private OwnedSet(Player player) {
+      this.player = player;
+    }
+
+    @Override
+    public Iterator<HexPlaneCoord> iterator() {
+      long[] bits = getBits(player);
+      return new Iterator<>() {
+        private int next = find(0);
+
+        @Override
+        public boolean hasNext() {
+          return next >= 0;
+        }
+
+        @Override
+        public HexPlaneCoord next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          HexPlaneCoord coord = table.coordAt(next);
+          next = find(next + 1);
+          return coord;
+        }
+
+        // index of the first owned cell at or after from, or -1 if there is none
+        private int find(int from) {
+          int word = from >>> 6;
+          if (word >= bits.length) {
+            return -1;
+          }
+          long remaining = bits[word] & (-1L << from);
+          while (remaining == 0) {
+            if (++word >= bits.length) {
+              return -1;
+            }
+            remaining = bits[word];
+          }
+          return word * 64 + Long.numberOfTrailingZeros(remaining);
+        }
+      };
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      if (!(o instanceof HexPlaneCoord)) {
+        return false;
+      }
+      int index = table.indexOf((HexPlaneCoord) o);
+      return index >= 0 && (getBits(player)[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public int size() {
+      return count(player);
+    }
+  }
+}
@@ -0,0 +1,285 @@
+package reversi.hex.plane;
+
+import java.util.Objects;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+
+/**
+ * A CompactBoard is a small, mutable game position for searches that play a great many moves, such
+ * as random playouts. It holds only the pieces of the player to move and of their opponent, as two
+ * bitsets over the cell indices of a {@link HexCoordTable}, and which of the two players is to
+ * move. It has no coordinates and no history: moves are made by cell index with
+ * {@link #play(int)} and cannot be undone, so searches keep a copy of the board to return to
+ * instead (see {@link #copyFrom(CompactBoard)}, which does not allocate).
+ *
+ * <p>Legality is not checked beyond what is needed to make a move; it is up to the caller to only
+ * play the moves returned by {@link #legalMoves(int[])}.
+ */
+public final class CompactBoard {
+  private final FlipEngine engine;
+  private final int size;
+  private long[] mine;
+  private long[] theirs;
+  private Player toMove;
+
+  /**
+   * Create a new {@link CompactBoard} holding the same pieces as the given plane, with the given
+   * player to move.
+   *
+   * @param plane  the pieces on the board
+   * @param toMove the player to move
+   * @throws NullPointerException if any argument is null
+   */
+  public CompactBoard(HexPlane<Player> plane, Player toMove) {
+    BitboardHexPlane board = BitboardHexPlane.of(Objects.requireNonNull(plane));
+    this.engine = FlipEngine.forPlane(board);
+    this.size = board.getTable().size();
+    this.toMove = Objects.requireNonNull(toMove);
+    this.mine = board.getBits(toMove).clone();
+    this.theirs = board.getBits(toMove.getOther()).clone();
+  }
+
+  /**
+   * Create a new {@link CompactBoard} from the bitsets of each player's pieces, as returned by
+   * {@link #getBits(Player)}.
+   *
+   * @param radius  the radius of the board, using the convention of {@link HexPlane#getRadius()}
+   * @param player1 the cells held by {@link Player#PLAYER1}
+   * @param player2 the cells held by {@link Player#PLAYER2}
+   * @param toMove  the player to move
+   * @throws NullPointerException     if any argument is null
+   * @throws IllegalArgumentException if the radius is negative, the bitsets are the wrong length or
+   *                                  hold cells off of the board, or a cell is held by both players
+   */
+  public CompactBoard(int radius, long[] player1, long[] player2, Player toMove) {
+    this.engine = FlipEngine.forRadius(radius);
+    this.size = engine.getTable().size();
+    this.toMove = Objects.requireNonNull(toMove);
+    int words = (size + 63) >>> 6;
+    if (player1.length != words || player2.length != words) {
+      throw new IllegalArgumentException("CompactBoard: expected bitsets of " + words + " words");
+    }
+    for (int word = 0; word < words; word++) {
+      long outside = word == words - 1 && size % 64 != 0 ? -1L << (size % 64) : 0;
+      if ((player1[word] & player2[word]) != 0
+          || ((player1[word] | player2[word]) & outside) != 0) {
+        throw new IllegalArgumentException("CompactBoard: overlapping or out of range cells");
+      }
+    }
+    this.mine = (toMove == Player.PLAYER1 ? player1 : player2).clone();
+    this.theirs = (toMove == Player.PLAYER1 ? player2 : player1).clone();
+  }
+
+  /**
+   * Create a new {@link CompactBoard} that is a copy of another.
+   *
+   * @param other the board to copy
+   * @throws NullPointerException if the board is null
+   */
+  public CompactBoard(CompactBoard other) {
+    this.engine = Objects.requireNonNull(other).engine;
+    this.size = other.size;
+    this.toMove = other.toMove;
+    this.mine = other.mine.clone();
+    this.theirs = other.theirs.clone();
+  }
+
+  /**
+   * Make this board the same as another of the same radius, reusing this board's storage.
+   *
+   * @param other the board to copy
+   * @throws NullPointerException     if the board is null
+   * @throws IllegalArgumentException if the boards have different radii
+   */
+  public void copyFrom(CompactBoard other) {
+    if (Objects.requireNonNull(other).engine != engine) {
+      throw new IllegalArgumentException("CompactBoard: cannot copy a board of another radius");
+    }
+    System.arraycopy(other.mine, 0, mine, 0, mine.length);
+    System.arraycopy(other.theirs, 0, theirs, 0, theirs.length);
+    toMove = other.toMove;
+  }
+
+  /**
+   * Gets the {@link HexCoordTable} whose indices this board uses.
+   */
+  public HexCoordTable getTable() {
+    return engine.getTable();
+  }
+
+  /**
+   * Gets the player to move.
+   */
+  public Player getPlayer() {
+    return toMove;
+  }
+
+  /**
+   * Gets the number of pieces the given player has on the board.
+   *
+   * @param player the player whose pieces to count
+   * @return the number of pieces
+   * @throws NullPointerException if the player is null
+   */
+  public int count(Player player) {
+    long[] bits = Objects.requireNonNull(player) == toMove ? mine : theirs;
+    int count = 0;
+    for (long word : bits) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Gets a copy of the bitset of the cells held by the given player. Cell {@code i} is held iff
+   * bit {@code i % 64} of word {@code i / 64} is set.
+   *
+   * @param player the player whose pieces to get
+   * @return a new bitset of the player's pieces
+   * @throws NullPointerException if the player is null
+   */
+  public long[] getBits(Player player) {
+    return (Objects.requireNonNull(player) == toMove ? mine : theirs).clone();
+  }
+
+  /**
+   * Gets the number of empty cells on the board.
+   */
+  public int countEmpty() {
+    return size - count(Player.PLAYER1) - count(Player.PLAYER2);
+  }
+
+  /**
+   * Write the indices of the empty cells into the given array, in index order.
+   *
+   * @param cells the array to write into, which must have room for every cell of the board
+   * @return the number of empty cells written
+   * @throws ArrayIndexOutOfBoundsException if the array is too small
+   */
+  public int emptyCells(int[] cells) {
+    int count = 0;
+    for (int word = 0; word < mine.length; word++) {
+      long empty = ~(mine[word] | theirs[word]);
+      while (empty != 0) {
+        int index = word << 6 | Long.numberOfTrailingZeros(empty);
+        if (index >= size) {
+          break;
+        }
+        cells[count++] = index;
+        empty &= empty - 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Return whether the given cell is empty.
+   *
+   * @param index the index of the cell
+   * @return true iff neither player has a piece there
+   * @throws ArrayIndexOutOfBoundsException if the index is not a cell of the board
+   */
+  public boolean isEmpty(int index) {
+    return ((mine[index >>> 6] | theirs[index >>> 6]) & (1L << index)) == 0;
+  }
+
+  /**
+   * Return whether the player to move can legally move at the given cell.
+   *
+   * @param index the index of the cell
+   * @return true iff the cell is empty and moving there flips at least one piece
+   * @throws ArrayIndexOutOfBoundsException if the index is not a cell of the board
+   */
+  public boolean isLegal(int index) {
+    return engine.isLegal(mine, theirs, index);
+  }
+
+  /**
+   * Write the indices of the cells the player to move can legally move at into the given array,
+   * in index order.
+   *
+   * @param moves the array to write into, which must have room for every cell of the board
+   * @return the number of legal moves written
+   * @throws ArrayIndexOutOfBoundsException if the array is too small
+   */
+  public int legalMoves(int[] moves) {
+    int count = 0;
+    for (int word = 0; word < mine.length; word++) {
+      long empty = ~(mine[word] | theirs[word]);
+      while (empty != 0) {
+        int index = word << 6 | Long.numberOfTrailingZeros(empty);
+        if (index >= size) {
+          break;
+        }
+        if (engine.isLegal(mine, theirs, index)) {
+          moves[count++] = index;
+        }
+        empty &= empty - 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Return whether the player to move has any legal move.
+   */
+  public boolean hasLegalMoves() {
+    return hasLegalMoves(mine, theirs);
+  }
+
+  /**
+   * Return whether neither player has a legal move, that is, the game is over.
+   */
+  public boolean isGameOver() {
+    return !hasLegalMoves(mine, theirs) && !hasLegalMoves(theirs, mine);
+  }
+
+  /**
+   * Move at the given cell as the player to move, flipping the pieces the move captures, and give
+   * the turn to the other player.
+   *
+   * @param index the index of the cell to move at
+   * @return the number of pieces flipped
+   * @throws IllegalArgumentException  if the move is not legal
+   * @throws IndexOutOfBoundsException if the index is not a cell of the board
+   */
+  public int play(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("CompactBoard: no cell with index " + index);
+    }
+    int flipped = isEmpty(index) ? engine.play(mine, theirs, index) : 0;
+    if (flipped == 0) {
+      throw new IllegalArgumentException("CompactBoard: illegal move at index " + index);
+    }
+    pass();
+    return flipped;
+  }
+
+  /**
+   * Give the turn to the other player without moving.
+   */
+  public void pass() {
+    long[] swap = mine;
+    mine = theirs;
+    theirs = swap;
+    toMove = toMove.getOther();
+  }
+
+  private boolean hasLegalMoves(long[] mine, long[] theirs) {
+    for (int word = 0; word < mine.length; word++) {
+      long empty = ~(mine[word] | theirs[word]);
+      while (empty != 0) {
+        int index = word << 6 | Long.numberOfTrailingZeros(empty);
+        if (index >= size) {
+          break;
+        }
+        if (engine.isLegal(mine, theirs, index)) {
+          return true;
+        }
+        empty &= empty - 1;
+      }
+    }
+    return false;
+  }
+}
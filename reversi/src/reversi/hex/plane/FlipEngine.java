@@ -0,0 +1,271 @@
+package reversi.hex.plane;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+
+/**
+ * A FlipEngine computes which pieces a move flips on a {@link BitboardHexPlane}. For every cell of
+ * a plane, it precomputes the ordered ray of cell indices leading away from that cell in each of
+ * the six directions, so that computing a move is a walk over plain int arrays with bit tests and
+ * no bounds checks. Engines are immutable and shared; obtain one with {@link #forRadius(int)}.
+ *
+ * <p>All methods take the dense cell index from the plane's {@link HexCoordTable}. Flips are
+ * reported in direction order (the same order as {@link HexCoordTable}'s directions), and in
+ * order of distance from the move within a direction.
+ */
+public final class FlipEngine {
+  private static final Map<Integer, FlipEngine> ENGINES = new ConcurrentHashMap<>();
+  private static final int[] NO_FLIPS = new int[0];
+
+  private final HexCoordTable table;
+  // rays of cell c in direction d are rayCells[rayStart[c * 6 + d] .. rayStart[c * 6 + d + 1])
+  private final int[] rayStart;
+  private final int[] rayCells;
+
+  private FlipEngine(HexCoordTable table) {
+    this.table = table;
+    int rays = table.size() * HexCoordTable.DIRECTIONS;
+    this.rayStart = new int[rays + 1];
+    int total = 0;
+    for (int ray = 0; ray < rays; ray++) {
+      rayStart[ray] = total;
+      int next = table.neighbor(ray / HexCoordTable.DIRECTIONS, ray % HexCoordTable.DIRECTIONS);
+      while (next >= 0) {
+        total++;
+        next = table.neighbor(next, ray % HexCoordTable.DIRECTIONS);
+      }
+    }
+    rayStart[rays] = total;
+    this.rayCells = new int[total];
+    for (int ray = 0; ray < rays; ray++) {
+      int pos = rayStart[ray];
+      int next = table.neighbor(ray / HexCoordTable.DIRECTIONS, ray % HexCoordTable.DIRECTIONS);
+      while (next >= 0) {
+        rayCells[pos++] = next;
+        next = table.neighbor(next, ray % HexCoordTable.DIRECTIONS);
+      }
+    }
+  }
+
+  /**
+   * Get the engine for planes of the given radius. The radius uses the same convention as
+   * {@link HexPlane#getRadius()}.
+   *
+   * @param radius the distance from the center cell to the edge of the plane
+   * @return the shared engine for that radius
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public static FlipEngine forRadius(int radius) {
+    return ENGINES.computeIfAbsent(radius, r -> new FlipEngine(HexCoordTable.forRadius(r)));
+  }
+
+  /**
+   * Get the engine for the given plane.
+   *
+   * @param plane the plane to compute flips on
+   * @return the shared engine for the radius of the plane
+   * @throws NullPointerException if the plane is null
+   */
+  public static FlipEngine forPlane(BitboardHexPlane plane) {
+    return forRadius(Objects.requireNonNull(plane).getRadius());
+  }
+
+  /**
+   * Gets the {@link HexCoordTable} whose indices this engine uses.
+   */
+  public HexCoordTable getTable() {
+    return table;
+  }
+
+  /**
+   * Get the indices of the pieces flipped by the given player moving at a cell. The index of the
+   * move itself is not included. If the cell is occupied, nothing is flipped.
+   *
+   * @param plane  the plane the move is made on
+   * @param index  the index of the cell the move is made at
+   * @param player the player making the move
+   * @return the indices of the flipped cells, empty if the move is not legal
+   * @throws NullPointerException if any argument is null
+   */
+  public int[] flips(BitboardHexPlane plane, int index, Player player) {
+    long[] mine = checkPlane(plane).getBits(Objects.requireNonNull(player));
+    long[] theirs = plane.getBits(player.getOther());
+    if (isSet(mine, index) || isSet(theirs, index)) {
+      return NO_FLIPS;
+    }
+    int count = 0;
+    int[] flips = null;
+    for (int ray = index * HexCoordTable.DIRECTIONS;
+         ray < (index + 1) * HexCoordTable.DIRECTIONS; ray++) {
+      int length = flipLength(mine, theirs, ray);
+      if (length == 0) {
+        continue;
+      }
+      if (flips == null) {
+        flips = new int[length];
+      } else if (flips.length < count + length) {
+        int[] grown = new int[Math.max(flips.length * 2, count + length)];
+        System.arraycopy(flips, 0, grown, 0, count);
+        flips = grown;
+      }
+      System.arraycopy(rayCells, rayStart[ray], flips, count, length);
+      count += length;
+    }
+    if (count == 0) {
+      return NO_FLIPS;
+    }
+    if (count == flips.length) {
+      return flips;
+    }
+    int[] exact = new int[count];
+    System.arraycopy(flips, 0, exact, 0, count);
+    return exact;
+  }
+
+  /**
+   * Count the pieces flipped by the given player moving at a cell, without allocating. The move
+   * itself is not counted. If the cell is occupied, nothing is flipped.
+   *
+   * @param plane  the plane the move is made on
+   * @param index  the index of the cell the move is made at
+   * @param player the player making the move
+   * @return the number of flipped cells
+   * @throws NullPointerException if any argument is null
+   */
+  public int countFlips(BitboardHexPlane plane, int index, Player player) {
+    long[] mine = checkPlane(plane).getBits(Objects.requireNonNull(player));
+    long[] theirs = plane.getBits(player.getOther());
+    if (isSet(mine, index) || isSet(theirs, index)) {
+      return 0;
+    }
+    int count = 0;
+    for (int ray = index * HexCoordTable.DIRECTIONS;
+         ray < (index + 1) * HexCoordTable.DIRECTIONS; ray++) {
+      count += flipLength(mine, theirs, ray);
+    }
+    return count;
+  }
+
+  /**
+   * Return whether the given player moving at a cell is legal, that is, the cell is empty and the
+   * move flips at least one piece. Stops at the first direction that flips anything.
+   *
+   * @param plane  the plane the move is made on
+   * @param index  the index of the cell the move is made at
+   * @param player the player making the move
+   * @return true iff the move is legal
+   * @throws NullPointerException if any argument is null
+   */
+  public boolean isLegal(BitboardHexPlane plane, int index, Player player) {
+    return isLegal(checkPlane(plane).getBits(Objects.requireNonNull(player)),
+        plane.getBits(player.getOther()), index);
+  }
+
+  /**
+   * Get a lazy stream of the cells the given player can legally move at, in the diagonal order of
+   * {@link HexCoordTable#diagonalOrder(int)}. Each cell is only checked once the stream reaches it,
+   * so short-circuiting operations such as {@code findFirst()} stop at the first legal move. The
+   * plane is read as the stream is consumed and must not change meanwhile.
+   *
+   * @param plane  the plane the moves are made on
+   * @param player the player making the moves
+   * @return the indices of the legal moves
+   * @throws NullPointerException if any argument is null
+   */
+  public IntStream legalMoves(BitboardHexPlane plane, Player player) {
+    checkPlane(plane);
+    Objects.requireNonNull(player);
+    return IntStream.range(0, table.size())
+        .map(table::diagonalOrder)
+        .filter(index -> isLegal(plane, index, player));
+  }
+
+  /**
+   * Get the first empty cell reached by walking away from a cell in the given direction. Only the
+   * empty cells found this way can have their legality changed by a change to the cell.
+   *
+   * @param plane     the plane to walk on
+   * @param index     the index of the cell to walk from, which is not itself considered
+   * @param direction the direction to walk in, from 0 (inclusive) to
+   *                  {@link HexCoordTable#DIRECTIONS} (exclusive)
+   * @return the index of the first empty cell, or -1 if the walk runs off of the plane first
+   * @throws NullPointerException if the plane is null
+   */
+  public int firstEmpty(BitboardHexPlane plane, int index, int direction) {
+    long[] player1 = checkPlane(plane).getBits(Player.PLAYER1);
+    long[] player2 = plane.getBits(Player.PLAYER2);
+    int ray = index * HexCoordTable.DIRECTIONS + direction;
+    int end = rayStart[ray + 1];
+    for (int pos = rayStart[ray]; pos < end; pos++) {
+      int cell = rayCells[pos];
+      if (!isSet(player1, cell) && !isSet(player2, cell)) {
+        return cell;
+      }
+    }
+    return -1;
+  }
+
+  // whether the owner of mine may move at the cell; see isLegal(BitboardHexPlane, int, Player)
+  boolean isLegal(long[] mine, long[] theirs, int index) {
+    if (isSet(mine, index) || isSet(theirs, index)) {
+      return false;
+    }
+    for (int ray = index * HexCoordTable.DIRECTIONS;
+         ray < (index + 1) * HexCoordTable.DIRECTIONS; ray++) {
+      if (flipLength(mine, theirs, ray) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // make the move for the owner of mine in place, returning the number of pieces flipped; nothing
+  // is changed if the move flips nothing
+  int play(long[] mine, long[] theirs, int index) {
+    int flipped = 0;
+    for (int ray = index * HexCoordTable.DIRECTIONS;
+         ray < (index + 1) * HexCoordTable.DIRECTIONS; ray++) {
+      int length = flipLength(mine, theirs, ray);
+      for (int pos = rayStart[ray]; pos < rayStart[ray] + length; pos++) {
+        int cell = rayCells[pos];
+        theirs[cell >>> 6] &= ~(1L << cell);
+        mine[cell >>> 6] |= 1L << cell;
+      }
+      flipped += length;
+    }
+    if (flipped > 0) {
+      mine[index >>> 6] |= 1L << index;
+    }
+    return flipped;
+  }
+
+  // number of opposing pieces at the start of the ray that are capped by one of our own pieces
+  private int flipLength(long[] mine, long[] theirs, int ray) {
+    int end = rayStart[ray + 1];
+    for (int pos = rayStart[ray]; pos < end; pos++) {
+      int cell = rayCells[pos];
+      if (!isSet(theirs, cell)) {
+        return isSet(mine, cell) ? pos - rayStart[ray] : 0;
+      }
+    }
+    // ran off the edge of the plane
+    return 0;
+  }
+
+  private BitboardHexPlane checkPlane(BitboardHexPlane plane) {
+    if (Objects.requireNonNull(plane).getTable() != table) {
+      throw new IllegalArgumentException("FlipEngine: plane of radius " + plane.getRadius()
+          + " used with an engine of radius " + table.getRadius());
+    }
+    return plane;
+  }
+
+  private static boolean isSet(long[] bits, int index) {
+    return (bits[index >>> 6] & (1L << index)) != 0;
+  }
+}
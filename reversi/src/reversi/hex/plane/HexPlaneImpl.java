@@ -7,7 +7,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
-import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 
 /**
@@ -35,10 +35,9 @@ public final class HexPlaneImpl<T> implements HexPlane<T> {
     radius--;
     this.radius = radius;
     plane = new HashMap<>();
-    for (int q = -radius; q <= radius; q++) {
-      for (int r = Math.max(-radius - q, -radius); r <= Math.min(radius - q, radius); r++) {
-        plane.put(new AxialCoordinate(q, r), Optional.empty());
-      }
+    HexCoordTable table = HexCoordTable.forRadius(radius);
+    for (int i = 0; i < table.size(); i++) {
+      plane.put(table.coordAt(i), Optional.empty());
     }
   }
 
@@ -130,7 +129,7 @@ public final class HexPlaneImpl<T> implements HexPlane<T> {
     if (this == o) {
       return true;
     }
-    if (!(o instanceof HexPlaneImpl)) {
+    if (!(o instanceof HexPlane)) {
       return false;
     }
     return this.getPlane().equals(((HexPlane<?>) o).getPlane());
@@ -0,0 +1,95 @@
+package reversi.hex.plane;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexSymmetry;
+
+/**
+ * ZobristKeys holds the random 64-bit keys used to hash a board of {@link Player}s. The hash of a
+ * board is the XOR of the key of every (cell, owner) pair on it, so it can be updated in constant
+ * time whenever a single cell changes. Keys are generated from a fixed seed, so the hash of a
+ * position is the same from one run to the next and may be stored in files.
+ *
+ * <p>The keys can also hash the images of a board under each of its {@link HexSymmetry}s at once
+ * (see {@link #toggle(long[], int, Player)}): the hash of an image is kept by XOR-ing in the key of
+ * the cell each changed cell is moved to. The smallest of those hashes identifies the board up to
+ * rotation and reflection.
+ *
+ * <p>Keys are immutable and shared; obtain them with {@link #forRadius(int)}.
+ */
+public final class ZobristKeys {
+  /**
+   * The key XOR-ed into the hash of a position in which {@link Player#PLAYER2} is to move.
+   */
+  public static final long SIDE_TO_MOVE = 0x9E3779B97F4A7C15L;
+
+  private static final long SEED = 0x5DEECE66DL;
+  private static final Map<Integer, ZobristKeys> KEYS = new ConcurrentHashMap<>();
+
+  // two keys per cell, the first for PLAYER1 and the second for PLAYER2
+  private final long[] keys;
+  // the key of the image of a cell under each symmetry, by cell, then owner, then symmetry
+  private final long[] imageKeys;
+
+  private ZobristKeys(HexCoordTable table) {
+    SplittableRandom random = new SplittableRandom(SEED + table.getRadius());
+    this.keys = new long[table.size() * 2];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = random.nextLong();
+    }
+    HexSymmetry symmetry = HexSymmetry.forRadius(table.getRadius());
+    this.imageKeys = new long[keys.length * HexSymmetry.COUNT];
+    for (int index = 0; index < table.size(); index++) {
+      for (int owner = 0; owner < 2; owner++) {
+        for (int sym = 0; sym < HexSymmetry.COUNT; sym++) {
+          imageKeys[(index * 2 + owner) * HexSymmetry.COUNT + sym] =
+              keys[symmetry.map(sym, index) * 2 + owner];
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the keys for planes of the given radius. The radius uses the same convention as
+   * {@link HexPlane#getRadius()}.
+   *
+   * @param radius the distance from the center cell to the edge of the plane
+   * @return the shared keys for that radius
+   * @throws IllegalArgumentException if the radius is negative
+   */
+  public static ZobristKeys forRadius(int radius) {
+    return KEYS.computeIfAbsent(radius, r -> new ZobristKeys(HexCoordTable.forRadius(r)));
+  }
+
+  /**
+   * Get the key of a player owning a cell.
+   *
+   * @param index  the dense index of the cell, see {@link HexCoordTable}
+   * @param player the owner of the cell
+   * @return the key for that cell and owner
+   * @throws IndexOutOfBoundsException if the index is not a cell of the plane
+   */
+  public long cell(int index, Player player) {
+    return keys[index * 2 + (player == Player.PLAYER1 ? 0 : 1)];
+  }
+
+  /**
+   * Update the hashes of the images of a board for a player gaining or losing a cell.
+   * {@code hashes[s]} is the hash of the image of the board under symmetry {@code s}; the first is
+   * the hash of the board itself.
+   *
+   * @param hashes the {@link HexSymmetry#COUNT} hashes to update
+   * @param index  the dense index of the cell
+   * @param player the owner the cell gains or loses
+   */
+  void toggle(long[] hashes, int index, Player player) {
+    int base = (index * 2 + (player == Player.PLAYER1 ? 0 : 1)) * HexSymmetry.COUNT;
+    for (int sym = 0; sym < HexSymmetry.COUNT; sym++) {
+      hashes[sym] ^= imageKeys[base + sym];
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package reversi.hex.summarizer;
+
+import java.util.Objects;
+
+import reversi.controller.Player;
+import reversi.hex.plane.HexPlane;
+
+/**
+ * A CachingSummarizer wraps another {@link HexPlaneSummarizer} so that its results are remembered
+ * in a {@link SummaryCache}. Applying it to a board the wrapped summarizer (or an equal one) has
+ * already summarized returns the remembered result instead of computing it again. Since results
+ * are shared, callers must not modify them.
+ *
+ * @param <R> the result type of the wrapped summarizer
+ */
+public class CachingSummarizer<R> implements HexPlaneSummarizer<Player, R> {
+  private final HexPlaneSummarizer<Player, R> summarizer;
+  private final SummaryCache cache;
+
+  /**
+   * Create a new {@link CachingSummarizer} that remembers results in the shared cache.
+   *
+   * @param summarizer the summarizer whose results to cache
+   * @throws NullPointerException if the summarizer is null
+   */
+  public CachingSummarizer(HexPlaneSummarizer<Player, R> summarizer) {
+    this(summarizer, SummaryCache.shared());
+  }
+
+  /**
+   * Create a new {@link CachingSummarizer} that remembers results in the given cache.
+   *
+   * @param summarizer the summarizer whose results to cache
+   * @param cache      the cache to remember results in
+   * @throws NullPointerException if any argument is null
+   */
+  public CachingSummarizer(HexPlaneSummarizer<Player, R> summarizer, SummaryCache cache) {
+    this.summarizer = Objects.requireNonNull(summarizer);
+    this.cache = Objects.requireNonNull(cache);
+  }
+
+  @Override
+  public R apply(HexPlane<Player> plane)
+      throws NullPointerException, IndexOutOfBoundsException {
+    return cache.get(summarizer, plane);
+  }
+}
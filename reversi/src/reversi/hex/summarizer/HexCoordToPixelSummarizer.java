@@ -2,6 +2,8 @@ package reversi.hex.summarizer;
 
 import java.awt.geom.Point2D;
 
+import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
 
 /**
@@ -30,10 +32,52 @@ public class HexCoordToPixelSummarizer<T>
   @Override
   public HexPlane<Point2D> apply(HexPlane<T> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return plane.keysetMap(coord -> {
-      double x = radius * (Math.sqrt(3) * coord.getQ() + Math.sqrt(3) / 2d * coord.getR());
-      double y = radius * (3d / 2d * coord.getR());
-      return new Point2D.Double(x, y);
-    });
+    return plane.keysetMap(this::toPixel);
+  }
+
+  /**
+   * Convert a single coordinate to the 2D point at the center of its hex, the same as
+   * {@link #apply(HexPlane)} does for every coordinate of a plane.
+   *
+   * @param coord the coordinate to convert
+   * @return the center of the hex
+   * @throws NullPointerException if the coordinate is null
+   */
+  public Point2D toPixel(HexPlaneCoord coord) {
+    double x = radius * (Math.sqrt(3) * coord.getQ() + Math.sqrt(3) / 2d * coord.getR());
+    double y = radius * (3d / 2d * coord.getR());
+    return new Point2D.Double(x, y);
+  }
+
+  /**
+   * Find the hex a 2D point lies in, the inverse of {@link #toPixel(HexPlaneCoord)}. The point is
+   * converted to fractional cube coordinates, which are rounded to the nearest hex, so this takes
+   * constant time. Points on the border between hexes go to either of them. The result may lie
+   * outside of any particular plane.
+   *
+   * @param point the point to find the hex of
+   * @return the coordinate of the hex containing the point
+   * @throws NullPointerException if the point is null
+   */
+  public HexPlaneCoord toHex(Point2D point) {
+    double q = (Math.sqrt(3) / 3d * point.getX() - 1d / 3d * point.getY()) / radius;
+    double r = (2d / 3d * point.getY()) / radius;
+    double s = -q - r;
+    long roundQ = Math.round(q);
+    long roundR = Math.round(r);
+    long roundS = Math.round(s);
+    double diffQ = Math.abs(roundQ - q);
+    double diffR = Math.abs(roundR - r);
+    double diffS = Math.abs(roundS - s);
+    // rounding each axis on its own can break q + r + s = 0, so the axis that was rounded the
+    // furthest is derived from the other two instead
+    if (diffQ > diffR && diffQ > diffS) {
+      roundQ = -roundR - roundS;
+    } else if (diffR > diffS) {
+      roundR = -roundQ - roundS;
+    } else {
+      roundS = -roundQ - roundR;
+    }
+    return new CubicalCoordinate((int) roundQ, (int) roundR, (int) roundS);
   }
 }
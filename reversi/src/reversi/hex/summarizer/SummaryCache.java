@@ -0,0 +1,149 @@
+package reversi.hex.summarizer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import reversi.controller.Player;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.HexPlane;
+
+/**
+ * A SummaryCache remembers the results of {@link HexPlaneSummarizer}s on boards of
+ * {@link Player}s. Results are keyed by the summarizer (so summarizers that should share results
+ * must implement {@code equals} and {@code hashCode} over their parameters) and by the Zobrist hash
+ * of the board (see {@link BitboardHexPlane#zobristHash()}). A hit is only reported once the stored
+ * board is confirmed equal to the queried one, so hash collisions never return a wrong result.
+ *
+ * <p>The cache holds a bounded number of results and evicts the least recently used one when it is
+ * full. It is safe to share between threads. Cached results are handed out as-is to every caller,
+ * so they must not be modified.
+ */
+public final class SummaryCache {
+  private static final SummaryCache SHARED = new SummaryCache(1024);
+
+  private final Map<Key, Entry> entries;
+  private long hits;
+  private long misses;
+
+  /**
+   * Create a new, empty SummaryCache holding at most the given number of results.
+   *
+   * @param capacity the maximum number of results to hold
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public SummaryCache(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("SummaryCache: capacity must be positive");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Gets the cache shared by the built-in strategies.
+   */
+  public static SummaryCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Get the result of applying a summarizer to a plane, computing and remembering it if it is not
+   * already known.
+   *
+   * @param summarizer the summarizer to apply
+   * @param plane      the plane to summarize
+   * @param <R>        the result type of the summarizer
+   * @return the result of {@code summarizer.apply(plane)}
+   * @throws NullPointerException if any argument is null
+   */
+  public <R> R get(HexPlaneSummarizer<Player, R> summarizer, HexPlane<Player> plane) {
+    Objects.requireNonNull(summarizer);
+    BitboardHexPlane board = BitboardHexPlane.of(Objects.requireNonNull(plane));
+    Key key = new Key(summarizer, board.zobristHash());
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null && entry.board.equals(board)) {
+        hits++;
+        @SuppressWarnings("unchecked")
+        R result = (R) entry.result;
+        return result;
+      }
+      misses++;
+    }
+    // compute outside of the lock, other threads may use the cache meanwhile
+    R result = summarizer.apply(plane);
+    synchronized (this) {
+      entries.put(key, new Entry(board.snapshot(), result));
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of queries answered from the cache.
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of queries that had to be computed.
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of results currently held.
+   */
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Forget every result and reset the hit and miss counters.
+   */
+  public synchronized void clear() {
+    entries.clear();
+    hits = 0;
+    misses = 0;
+  }
+
+  private static final class Key {
+    private final HexPlaneSummarizer<?, ?> summarizer;
+    private final long hash;
+
+    private Key(HexPlaneSummarizer<?, ?> summarizer, long hash) {
+      this.summarizer = summarizer;
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return hash == that.hash && summarizer.equals(that.summarizer);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * summarizer.hashCode() + Long.hashCode(hash);
+    }
+  }
+
+  private static final class Entry {
+    private final BitboardHexPlane board;
+    private final Object result;
+
+    private Entry(BitboardHexPlane board, Object result) {
+      this.board = board;
+      this.result = result;
+    }
+  }
+}
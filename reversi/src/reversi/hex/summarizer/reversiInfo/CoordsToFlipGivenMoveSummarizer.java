@@ -1,14 +1,14 @@
 package reversi.hex.summarizer.reversiinfo;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 
 import reversi.controller.Player;
-import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -37,54 +37,40 @@ public class CoordsToFlipGivenMoveSummarizer
   @Override
   public List<HexPlaneCoord> apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    Objects.requireNonNull(plane);
-    if (!plane.getPlane().containsKey(coordinate)) {
+    BitboardHexPlane board = BitboardHexPlane.of(Objects.requireNonNull(plane));
+    HexCoordTable table = board.getTable();
+    int index = table.indexOf(coordinate);
+    if (index < 0) {
       throw new IndexOutOfBoundsException("CoordsToInvertAtPointSummarizer: " +
           "coordinate is out of bounds: " + coordinate);
     }
     // cant overwrite piece
-    if (plane.getAtHex(coordinate).isPresent()) {
+    if (board.getAtIndex(index).isPresent()) {
       return new ArrayList<>();
     }
-    List<HexPlaneCoord> coords = new ArrayList<>();
-    for (HexPlaneCoord delta : Arrays.asList(
-        new CubicalCoordinate(1, -1, 0),
-        new CubicalCoordinate(-1, 1, 0),
-        new CubicalCoordinate(1, 0, -1),
-        new CubicalCoordinate(-1, 0, 1),
-        new CubicalCoordinate(0, 1, -1),
-        new CubicalCoordinate(0, -1, 1))) {
-      coords.addAll(getCoordsInDirection(
-          iterCount -> new CubicalCoordinate(
-              coordinate.getQ() + (iterCount * delta.getQ()),
-              coordinate.getR() + (iterCount * delta.getR()),
-              coordinate.getS() + (iterCount * delta.getS())),
-          plane));
+    int[] flips = FlipEngine.forPlane(board).flips(board, index, player);
+    List<HexPlaneCoord> coords = new ArrayList<>(flips.length + 1);
+    for (int flip : flips) {
+      coords.add(table.coordAt(flip));
     }
     coords.add(this.coordinate);
     return coords;
   }
 
-  private List<HexPlaneCoord> getCoordsInDirection(
-      Function<Integer, CubicalCoordinate> offsetToCubical,
-      HexPlane<Player> plane) {
-    int iterCount = 1;
-    List<HexPlaneCoord> retArr = new ArrayList<>();
-    CubicalCoordinate next = offsetToCubical.apply(iterCount);
-    // if the coord is out of bounds or the coord is empty, abort
-    while (plane.getKnownCoords().contains(next) && plane.getAtHex(next).isPresent()) {
-
-      // if the coord we are checking is the opposite player, add a point
-      if (plane.getAtHex(next).get().equals(this.player.getOther())) {
-        retArr.add(next);
-      } else {
-        // the coord we are checking is the current player, so stop
-        return retArr;
-      }
-
-      iterCount++;
-      next = offsetToCubical.apply(iterCount);
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
     }
-    return new ArrayList<>();
+    CoordsToFlipGivenMoveSummarizer that = (CoordsToFlipGivenMoveSummarizer) o;
+    return coordinate.equals(that.coordinate) && player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), coordinate, player);
   }
 }
@@ -1,6 +1,7 @@
 package reversi.hex.summarizer.reversiinfo;
 
 import reversi.controller.Player;
+import reversi.hex.plane.BitboardHexPlane;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -13,7 +14,20 @@ public class IsGameOverSummarizer implements HexPlaneSummarizer<Player, Boolean>
   @Override
   public Boolean apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return !(new PlayerHasLegalMovesSummarizer(Player.PLAYER1).apply(plane)
-        || new PlayerHasLegalMovesSummarizer(Player.PLAYER2).apply(plane));
+    // convert once rather than once per player
+    HexPlane<Player> board = BitboardHexPlane.of(plane);
+    return !(new PlayerHasLegalMovesSummarizer(Player.PLAYER1).apply(board)
+        || new PlayerHasLegalMovesSummarizer(Player.PLAYER2).apply(board));
+  }
+
+  // stateless: every instance computes the same summary
+  @Override
+  public boolean equals(Object o) {
+    return o != null && getClass() == o.getClass();
+  }
+
+  @Override
+  public int hashCode() {
+    return getClass().hashCode();
   }
 }
@@ -4,6 +4,8 @@ import java.util.Objects;
 
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -31,6 +33,29 @@ public class IsMoveLegalSummarizer implements HexPlaneSummarizer<Player, Boolean
   @Override
   public Boolean apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return new PointsFromMoveAtPointSummarizer(coordinate, player).apply(plane) > 1;
+    Objects.requireNonNull(plane);
+    if (!plane.getKnownCoords().contains(coordinate)) {
+      return false;
+    }
+    BitboardHexPlane board = BitboardHexPlane.of(plane);
+    return FlipEngine.forPlane(board)
+        .isLegal(board, board.getTable().indexOf(coordinate), player);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    IsMoveLegalSummarizer that = (IsMoveLegalSummarizer) o;
+    return coordinate.equals(that.coordinate) && player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), coordinate, player);
   }
 }
@@ -1,12 +1,12 @@
 package reversi.hex.summarizer.reversiinfo;
 
-import java.util.Map;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -30,10 +30,23 @@ public class PlayerCoordsSummarizer implements HexPlaneSummarizer<Player, Set<He
   @Override
   public Set<HexPlaneCoord> apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return plane.getPlane().entrySet().stream()
-        .filter((entry) ->
-            entry.getValue().isPresent() && entry.getValue().get() == this.player)
-        .map(Map.Entry::getKey)
-        .collect(Collectors.toSet());
+    return new HashSet<>(BitboardHexPlane.of(plane).coordsOf(this.player));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PlayerCoordsSummarizer that = (PlayerCoordsSummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
   }
 }
@@ -27,6 +27,23 @@ public class PlayerHasLegalMovesSummarizer implements HexPlaneSummarizer<Player,
   @Override
   public Boolean apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return !new PlayerPossibleMovesSummarizer(player).apply(plane).isEmpty();
+    return new PlayerPossibleMovesSummarizer(player).stream(plane).findFirst().isPresent();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PlayerHasLegalMovesSummarizer that = (PlayerHasLegalMovesSummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
   }
 }
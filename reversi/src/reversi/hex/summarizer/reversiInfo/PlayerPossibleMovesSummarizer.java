@@ -1,11 +1,14 @@
 package reversi.hex.summarizer.reversiinfo;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -30,17 +33,39 @@ public class PlayerPossibleMovesSummarizer
   @Override
   public List<HexPlaneCoord> apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    List<HexPlaneCoord> points = new ArrayList<>();
-    for (HexPlaneCoord coord : plane.getKnownCoords()) {
-      if (new IsMoveLegalSummarizer(coord, player).apply(plane)) {
-        points.add(coord);
-      }
+    return stream(plane).collect(Collectors.toList());
+  }
+
+  /**
+   * Get the possible moves of the player as a lazy stream, in the same order as
+   * {@link #apply(HexPlane)}. Moves are only found as the stream is consumed, so checking whether
+   * any move exists or taking the first one stops as soon as one is found.
+   *
+   * @param plane the plane to find the moves on, which must not change while the stream is used
+   * @return the possible moves of the player
+   * @throws NullPointerException if the plane is null
+   */
+  public Stream<HexPlaneCoord> stream(HexPlane<Player> plane) throws NullPointerException {
+    BitboardHexPlane board = BitboardHexPlane.of(plane);
+    // diagonal order starts with the uppermost-leftmost coordinate; (-, -) is top left
+    return FlipEngine.forPlane(board).legalMoves(board, player)
+        .mapToObj(board.getTable()::coordAt);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
     }
-    // sort so that the first move is the uppermost-leftmost coordinate
-    // (-, -) is top left
-    points.sort((h1, h2) -> h1.getQ() + h1.getR() == h2.getQ() + h2.getR()
-        ? h1.getR() - h2.getR() // get uppermost in diagonal
-        : h1.getQ() + h1.getR() - h2.getQ() - h2.getR()); // get uppermost-leftmost
-    return points;
+    PlayerPossibleMovesSummarizer that = (PlayerPossibleMovesSummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
   }
 }
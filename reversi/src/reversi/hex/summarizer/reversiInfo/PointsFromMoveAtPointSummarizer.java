@@ -4,6 +4,8 @@ import java.util.Objects;
 
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -38,6 +40,30 @@ public class PointsFromMoveAtPointSummarizer implements HexPlaneSummarizer<Playe
       //throw new IndexOutOfBoundsException("PointsFromMoveAtPointSummarizer: " +
       //  "coordinate is out of bounds: " + coordinate);
     }
-    return new CoordsToFlipGivenMoveSummarizer(coordinate, player).apply(plane).size();
+    BitboardHexPlane board = BitboardHexPlane.of(plane);
+    int index = board.getTable().indexOf(coordinate);
+    // cant overwrite piece
+    if (board.getAtIndex(index).isPresent()) {
+      return 0;
+    }
+    // the move itself is worth a point as well
+    return FlipEngine.forPlane(board).countFlips(board, index, player) + 1;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PointsFromMoveAtPointSummarizer that = (PointsFromMoveAtPointSummarizer) o;
+    return coordinate.equals(that.coordinate) && player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), coordinate, player);
   }
 }
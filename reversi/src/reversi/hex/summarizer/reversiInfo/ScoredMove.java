@@ -0,0 +1,66 @@
+package reversi.hex.summarizer.reversiinfo;
+
+import java.util.Objects;
+
+import reversi.hex.coordinates.HexPlaneCoord;
+
+/**
+ * A ScoredMove is a legal move together with the points it is worth, i.e. the same value a
+ * {@link PointsFromMoveAtPointSummarizer} gives for the move: the placed piece plus every flipped
+ * piece.
+ */
+public final class ScoredMove {
+  private final HexPlaneCoord coordinate;
+  private final int points;
+
+  /**
+   * Create a ScoredMove given the coordinate of the move and its points.
+   *
+   * @param coordinate the coordinate the move is made at
+   * @param points     the points the move is worth
+   * @throws NullPointerException if the coordinate is null
+   */
+  public ScoredMove(HexPlaneCoord coordinate, int points) {
+    this.coordinate = Objects.requireNonNull(coordinate);
+    this.points = points;
+  }
+
+  /**
+   * Gets the coordinate the move is made at.
+   */
+  public HexPlaneCoord getCoordinate() {
+    return coordinate;
+  }
+
+  /**
+   * Gets the points the move is worth.
+   */
+  public int getPoints() {
+    return points;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ScoredMove)) {
+      return false;
+    }
+    ScoredMove that = (ScoredMove) o;
+    return points == that.points && coordinate.equals(that.coordinate);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(coordinate, points);
+  }
+
+  @Override
+  public String toString() {
+    return "ScoredMove{" +
+        "coordinate=" + coordinate +
+        ", points=" + points +
+        '}';
+  }
+}
@@ -0,0 +1,68 @@
+package reversi.hex.summarizer.reversiinfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.HexPlaneSummarizer;
+
+/**
+ * The {@link ScoredMovesSummarizer} summarizes the possible moves of a player together with the
+ * points each is worth, in a single pass over the board. The moves are in the same order as
+ * {@link PlayerPossibleMovesSummarizer}, from topmost left to bottommost right, so a stable sort on
+ * the points keeps the uppermost-leftmost move first among equals. The returned list is read-only.
+ */
+public class ScoredMovesSummarizer implements HexPlaneSummarizer<Player, List<ScoredMove>> {
+  private final Player player;
+
+  /**
+   * Create a new {@link ScoredMovesSummarizer} given the {@link Player} to summarize.
+   *
+   * @param player the player to score the possible moves of
+   * @throws NullPointerException if the player is null
+   */
+  public ScoredMovesSummarizer(Player player) {
+    this.player = Objects.requireNonNull(player);
+  }
+
+  @Override
+  public List<ScoredMove> apply(HexPlane<Player> plane)
+      throws NullPointerException, IndexOutOfBoundsException {
+    BitboardHexPlane board = BitboardHexPlane.of(plane);
+    FlipEngine engine = FlipEngine.forPlane(board);
+    HexCoordTable table = board.getTable();
+    List<ScoredMove> moves = new ArrayList<>();
+    for (int pos = 0; pos < table.size(); pos++) {
+      int index = table.diagonalOrder(pos);
+      int flips = engine.countFlips(board, index, player);
+      if (flips > 0) {
+        // the placed piece is worth a point too
+        moves.add(new ScoredMove(table.coordAt(index), flips + 1));
+      }
+    }
+    return Collections.unmodifiableList(moves);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ScoredMovesSummarizer that = (ScoredMovesSummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
+  }
+}
@@ -3,6 +3,7 @@ package reversi.hex.summarizer.reversiinfo;
 import java.util.Objects;
 
 import reversi.controller.Player;
+import reversi.hex.plane.BitboardHexPlane;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexPlaneSummarizer;
 
@@ -26,6 +27,23 @@ public class TotalPointsSummarizer implements HexPlaneSummarizer<Player, Integer
   @Override
   public Integer apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    return new PlayerCoordsSummarizer(this.player).apply(plane).size();
+    return BitboardHexPlane.of(plane).count(this.player);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TotalPointsSummarizer that = (TotalPointsSummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
   }
 }
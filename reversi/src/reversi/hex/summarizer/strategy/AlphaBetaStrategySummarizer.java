@@ -0,0 +1,369 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.coordinates.HexSymmetry;
+import reversi.hex.plane.HexPlane;
+import reversi.model.MutableReversiModel;
+import reversi.model.ReversiModel;
+
+/**
+ * A Summarizer that looks ahead several moves. It runs an iterative-deepening alpha-beta search
+ * from the player's point of view: it searches one move deep, then two, and so on until its time
+ * budget runs out or the maximum depth is reached, and returns the moves ordered by the last
+ * completed search. The search makes and undoes moves on a single {@link MutableReversiModel}
+ * instead of copying the board, remembers positions in a {@link TranspositionTable} (kept between
+ * calls), and tries the best move of the previous iteration first. Positions are remembered under
+ * their canonical hash (see {@link ReversiModel#getCanonicalPositionHash()}), with their best move
+ * in the canonical orientation, so rotations and reflections of a position share one entry.
+ *
+ * <p>Positions are evaluated on the difference in pieces, in the number of legal moves and in the
+ * number of corners held. Finished games are worth more than any evaluation.
+ *
+ * <p>Given more than one thread, the search is run in parallel in the style of "Lazy SMP": helper
+ * threads on a {@link ForkJoinPool} search copies of the board alongside the calling thread,
+ * sharing only the transposition table, so that each thread finds the positions the others have
+ * already searched. Half of the helpers start one move deeper than the calling thread to spread
+ * the work out. The deepest completed search of any thread decides the order of the moves, so a
+ * parallel search is not deterministic.
+ *
+ * <p>Given a {@link Deadline} (see {@link #apply(HexPlane, Deadline)}), the search also stops once
+ * the deadline expires, even during the first iteration, and returns the ordering of the last
+ * completed iteration, or the legal moves unordered if there was none.
+ */
+public class AlphaBetaStrategySummarizer implements AnytimeStrategySummarizer {
+  private static final int WIN = 1_000_000;
+  private static final int INFINITY = Integer.MAX_VALUE - 1;
+  // how often, in nodes, the clock is checked
+  private static final int CLOCK_INTERVAL = 1024;
+
+  private final Player player;
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final int threads;
+  private final TranspositionTable table;
+  private ForkJoinPool pool;
+
+  // statistics of the last search
+  private int lastDepth;
+  private long lastNodes;
+
+  /**
+   * Create a new single-threaded {@link AlphaBetaStrategySummarizer} given the player to find
+   * moves for and how long it may search.
+   *
+   * @param player       the player to find moves for, who must be the player to move
+   * @param budgetMillis the time, in milliseconds, the search may take; the first iteration always
+   *                     completes, however long it takes
+   * @param maxDepth     the deepest iteration to search, in moves
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if the budget is negative or the depth is less than 1
+   */
+  public AlphaBetaStrategySummarizer(Player player, long budgetMillis, int maxDepth) {
+    this(player, budgetMillis, maxDepth, 1);
+  }
+
+  /**
+   * Create a new {@link AlphaBetaStrategySummarizer} given the player to find moves for, how long
+   * it may search, and how many threads it may search with.
+   *
+   * @param player       the player to find moves for, who must be the player to move
+   * @param budgetMillis the time, in milliseconds, the search may take; the first iteration always
+   *                     completes, however long it takes
+   * @param maxDepth     the deepest iteration to search, in moves
+   * @param threads      the number of threads to search with, including the calling thread
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if the budget is negative, or the depth or the number of
+   *                                  threads is less than 1
+   */
+  public AlphaBetaStrategySummarizer(Player player, long budgetMillis, int maxDepth,
+                                     int threads) {
+    this.player = Objects.requireNonNull(player);
+    if (budgetMillis < 0 || maxDepth < 1 || threads < 1) {
+      throw new IllegalArgumentException("AlphaBetaStrategySummarizer: the budget may not be "
+          + "negative and the depth and number of threads must be positive");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.maxDepth = Math.min(maxDepth, 255);
+    this.threads = threads;
+    this.table = new TranspositionTable(18);
+  }
+
+  @Override
+  public List<HexPlaneCoord> apply(HexPlane<Player> plane, Deadline deadline)
+      throws NullPointerException, IndexOutOfBoundsException {
+    ReversiModel model = new ReversiModel(Objects.requireNonNull(plane), player);
+    HexCoordTable coords = HexCoordTable.forRadius(plane.getRadius());
+    Search search = new Search(coords, corners(coords), System.nanoTime() + budgetNanos,
+        Objects.requireNonNull(deadline));
+    List<HexPlaneCoord> moves = model.getPossibleMoves(player);
+    if (moves.size() <= 1) {
+      lastDepth = 0;
+      lastNodes = 0;
+      return moves;
+    }
+
+    // copy the board for the helpers before the calling thread starts changing it
+    List<ForkJoinTask<Searcher>> helpers = new ArrayList<>();
+    for (int i = 1; i < threads; i++) {
+      Searcher helper = new Searcher(search, new ReversiModel(model), 1 + (i & 1), true);
+      helpers.add(pool().submit(() -> helper.run(moves)));
+    }
+    Searcher best = new Searcher(search, model, 1, false).run(moves);
+    search.stopped = true;
+    long nodes = best.nodes;
+    for (ForkJoinTask<Searcher> task : helpers) {
+      Searcher helper = task.join();
+      nodes += helper.nodes;
+      if (helper.completedDepth > best.completedDepth) {
+        best = helper;
+      }
+    }
+    lastDepth = best.completedDepth;
+    lastNodes = nodes;
+    return best.ordered;
+  }
+
+  /**
+   * Gets the depth of the deepest search completed by the last call to {@link #apply(HexPlane)},
+   * in moves. This is 0 if there was no choice to make.
+   */
+  public int getLastDepth() {
+    return lastDepth;
+  }
+
+  /**
+   * Gets the number of positions visited by all threads in the last call to
+   * {@link #apply(HexPlane)}.
+   */
+  public long getLastNodes() {
+    return lastNodes;
+  }
+
+  private synchronized ForkJoinPool pool() {
+    if (pool == null) {
+      // idle workers exit on their own, so the pool never needs to be shut down
+      pool = new ForkJoinPool(threads - 1);
+    }
+    return pool;
+  }
+
+  // the cells reached by walking straight out from the center; these can never be flipped
+  private static List<HexPlaneCoord> corners(HexCoordTable coords) {
+    List<HexPlaneCoord> corners = new ArrayList<>();
+    int rad = coords.getRadius();
+    for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+      corners.add(coords.coordAt(coords.indexOf(HexCoordTable.deltaQ(dir) * rad,
+          HexCoordTable.deltaR(dir) * rad)));
+    }
+    return corners;
+  }
+
+  /**
+   * The state of one call to {@link #apply(HexPlane)}, shared by every thread searching it.
+   */
+  private static final class Search {
+    private final HexCoordTable coords;
+    private final HexSymmetry symmetry;
+    private final List<HexPlaneCoord> corners;
+    private final long deadline;
+    // the caller's deadline, which unlike the budget also cuts the first iteration short
+    private final Deadline limit;
+    private volatile boolean stopped;
+
+    private Search(HexCoordTable coords, List<HexPlaneCoord> corners, long deadline,
+                   Deadline limit) {
+      this.coords = coords;
+      this.symmetry = HexSymmetry.forRadius(coords.getRadius());
+      this.corners = corners;
+      this.deadline = deadline;
+      this.limit = limit;
+    }
+  }
+
+  /**
+   * One thread's iterative-deepening search over its own copy of the board.
+   */
+  private final class Searcher {
+    private final Search search;
+    private final ReversiModel model;
+    private final int firstDepth;
+    private final boolean helper;
+    private List<HexPlaneCoord> ordered;
+    private int completedDepth;
+    private long nodes;
+
+    private Searcher(Search search, ReversiModel model, int firstDepth, boolean helper) {
+      this.search = search;
+      this.model = model;
+      this.firstDepth = firstDepth;
+      this.helper = helper;
+    }
+
+    private Searcher run(List<HexPlaneCoord> moves) {
+      ordered = moves;
+      for (int depth = firstDepth; depth <= maxDepth; depth++) {
+        try {
+          // only the calling thread's first iteration is allowed to overrun the budget
+          ordered = searchRoot(ordered, depth, helper || depth > 1);
+          completedDepth = depth;
+        } catch (OutOfTime e) {
+          // undo the moves of the abandoned iteration and keep the last completed ordering
+          model.rewindTo(0);
+          break;
+        }
+      }
+      return this;
+    }
+
+    // search every root move, most promising first, and return them ordered by their values
+    private List<HexPlaneCoord> searchRoot(List<HexPlaneCoord> moves, int depth, boolean timed) {
+      List<Scored> scored = new ArrayList<>();
+      int alpha = -INFINITY;
+      for (HexPlaneCoord move : moves) {
+        model.makeMoveAsPlayer(move, player);
+        // the first move gets a full window, the rest only need to prove they are not better
+        int value = -search(depth - 1, -INFINITY, -alpha, timed);
+        model.undo();
+        scored.add(new Scored(move, value));
+        alpha = Math.max(alpha, value);
+      }
+      // stable, so equal moves stay in the order they were searched in
+      return scored.stream()
+          .sorted(Comparator.comparingInt((Scored s) -> s.value).reversed())
+          .map(s -> s.move)
+          .collect(Collectors.toList());
+    }
+
+    // negamax alpha-beta from the point of view of the player to move
+    private int search(int depth, int alpha, int beta, boolean timed) {
+      if (++nodes % CLOCK_INTERVAL == 0
+          && (timed && (search.stopped || System.nanoTime() > search.deadline)
+          || search.limit.isExpired())) {
+        throw new OutOfTime();
+      }
+      Player toMove = model.getPlayer();
+      if (depth == 0) {
+        return evaluate(toMove);
+      }
+      long hash = model.getCanonicalPositionHash();
+      int canonical = model.getCanonicalSymmetry();
+      long entry = table.probe(hash);
+      int hashMove = -1;
+      if (entry != TranspositionTable.MISSING) {
+        // the move is stored in the canonical orientation
+        hashMove = search.symmetry.map(search.symmetry.inverse(canonical),
+            TranspositionTable.move(entry));
+        if (TranspositionTable.depth(entry) >= depth) {
+          int value = TranspositionTable.value(entry);
+          switch (TranspositionTable.flag(entry)) {
+            case TranspositionTable.EXACT:
+              return value;
+            case TranspositionTable.LOWER:
+              alpha = Math.max(alpha, value);
+              break;
+            default:
+              beta = Math.min(beta, value);
+              break;
+          }
+          if (alpha >= beta) {
+            return value;
+          }
+        }
+      }
+
+      List<HexPlaneCoord> moves = model.getPossibleMoves(toMove);
+      if (moves.isEmpty()) {
+        if (!model.hasLegalMoves(toMove.getOther())) {
+          return finalValue(toMove);
+        }
+        model.passAsPlayer(toMove);
+        int value = -search(depth - 1, -beta, -alpha, timed);
+        model.undo();
+        return value;
+      }
+
+      if (hashMove >= 0) {
+        HexPlaneCoord first = search.coords.coordAt(hashMove);
+        if (moves.remove(first)) {
+          moves.add(0, first);
+        }
+      }
+      int originalAlpha = alpha;
+      int best = -INFINITY;
+      int bestMove = -1;
+      for (HexPlaneCoord move : moves) {
+        model.makeMoveAsPlayer(move, toMove);
+        int value = -search(depth - 1, -beta, -alpha, timed);
+        model.undo();
+        if (value > best) {
+          best = value;
+          bestMove = search.coords.indexOf(move);
+        }
+        alpha = Math.max(alpha, value);
+        if (alpha >= beta) {
+          break;
+        }
+      }
+      int flag = best <= originalAlpha ? TranspositionTable.UPPER
+          : best >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+      table.store(hash, depth, best, flag, search.symmetry.map(canonical, bestMove));
+      return best;
+    }
+
+    private int evaluate(Player toMove) {
+      Player other = toMove.getOther();
+      boolean canMove = model.hasLegalMoves(toMove);
+      boolean otherCanMove = model.hasLegalMoves(other);
+      if (!canMove && !otherCanMove) {
+        return finalValue(toMove);
+      }
+      int pieces = model.getScore(toMove) - model.getScore(other);
+      int mobility = model.countLegalMoves(toMove) - model.countLegalMoves(other);
+      int cornersHeld = 0;
+      for (HexPlaneCoord corner : search.corners) {
+        Optional<Player> owner = model.getAtHex(corner);
+        if (owner.isPresent()) {
+          cornersHeld += owner.get() == toMove ? 1 : -1;
+        }
+      }
+      return pieces + 3 * mobility + 20 * cornersHeld;
+    }
+
+    // the value of a finished game: any win beats any evaluation, and bigger wins beat smaller ones
+    private int finalValue(Player toMove) {
+      int difference = model.getScore(toMove) - model.getScore(toMove.getOther());
+      return Integer.signum(difference) * WIN + difference;
+    }
+  }
+
+  private static final class Scored {
+    private final HexPlaneCoord move;
+    private final int value;
+
+    private Scored(HexPlaneCoord move, int value) {
+      this.move = move;
+      this.value = value;
+    }
+  }
+
+  /**
+   * Thrown to unwind the search once the time budget has run out.
+   */
+  private static final class OutOfTime extends RuntimeException {
+    private OutOfTime() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.HexPlaneSummarizer;
+
+/**
+ * An AnytimeStrategySummarizer is a strategy whose search can be stopped at any point and still
+ * return a useful answer. Besides its own time budget, it honors a {@link Deadline} given by the
+ * caller: once the deadline expires, it stops searching and returns the best answer it has found
+ * so far. Searches that rank every move return the ranking of their last completed iteration, or
+ * the legal moves in some order if none completed; searches that either solve the board or fail,
+ * such as {@link EndgameStrategySummarizer}, fail.
+ */
+public interface AnytimeStrategySummarizer
+    extends HexPlaneSummarizer<Player, List<HexPlaneCoord>> {
+
+  /**
+   * Rank the moves of the board as {@link #apply(HexPlane)} does, but stop searching once either
+   * the summarizer's own budget runs out or the deadline expires, whichever comes first.
+   *
+   * @param plane    the board to find moves on
+   * @param deadline the time by which to answer
+   * @return the moves, from most to least preferred
+   * @throws NullPointerException if any argument is null
+   */
+  List<HexPlaneCoord> apply(HexPlane<Player> plane, Deadline deadline)
+      throws NullPointerException, IndexOutOfBoundsException;
+
+  @Override
+  default List<HexPlaneCoord> apply(HexPlane<Player> plane)
+      throws NullPointerException, IndexOutOfBoundsException {
+    return apply(plane, Deadline.none());
+  }
+}
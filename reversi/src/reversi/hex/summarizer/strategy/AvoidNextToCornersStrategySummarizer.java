@@ -1,16 +1,17 @@
 package reversi.hex.summarizer.strategy;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import reversi.controller.Player;
-import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.CachingSummarizer;
 import reversi.hex.summarizer.HexPlaneSummarizer;
-import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
+import reversi.hex.summarizer.reversiinfo.ScoredMove;
+import reversi.hex.summarizer.reversiinfo.ScoredMovesSummarizer;
 
 /**
  * A Summarizer for use in implementing a smarter AI. It will filter out any moves that are next to
@@ -33,44 +34,53 @@ public class AvoidNextToCornersStrategySummarizer
   @Override
   public List<HexPlaneCoord> apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    List<HexPlaneCoord> moves = new PlayerPossibleMovesSummarizer(player).apply(plane);
+    // Hard mode runs Greedy right after this on the same board; the cache lets it reuse the moves
+    List<ScoredMove> moves =
+        new CachingSummarizer<>(new ScoredMovesSummarizer(player)).apply(plane);
+    HexCoordTable table = HexCoordTable.forRadius(plane.getRadius());
+    boolean[] nextToCorners = nextToCorners(table);
     // when moves are added to retList the uppermost-leftmost coordinate is added first.
     List<HexPlaneCoord> retList = new ArrayList<>();
-    for (HexPlaneCoord coord : moves) {
-      if (nextToCorners(plane.getRadius()).contains(coord)) {
+    for (ScoredMove move : moves) {
+      if (nextToCorners[table.indexOf(move.getCoordinate())]) {
         continue;
       }
-      retList.add(coord);
+      retList.add(move.getCoordinate());
     }
     return retList;
   }
 
-  private List<HexPlaneCoord> nextToCorners(int rad) {
-    List<HexPlaneCoord> neighbors = new ArrayList<>();
-    for (HexPlaneCoord corner : Arrays.asList(
-        new CubicalCoordinate(rad, -rad, 0),
-        new CubicalCoordinate(-rad, rad, 0),
-        new CubicalCoordinate(rad, 0, -rad),
-        new CubicalCoordinate(-rad, 0, rad),
-        new CubicalCoordinate(0, rad, -rad),
-        new CubicalCoordinate(0, -rad, rad))) {
-      for (HexPlaneCoord delta : Arrays.asList(
-          new CubicalCoordinate(1, -1, 0),
-          new CubicalCoordinate(-1, 1, 0),
-          new CubicalCoordinate(1, 0, -1),
-          new CubicalCoordinate(-1, 0, 1),
-          new CubicalCoordinate(0, 1, -1),
-          new CubicalCoordinate(0, -1, 1))) {
-        HexPlaneCoord neighbor = new CubicalCoordinate(corner.getQ() + delta.getQ(),
-            corner.getR() + delta.getR(),
-            corner.getS() + delta.getS());
-        if (Math.abs(neighbor.getQ()) <= rad
-            && Math.abs(neighbor.getR()) <= rad
-            && Math.abs(neighbor.getS()) <= rad) {
-          neighbors.add(neighbor);
+  private boolean[] nextToCorners(HexCoordTable table) {
+    boolean[] neighbors = new boolean[table.size()];
+    int rad = table.getRadius();
+    // the corners of the plane are the cells reached by walking straight out from the center
+    for (int cornerDir = 0; cornerDir < HexCoordTable.DIRECTIONS; cornerDir++) {
+      int corner = table.indexOf(HexCoordTable.deltaQ(cornerDir) * rad,
+          HexCoordTable.deltaR(cornerDir) * rad);
+      for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+        int neighbor = table.neighbor(corner, dir);
+        if (neighbor >= 0) {
+          neighbors[neighbor] = true;
         }
       }
     }
     return neighbors;
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AvoidNextToCornersStrategySummarizer that = (AvoidNextToCornersStrategySummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
+  }
 }
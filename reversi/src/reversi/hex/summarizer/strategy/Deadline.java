@@ -0,0 +1,79 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A Deadline is the time by which a search must answer, together with a flag that stops it
+ * sooner. Searches check {@link #isExpired()} as they go, and once it is true they return the best
+ * answer they have found so far instead of searching on (see {@link AnytimeStrategySummarizer}).
+ * Stopping is cooperative: nothing is interrupted, so an answer arrives shortly after the deadline
+ * rather than exactly at it.
+ *
+ * <p>A deadline may be cancelled from any thread while another thread searches against it, for
+ * example when the move being searched for is no longer wanted.
+ */
+public final class Deadline {
+  private final long nanoTime;
+  private final boolean bounded;
+  private volatile boolean cancelled;
+
+  private Deadline(long nanoTime, boolean bounded) {
+    this.nanoTime = nanoTime;
+    this.bounded = bounded;
+  }
+
+  /**
+   * Create a new {@link Deadline} the given time from now.
+   *
+   * @param millis the time, in milliseconds, until the deadline
+   * @return the deadline
+   * @throws IllegalArgumentException if the time is negative
+   */
+  public static Deadline after(long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException("Deadline: the time may not be negative: " + millis);
+    }
+    return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis), true);
+  }
+
+  /**
+   * Create a new {@link Deadline} that only expires once it is cancelled.
+   *
+   * @return the deadline
+   */
+  public static Deadline none() {
+    return new Deadline(0, false);
+  }
+
+  /**
+   * Return whether the search should stop, because the deadline has passed or was cancelled.
+   */
+  public boolean isExpired() {
+    return cancelled || bounded && System.nanoTime() - nanoTime >= 0;
+  }
+
+  /**
+   * Return whether the deadline was cancelled.
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Expire the deadline now, asking any search against it to stop.
+   */
+  public void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Gets the time left until the deadline, in nanoseconds. This is 0 once the deadline has expired,
+   * and {@link Long#MAX_VALUE} for a deadline that only expires once it is cancelled.
+   */
+  public long remainingNanos() {
+    if (cancelled) {
+      return 0;
+    }
+    return bounded ? Math.max(0, nanoTime - System.nanoTime()) : Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,259 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.CompactBoard;
+import reversi.hex.plane.HexPlane;
+
+/**
+ * A Summarizer that plays the end of the game perfectly. Once a board has few enough empty cells,
+ * it searches every remaining move to the end of the game with alpha-beta on the final difference
+ * in pieces, and returns the move that ends the game best for the player. If the board has too
+ * many empty cells, or the search does not finish in time, it returns an empty list instead, so
+ * that another strategy can choose the move (see
+ * {@link reversi.controller.agent.AgentBuilder.MaybeAgentBuilder#andThen}).
+ *
+ * <p>Each search plays moves on its own stack of {@link CompactBoard}s, sized when it starts, so
+ * it does not allocate as it goes, and searches running on several threads do not share any state.
+ * Moves that leave the opponent the fewest replies are searched first, and among those, moves in
+ * regions of the board with an odd number of empty cells (where the player can hope to move last).
+ *
+ * <p>Given a {@link Deadline} (see {@link #apply(HexPlane, Deadline)}), the search also gives up
+ * once the deadline expires.
+ */
+public class EndgameStrategySummarizer implements AnytimeStrategySummarizer {
+  private static final int INFINITY = Integer.MAX_VALUE - 1;
+  // how often, in nodes, the clock is checked
+  private static final int CLOCK_INTERVAL = 1024;
+  // with fewer empty cells than this, ordering the moves costs more than it saves
+  private static final int ORDERING_EMPTIES = 6;
+
+  private final Player player;
+  private final int maxEmpties;
+  private final long budgetNanos;
+
+  // result of the last search
+  private boolean lastSolved;
+  private int lastValue;
+
+  /**
+   * Create a new {@link EndgameStrategySummarizer} given the player to find moves for, the most
+   * empty cells it will try to solve, and how long it may search.
+   *
+   * @param player       the player to find moves for, who must be the player to move
+   * @param maxEmpties   the most empty cells a board may have for the search to be tried
+   * @param budgetMillis the time, in milliseconds, the search may take before giving up
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if maxEmpties or the budget is negative
+   */
+  public EndgameStrategySummarizer(Player player, int maxEmpties, long budgetMillis) {
+    this.player = Objects.requireNonNull(player);
+    if (maxEmpties < 0 || budgetMillis < 0) {
+      throw new IllegalArgumentException("EndgameStrategySummarizer: the number of empty cells "
+          + "and the budget may not be negative");
+    }
+    this.maxEmpties = maxEmpties;
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+  }
+
+  @Override
+  public List<HexPlaneCoord> apply(HexPlane<Player> plane, Deadline deadline)
+      throws NullPointerException, IndexOutOfBoundsException {
+    Objects.requireNonNull(deadline);
+    CompactBoard board = new CompactBoard(Objects.requireNonNull(plane), player);
+    lastSolved = false;
+    int empties = board.countEmpty();
+    if (empties > maxEmpties) {
+      return new ArrayList<>();
+    }
+    Solver solver = new Solver(board, empties, System.nanoTime() + budgetNanos, deadline);
+    int count = solver.orderedMoves(0);
+    if (count == 0) {
+      return new ArrayList<>();
+    }
+    int best = -1;
+    int alpha = -INFINITY;
+    try {
+      for (int i = 0; i < count; i++) {
+        solver.boards[1].copyFrom(solver.boards[0]);
+        solver.boards[1].play(solver.moves[0][i]);
+        int value = -solver.solve(1, -INFINITY, -alpha, false);
+        if (value > alpha) {
+          alpha = value;
+          best = solver.moves[0][i];
+        }
+      }
+    } catch (OutOfTime e) {
+      return new ArrayList<>();
+    }
+    lastSolved = true;
+    lastValue = alpha;
+    List<HexPlaneCoord> solved = new ArrayList<>();
+    solved.add(board.getTable().coordAt(best));
+    return solved;
+  }
+
+  /**
+   * Return whether the last call to {@link #apply(HexPlane)} solved its board.
+   */
+  public boolean lastSolved() {
+    return lastSolved;
+  }
+
+  /**
+   * Gets the final difference in pieces, from the player's point of view, that the move returned
+   * by the last call to {@link #apply(HexPlane)} leads to with perfect play. Only meaningful if
+   * {@link #lastSolved()}.
+   */
+  public int getLastValue() {
+    return lastValue;
+  }
+
+  /**
+   * The state of a single search: its stacks, its limits and how far it has got.
+   */
+  private static final class Solver {
+    private final CompactBoard[] boards;
+    private final int[][] moves;
+    private final int[][] keys;
+    private final int[] cells;
+    private final int[] regions;
+    private final int[] stack;
+    private final long deadline;
+    private final Deadline limit;
+    private long nodes;
+
+    // size the stacks for a search of the given number of empty cells; there can be a pass between
+    // any two moves, so a game can last at most twice as many turns as there are empty cells
+    private Solver(CompactBoard board, int empties, long deadline, Deadline limit) {
+      int height = 2 * empties + 2;
+      int size = board.getTable().size();
+      this.boards = new CompactBoard[height];
+      this.moves = new int[height][];
+      this.keys = new int[height][];
+      for (int ply = 0; ply < height; ply++) {
+        boards[ply] = new CompactBoard(board);
+        moves[ply] = new int[size];
+        keys[ply] = new int[size];
+      }
+      this.cells = new int[size];
+      this.regions = new int[size];
+      this.stack = new int[size];
+      this.deadline = deadline;
+      this.limit = limit;
+    }
+
+    // alpha-beta on the final difference in pieces, from the point of view of the player to move
+    private int solve(int ply, int alpha, int beta, boolean passed) {
+      if (++nodes % CLOCK_INTERVAL == 0
+          && (System.nanoTime() > deadline || limit.isExpired())) {
+        throw new OutOfTime();
+      }
+      CompactBoard board = boards[ply];
+      int count = orderedMoves(ply);
+      if (count == 0) {
+        if (passed) {
+          Player toMove = board.getPlayer();
+          return board.count(toMove) - board.count(toMove.getOther());
+        }
+        boards[ply + 1].copyFrom(board);
+        boards[ply + 1].pass();
+        return -solve(ply + 1, -beta, -alpha, true);
+      }
+      int best = -INFINITY;
+      for (int i = 0; i < count; i++) {
+        boards[ply + 1].copyFrom(board);
+        boards[ply + 1].play(moves[ply][i]);
+        int value = -solve(ply + 1, -beta, -alpha, false);
+        if (value > best) {
+          best = value;
+          alpha = Math.max(alpha, value);
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+      return best;
+    }
+
+    // fill moves[ply] with the legal moves of boards[ply], most promising first
+    private int orderedMoves(int ply) {
+      CompactBoard board = boards[ply];
+      int[] legal = moves[ply];
+      int count = board.legalMoves(legal);
+      if (count < 2 || board.countEmpty() < ORDERING_EMPTIES) {
+        return count;
+      }
+      labelRegions(board);
+      int[] key = keys[ply];
+      CompactBoard next = boards[ply + 1];
+      for (int i = 0; i < count; i++) {
+        next.copyFrom(board);
+        next.play(legal[i]);
+        int replies = next.legalMoves(cells);
+        int evenRegion = regions[legal[i]] % 2 == 0 ? 1 : 0;
+        key[i] = replies * 2 + evenRegion;
+      }
+      // insertion sort, as there are only ever a few moves
+      for (int i = 1; i < count; i++) {
+        int move = legal[i];
+        int moveKey = key[i];
+        int j = i - 1;
+        while (j >= 0 && key[j] > moveKey) {
+          legal[j + 1] = legal[j];
+          key[j + 1] = key[j];
+          j--;
+        }
+        legal[j + 1] = move;
+        key[j + 1] = moveKey;
+      }
+      return count;
+    }
+
+    // set regions[cell] of every empty cell to the number of empty cells in its connected region
+    private void labelRegions(CompactBoard board) {
+      HexCoordTable table = board.getTable();
+      int empties = board.emptyCells(cells);
+      // mark every empty cell as unvisited
+      for (int i = 0; i < empties; i++) {
+        regions[cells[i]] = -1;
+      }
+      for (int i = 0; i < empties; i++) {
+        if (regions[cells[i]] != -1) {
+          continue;
+        }
+        // flood fill, remembering the region's cells on the stack to label them afterwards
+        int size = 0;
+        stack[size++] = cells[i];
+        regions[cells[i]] = 0;
+        for (int pos = 0; pos < size; pos++) {
+          for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+            int neighbor = table.neighbor(stack[pos], dir);
+            if (neighbor >= 0 && board.isEmpty(neighbor) && regions[neighbor] == -1) {
+              regions[neighbor] = 0;
+              stack[size++] = neighbor;
+            }
+          }
+        }
+        for (int pos = 0; pos < size; pos++) {
+          regions[stack[pos]] = size;
+        }
+      }
+    }
+  }
+
+  /**
+   * Thrown to unwind the search once the time budget has run out.
+   */
+  private static final class OutOfTime extends RuntimeException {
+    private OutOfTime() {
+      super(null, null, false, false);
+    }
+  }
+}
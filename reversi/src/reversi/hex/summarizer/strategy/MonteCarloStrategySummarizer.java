@@ -0,0 +1,342 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.CompactBoard;
+import reversi.hex.plane.HexPlane;
+
+/**
+ * A Summarizer that ranks moves by Monte Carlo tree search. Until its time budget runs out, it
+ * repeatedly walks down a tree of positions, choosing moves by the UCT formula (which balances
+ * moves that have won often against moves that have been tried rarely), adds one new position to
+ * the tree, finishes the game from there with random moves, and credits the result to every
+ * position on the way. Moves are returned from most to least visited. Random games are played on a
+ * {@link CompactBoard}, so they do not allocate, and each random move is found by trying empty
+ * cells in a random order rather than by listing every legal move.
+ *
+ * <p>Given more than one thread, helper threads on a {@link ForkJoinPool} grow the same tree
+ * alongside the calling thread. A thread passing through a position counts a "virtual loss"
+ * against it until its game is finished, which steers the other threads towards different moves.
+ * A parallel search is not deterministic.
+ *
+ * <p>Given a {@link Deadline} (see {@link #apply(HexPlane, Deadline)}), every thread also stops
+ * once the deadline expires, after finishing the game it is playing.
+ */
+public class MonteCarloStrategySummarizer implements AnytimeStrategySummarizer {
+  // the exploration constant of UCT, the usual choice for results between 0 and 1
+  private static final double EXPLORATION = Math.sqrt(2);
+  // losses counted against a position while a thread's game through it is unfinished
+  private static final int VIRTUAL_LOSS = 3;
+  private static final int PASS = -1;
+
+  private final Player player;
+  private final long budgetNanos;
+  private final long maxPlayouts;
+  private final int threads;
+  private final long seed;
+  private ForkJoinPool pool;
+
+  // statistics of the last search
+  private long lastPlayouts;
+  private double lastPlayoutsPerSecond;
+
+  /**
+   * Create a new {@link MonteCarloStrategySummarizer} given the player to find moves for, how long
+   * it may search, and how many threads it may search with.
+   *
+   * @param player       the player to find moves for, who must be the player to move
+   * @param budgetMillis the time, in milliseconds, the search may take; every thread plays at
+   *                     least one game, however long it takes
+   * @param threads      the number of threads to search with, including the calling thread
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if the budget is negative or threads is less than 1
+   */
+  public MonteCarloStrategySummarizer(Player player, long budgetMillis, int threads) {
+    this(player, budgetMillis, Long.MAX_VALUE, threads, 0);
+  }
+
+  /**
+   * Create a new {@link MonteCarloStrategySummarizer} that also stops after a number of random
+   * games, and whose random games are drawn from the given seed. A single-threaded search limited
+   * only by the number of games always ranks the moves of a position the same way.
+   *
+   * @param player       the player to find moves for, who must be the player to move
+   * @param budgetMillis the time, in milliseconds, the search may take; every thread plays at
+   *                     least one game, however long it takes
+   * @param maxPlayouts  the most random games to play in one search
+   * @param threads      the number of threads to search with, including the calling thread
+   * @param seed         the seed of the random games
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if the budget is negative, or maxPlayouts or threads is less
+   *                                  than 1
+   */
+  public MonteCarloStrategySummarizer(Player player, long budgetMillis, long maxPlayouts,
+                                      int threads, long seed) {
+    this.player = Objects.requireNonNull(player);
+    if (budgetMillis < 0 || maxPlayouts < 1 || threads < 1) {
+      throw new IllegalArgumentException("MonteCarloStrategySummarizer: the budget may not be "
+          + "negative and the number of playouts and threads must be positive");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.maxPlayouts = maxPlayouts;
+    this.threads = threads;
+    this.seed = seed;
+  }
+
+  @Override
+  public List<HexPlaneCoord> apply(HexPlane<Player> plane, Deadline deadline)
+      throws NullPointerException, IndexOutOfBoundsException {
+    Objects.requireNonNull(deadline);
+    long start = System.nanoTime();
+    CompactBoard board = new CompactBoard(Objects.requireNonNull(plane), player);
+    HexCoordTable coords = board.getTable();
+    int[] moves = new int[coords.size()];
+    int count = board.legalMoves(moves);
+    lastPlayouts = 0;
+    lastPlayoutsPerSecond = 0;
+    if (count <= 1) {
+      List<HexPlaneCoord> only = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        only.add(coords.coordAt(moves[i]));
+      }
+      return only;
+    }
+
+    Search search = new Search(board, start + budgetNanos, deadline);
+    List<ForkJoinTask<?>> helpers = new ArrayList<>();
+    for (int i = 1; i < threads; i++) {
+      SplittableRandom random = new SplittableRandom(seed + i);
+      helpers.add(pool().submit(() -> search.run(random)));
+    }
+    search.run(new SplittableRandom(seed));
+    for (ForkJoinTask<?> helper : helpers) {
+      helper.join();
+    }
+    lastPlayouts = search.playouts.get();
+    lastPlayoutsPerSecond = lastPlayouts / ((System.nanoTime() - start) / 1e9);
+
+    // most visited first; moves the search never reached keep their diagonal order at the end
+    List<Node> children = new ArrayList<>(search.root.children);
+    children.sort(Comparator.comparingInt((Node child) -> -child.visits));
+    List<HexPlaneCoord> ordered = children.stream()
+        .map(child -> coords.coordAt(child.move))
+        .collect(Collectors.toList());
+    for (int i = 0; i < coords.size(); i++) {
+      HexPlaneCoord coord = coords.coordAt(coords.diagonalOrder(i));
+      if (contains(moves, count, coords.diagonalOrder(i)) && !ordered.contains(coord)) {
+        ordered.add(coord);
+      }
+    }
+    return ordered;
+  }
+
+  /**
+   * Gets the number of random games played by the last call to {@link #apply(HexPlane)}.
+   */
+  public long getLastPlayouts() {
+    return lastPlayouts;
+  }
+
+  /**
+   * Gets the number of random games played per second, over all threads, by the last call to
+   * {@link #apply(HexPlane)}.
+   */
+  public double getLastPlayoutsPerSecond() {
+    return lastPlayoutsPerSecond;
+  }
+
+  private synchronized ForkJoinPool pool() {
+    if (pool == null) {
+      // idle workers exit on their own, so the pool never needs to be shut down
+      pool = new ForkJoinPool(threads - 1);
+    }
+    return pool;
+  }
+
+  private static boolean contains(int[] moves, int count, int index) {
+    for (int i = 0; i < count; i++) {
+      if (moves[i] == index) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * The tree of one call to {@link #apply(HexPlane)}, shared by every thread searching it.
+   */
+  private final class Search {
+    private final CompactBoard rootBoard;
+    private final Node root;
+    private final long deadline;
+    private final Deadline limit;
+    private final AtomicLong playouts = new AtomicLong();
+
+    private Search(CompactBoard rootBoard, long deadline, Deadline limit) {
+      this.rootBoard = rootBoard;
+      this.root = new Node(null, PASS, player.getOther());
+      this.deadline = deadline;
+      this.limit = limit;
+    }
+
+    // play random games until the budget runs out or the deadline expires, always at least one
+    private void run(SplittableRandom random) {
+      CompactBoard board = new CompactBoard(rootBoard);
+      int[] moves = new int[board.getTable().size()];
+      List<Node> path = new ArrayList<>();
+      do {
+        board.copyFrom(rootBoard);
+        path.clear();
+        path.add(root);
+        Node node = root;
+        // walk down the tree, adding one position to it
+        while (true) {
+          Node next = node.step(board, moves, random);
+          if (next == null) {
+            break;
+          }
+          path.add(next);
+          play(board, next.move);
+          node = next;
+          if (next.isNew()) {
+            break;
+          }
+        }
+        // finish the game at random; two passes in a row end it
+        int passes = 0;
+        while (passes < 2) {
+          int move = randomMove(board, moves, random);
+          if (move == PASS) {
+            board.pass();
+            passes++;
+          } else {
+            board.play(move);
+            passes = 0;
+          }
+        }
+        int difference = board.count(player) - board.count(player.getOther());
+        for (Node visited : path) {
+          visited.finish(difference);
+        }
+      } while (playouts.incrementAndGet() < maxPlayouts && System.nanoTime() < deadline
+          && !limit.isExpired());
+    }
+  }
+
+  // a legal move chosen uniformly at random, found by trying the empty cells in a random order
+  // until one is legal, which is much cheaper than listing every legal move
+  private static int randomMove(CompactBoard board, int[] cells, SplittableRandom random) {
+    int count = board.emptyCells(cells);
+    for (int i = 0; i < count; i++) {
+      int pick = i + random.nextInt(count - i);
+      int cell = cells[pick];
+      if (board.isLegal(cell)) {
+        return cell;
+      }
+      cells[pick] = cells[i];
+    }
+    return PASS;
+  }
+
+  private static void play(CompactBoard board, int move) {
+    if (move == PASS) {
+      board.pass();
+    } else {
+      board.play(move);
+    }
+  }
+
+  /**
+   * A position in the tree. Its statistics are from the point of view of the player who moved into
+   * it, and are only read or written while holding its lock.
+   */
+  private final class Node {
+    private final Node parent;
+    private final int move;
+    private final Player mover;
+    private final List<Node> children = new ArrayList<>();
+    // moves not yet added as children, null until the position is first reached
+    private int[] untried;
+    private int untriedCount;
+    private int visits;
+    private double wins;
+
+    private Node(Node parent, int move, Player mover) {
+      this.parent = parent;
+      this.move = move;
+      this.mover = mover;
+    }
+
+    // choose the child to continue the walk with, counting a virtual loss against it, or return
+    // null if the game is over here
+    private synchronized Node step(CompactBoard board, int[] moves, SplittableRandom random) {
+      if (untried == null) {
+        int count = board.legalMoves(moves);
+        if (count == 0 && !board.isGameOver()) {
+          moves[count++] = PASS;
+        }
+        untried = new int[count];
+        System.arraycopy(moves, 0, untried, 0, count);
+        untriedCount = count;
+      }
+      Node chosen;
+      if (untriedCount > 0) {
+        int pick = random.nextInt(untriedCount);
+        chosen = new Node(this, untried[pick], board.getPlayer());
+        untried[pick] = untried[--untriedCount];
+        children.add(chosen);
+      } else if (children.isEmpty()) {
+        return null;
+      } else {
+        chosen = children.get(0);
+        double bestScore = Double.NEGATIVE_INFINITY;
+        double logVisits = Math.log(visits);
+        for (Node child : children) {
+          double score = child.score(logVisits);
+          if (score > bestScore) {
+            bestScore = score;
+            chosen = child;
+          }
+        }
+      }
+      chosen.addVirtualLoss();
+      return chosen;
+    }
+
+    // whether no thread has walked on from this position yet
+    private synchronized boolean isNew() {
+      return untried == null;
+    }
+
+    private synchronized double score(double logParentVisits) {
+      return wins / visits + EXPLORATION * Math.sqrt(logParentVisits / visits);
+    }
+
+    private synchronized void addVirtualLoss() {
+      visits += VIRTUAL_LOSS;
+    }
+
+    // credit the result of a game through this position, taking back its virtual loss
+    private synchronized void finish(int difference) {
+      if (parent == null) {
+        visits++;
+        return;
+      }
+      visits += 1 - VIRTUAL_LOSS;
+      int forMover = mover == player ? difference : -difference;
+      wins += forMover > 0 ? 1 : forMover == 0 ? 0.5 : 0;
+    }
+  }
+}
@@ -0,0 +1,221 @@
+package reversi.hex.summarizer.strategy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.coordinates.HexSymmetry;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.plane.ZobristKeys;
+import reversi.model.ReversiModel;
+
+/**
+ * An OpeningBook holds a precomputed best move for every position of the first few moves of a
+ * game, starting from the ring {@link ReversiModel} sets up. Positions are identified by their
+ * canonical hash (see {@link ReversiModel#getCanonicalPositionHash()}), and moves are stored in the
+ * canonical orientation, so positions that are rotations or reflections of one another share one
+ * entry.
+ *
+ * <p>Books are computed offline by {@link #build(int, int, int, Path)}, which writes them to a
+ * binary file, and read with {@link #open(Path)}, which maps the file into memory instead of
+ * reading it. The file holds a header of the magic number {@code HXOB}, the format version, the
+ * radius of the board and the number of entries, followed by the hash of every position in
+ * ascending order and then the move of every position, as a cell index, in the same order. A
+ * lookup is a binary search over the hashes.
+ */
+public final class OpeningBook {
+  private static final int MAGIC = 0x48584F42;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 16;
+  // long enough that only the depth limits the searches of the builder
+  private static final long BUILD_BUDGET_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private final int radius;
+  private final HexSymmetry symmetry;
+  private final ByteBuffer data;
+  private final int entries;
+
+  private OpeningBook(ByteBuffer data) throws IOException {
+    this.data = data;
+    if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+      throw new IOException("OpeningBook: not an opening book file of version " + VERSION);
+    }
+    this.radius = data.getInt(8);
+    this.entries = data.getInt(12);
+    if (radius < 0 || entries < 0 || data.capacity() != HEADER_BYTES + 12L * entries) {
+      throw new IOException("OpeningBook: corrupt header");
+    }
+    this.symmetry = HexSymmetry.forRadius(radius);
+  }
+
+  /**
+   * Open an opening book file written by {@link #build(int, int, int, Path)}. The file is mapped
+   * into memory, so opening it is cheap and only the parts that are looked up are ever read.
+   *
+   * @param file the opening book file
+   * @return the opening book
+   * @throws IOException          if the file cannot be read or is not an opening book
+   * @throws NullPointerException if the file is null
+   */
+  public static OpeningBook open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(Objects.requireNonNull(file),
+        StandardOpenOption.READ)) {
+      return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Gets the radius of the board this book is for, using the convention of
+   * {@link HexPlane#getRadius()}.
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * Gets the number of positions in this book, counting positions that are images of one another
+   * under a symmetry once.
+   */
+  public int size() {
+    return entries;
+  }
+
+  /**
+   * Look up the book move of a position.
+   *
+   * @param plane  the board
+   * @param toMove the player to move
+   * @return the book move, or empty if the position is not in the book or the board is not of this
+   *     book's radius
+   * @throws NullPointerException if any argument is null
+   */
+  public OptionalInt move(HexPlane<Player> plane, Player toMove) {
+    if (Objects.requireNonNull(plane).getRadius() != radius) {
+      return OptionalInt.empty();
+    }
+    BitboardHexPlane board = BitboardHexPlane.of(plane);
+    int canonical = board.canonicalSymmetry();
+    long key = hash(board.symmetricHash(canonical), Objects.requireNonNull(toMove));
+    int low = 0;
+    int high = entries - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      long found = data.getLong(HEADER_BYTES + 8 * mid);
+      if (found < key) {
+        low = mid + 1;
+      } else if (found > key) {
+        high = mid - 1;
+      } else {
+        int move = data.getInt(HEADER_BYTES + 8 * entries + 4 * mid);
+        // the move is stored in the canonical orientation
+        return OptionalInt.of(symmetry.map(symmetry.inverse(canonical), move));
+      }
+    }
+    return OptionalInt.empty();
+  }
+
+  /**
+   * Search every position of the first moves of a game and write their best moves to a file.
+   * Positions are found by playing every move from the starting ring (with either player moving
+   * first), and each is searched with an {@link AlphaBetaStrategySummarizer} to the given depth.
+   *
+   * @param radius the radius of the board, using the convention of {@link HexPlane#getRadius()}
+   * @param plies  how many moves into the game the book reaches
+   * @param depth  how many moves deep each position is searched
+   * @param file   the file to write, which is replaced if it exists
+   * @return the number of positions written
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if the board has no starting ring, or plies or depth is less
+   *                                  than 1
+   */
+  public static int build(int radius, int plies, int depth, Path file) throws IOException {
+    if (radius < 1 || plies < 1 || depth < 1) {
+      throw new IllegalArgumentException("OpeningBook: the radius, plies and depth must be "
+          + "positive");
+    }
+    HexSymmetry symmetry = HexSymmetry.forRadius(radius);
+    Map<Player, AlphaBetaStrategySummarizer> searches = new EnumMap<>(Player.class);
+    for (Player player : Player.values()) {
+      searches.put(player, new AlphaBetaStrategySummarizer(player, BUILD_BUDGET_MILLIS, depth));
+    }
+    // sorted by hash, which is the order of the file
+    TreeMap<Long, Integer> book = new TreeMap<>();
+    List<ReversiModel> layer = new ArrayList<>();
+    for (Player first : Player.values()) {
+      layer.add(new ReversiModel(radius + 1, first));
+    }
+    for (int ply = 0; ply < plies && !layer.isEmpty(); ply++) {
+      List<ReversiModel> next = new ArrayList<>();
+      Set<Long> seen = new HashSet<>();
+      for (int i = 0; i < layer.size(); i++) {
+        ReversiModel model = layer.get(i);
+        Player toMove = model.getPlayer();
+        if (!model.hasLegalMoves(toMove)) {
+          // a pass is not a move of the book, so the position after it stays in this layer
+          if (model.hasLegalMoves(toMove.getOther())) {
+            model.passAsPlayer(toMove);
+            layer.add(model);
+          }
+          continue;
+        }
+        long key = model.getCanonicalPositionHash();
+        if (book.containsKey(key)) {
+          continue;
+        }
+        HexPlaneCoord best = searches.get(toMove).apply(model.getHexPlane()).get(0);
+        int index = symmetry.getTable().indexOf(best);
+        book.put(key, symmetry.map(model.getCanonicalSymmetry(), index));
+        for (HexPlaneCoord move : model.getPossibleMoves(toMove)) {
+          ReversiModel child = new ReversiModel(model);
+          child.makeMoveAsPlayer(move, toMove);
+          if (seen.add(child.getCanonicalPositionHash())) {
+            next.add(child);
+          }
+        }
+      }
+      layer = next;
+    }
+    write(radius, book, file);
+    return book.size();
+  }
+
+  private static long hash(long boardHash, Player toMove) {
+    return toMove == Player.PLAYER2 ? boardHash ^ ZobristKeys.SIDE_TO_MOVE : boardHash;
+  }
+
+  private static void write(int radius, TreeMap<Long, Integer> book, Path file)
+      throws IOException {
+    try (OutputStream stream = Files.newOutputStream(file);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(radius);
+      out.writeInt(book.size());
+      for (long key : book.keySet()) {
+        out.writeLong(key);
+      }
+      for (int move : book.values()) {
+        out.writeInt(move);
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.CompactBoard;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.HexPlaneSummarizer;
+
+/**
+ * A Summarizer that plays the move an {@link OpeningBook} holds for the board. If the book does not
+ * hold the board, it returns an empty list instead, so that another strategy can choose the move
+ * (see {@link reversi.controller.agent.AgentBuilder.MaybeAgentBuilder#andThen}).
+ */
+public class OpeningBookStrategySummarizer
+    implements HexPlaneSummarizer<Player, List<HexPlaneCoord>> {
+  private final Player player;
+  private final OpeningBook book;
+
+  /**
+   * Create a new {@link OpeningBookStrategySummarizer} given the player to find moves for and the
+   * book to look them up in.
+   *
+   * @param player the player to find moves for, who must be the player to move
+   * @param book   the opening book
+   * @throws NullPointerException if any argument is null
+   */
+  public OpeningBookStrategySummarizer(Player player, OpeningBook book) {
+    this.player = Objects.requireNonNull(player);
+    this.book = Objects.requireNonNull(book);
+  }
+
+  @Override
+  public List<HexPlaneCoord> apply(HexPlane<Player> plane)
+      throws NullPointerException, IndexOutOfBoundsException {
+    List<HexPlaneCoord> moves = new ArrayList<>();
+    OptionalInt move = book.move(Objects.requireNonNull(plane), player);
+    // a hash collision could name any cell, so only a legal move is trusted
+    if (move.isPresent()) {
+      CompactBoard board = new CompactBoard(plane, player);
+      if (board.isLegal(move.getAsInt())) {
+        moves.add(board.getTable().coordAt(move.getAsInt()));
+      }
+    }
+    return moves;
+  }
+}
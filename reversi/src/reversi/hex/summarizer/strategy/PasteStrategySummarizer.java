@@ -1,5 +1,6 @@
 package reversi.hex.summarizer.strategy;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -7,9 +8,10 @@ import java.util.stream.Collectors;
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.CachingSummarizer;
 import reversi.hex.summarizer.HexPlaneSummarizer;
-import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
-import reversi.hex.summarizer.reversiinfo.PointsFromMoveAtPointSummarizer;
+import reversi.hex.summarizer.reversiinfo.ScoredMove;
+import reversi.hex.summarizer.reversiinfo.ScoredMovesSummarizer;
 
 /**
  * The {@link PasteStrategySummarizer} is the opposite of the {@link GreedyStrategySummarizer};
@@ -33,13 +35,29 @@ public class PasteStrategySummarizer
   @Override
   public List<HexPlaneCoord> apply(HexPlane<Player> plane)
       throws NullPointerException, IndexOutOfBoundsException {
-    List<HexPlaneCoord> moves = new PlayerPossibleMovesSummarizer(player).apply(plane);
-    // when moves are added to retList the uppermost-leftmost coordinate is added first.
-
+    List<ScoredMove> moves =
+        new CachingSummarizer<>(new ScoredMovesSummarizer(player)).apply(plane);
+    // the sort is stable, so among equal points the uppermost-leftmost coordinate stays first
     return moves.stream()
-        .sorted((coord1, coord2) ->
-            new PointsFromMoveAtPointSummarizer(coord1, player).apply(plane)
-                - new PointsFromMoveAtPointSummarizer(coord2, player).apply(plane))
+        .sorted(Comparator.comparingInt(ScoredMove::getPoints))
+        .map(ScoredMove::getCoordinate)
         .collect(Collectors.toList());
   }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    PasteStrategySummarizer that = (PasteStrategySummarizer) o;
+    return player.equals(that.player);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), player);
+  }
 }
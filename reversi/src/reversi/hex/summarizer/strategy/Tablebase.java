@@ -0,0 +1,361 @@
+package reversi.hex.summarizer.strategy;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexSymmetry;
+import reversi.hex.plane.CompactBoard;
+import reversi.model.ReversiModel;
+
+/**
+ * A Tablebase holds the value, under perfect play by both players, of every position that can be
+ * reached from the starting ring of a small board. The value of a position is the final difference
+ * in pieces, from the point of view of the player to move. Positions that are images of one another
+ * under one of the twelve symmetries of the board (see {@link HexSymmetry}) share one entry.
+ *
+ * <p>Tablebases are computed offline by {@link #build(int, Path)}, which writes them to a binary
+ * file, and read with {@link #open(Path)}, which maps the file into memory instead of reading it;
+ * a lookup is a hash of the position and usually a single probe. The file holds a header of the
+ * magic number {@code HXTB}, the format version, the radius of the board and the number of slots,
+ * followed by one {@code long} key per slot and then one {@code byte} value per slot. A key packs
+ * the cells of each player and the player to move; a key of 0 marks an empty slot.
+ *
+ * <p>Keys pack two bits per cell into a {@code long}, so only boards of at most
+ * {@link #MAX_CELLS} cells (radius 2, the board of {@code new ReversiModel(3)}) are supported. The
+ * next size up, radius 3, has 37 cells and far too many positions to enumerate this way.
+ */
+public final class Tablebase {
+  /**
+   * The most cells a board may have to have a tablebase.
+   */
+  public static final int MAX_CELLS = 31;
+
+  private static final int MAGIC = 0x48585442;
+  private static final int VERSION = 1;
+  private static final int HEADER_BYTES = 24;
+  private static final byte UNKNOWN = Byte.MIN_VALUE;
+
+  private final int radius;
+  private final HexSymmetry symmetry;
+  private final ByteBuffer data;
+  private final int capacity;
+  private final long entries;
+
+  private Tablebase(ByteBuffer data) throws IOException {
+    this.data = data;
+    if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC || data.getInt(4) != VERSION) {
+      throw new IOException("Tablebase: not a tablebase file of version " + VERSION);
+    }
+    this.radius = data.getInt(8);
+    this.capacity = data.getInt(12);
+    this.entries = data.getLong(16);
+    if (radius < 0 || Integer.bitCount(capacity) != 1
+        || data.capacity() != HEADER_BYTES + 9L * capacity) {
+      throw new IOException("Tablebase: corrupt header");
+    }
+    this.symmetry = HexSymmetry.forRadius(radius);
+  }
+
+  /**
+   * Open a tablebase file written by {@link #build(int, Path)}. The file is mapped into memory, so
+   * opening it is cheap and only the parts that are looked up are ever read.
+   *
+   * @param file the tablebase file
+   * @return the tablebase
+   * @throws IOException          if the file cannot be read or is not a tablebase
+   * @throws NullPointerException if the file is null
+   */
+  public static Tablebase open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(Objects.requireNonNull(file),
+        StandardOpenOption.READ)) {
+      return new Tablebase(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Gets the radius of the board this tablebase is for, using the convention of
+   * {@link reversi.hex.plane.HexPlane#getRadius()}.
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * Gets the number of positions in this tablebase, counting positions that are images of one
+   * another under a symmetry once.
+   */
+  public long size() {
+    return entries;
+  }
+
+  /**
+   * Look up the value of a position.
+   *
+   * @param board the position, with the player to move
+   * @return the final difference in pieces for the player to move under perfect play, or empty if
+   *     the position cannot be reached from the starting ring
+   * @throws IllegalArgumentException if the board is not of this tablebase's radius
+   * @throws NullPointerException     if the board is null
+   */
+  public OptionalInt value(CompactBoard board) {
+    if (Objects.requireNonNull(board).getTable() != symmetry.getTable()) {
+      throw new IllegalArgumentException("Tablebase: board is not of radius " + radius);
+    }
+    long key = key(symmetry, board);
+    int mask = capacity - 1;
+    for (int slot = slot(key, capacity); ; slot = slot + 1 & mask) {
+      long found = data.getLong(HEADER_BYTES + 8 * slot);
+      if (found == key) {
+        return OptionalInt.of(data.get(HEADER_BYTES + 8 * capacity + slot));
+      }
+      if (found == 0) {
+        return OptionalInt.empty();
+      }
+    }
+  }
+
+  /**
+   * Solve every position reachable from the starting ring of a board and write the tablebase to a
+   * file. Positions are found by playing every move from the starting ring (with either player
+   * moving first), and are then solved backwards, from the positions with the most pieces to those
+   * with the fewest: every move adds exactly one piece, so the moves from a position always lead
+   * to positions that have already been solved.
+   *
+   * @param radius the radius of the board, using the convention of
+   *               {@link reversi.hex.plane.HexPlane#getRadius()}
+   * @param file   the file to write, which is replaced if it exists
+   * @return the number of positions written
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if the board has more than {@link #MAX_CELLS} cells, or no
+   *                                  starting ring
+   */
+  public static long build(int radius, Path file) throws IOException {
+    HexSymmetry symmetry = HexSymmetry.forRadius(radius);
+    int cells = symmetry.getTable().size();
+    if (cells > MAX_CELLS || radius < 1) {
+      throw new IllegalArgumentException("Tablebase: boards of radius " + radius
+          + " are not supported");
+    }
+    Table values = new Table();
+    // layers[p] lists the keys of the positions with p pieces, in the order they were found
+    LongList[] layers = new LongList[cells + 1];
+    for (int pieces = 0; pieces <= cells; pieces++) {
+      layers[pieces] = new LongList();
+    }
+    for (Player first : Player.values()) {
+      CompactBoard start = new CompactBoard(
+          new ReversiModel(radius + 1, first).getHexPlane(), first);
+      long key = key(symmetry, start);
+      if (values.add(key)) {
+        layers[pieces(key, cells)].add(key);
+      }
+    }
+
+    // find every position, a layer at a time; passes add to the layer being walked
+    int[] moves = new int[cells];
+    for (int pieces = 0; pieces <= cells; pieces++) {
+      LongList layer = layers[pieces];
+      for (int i = 0; i < layer.size(); i++) {
+        CompactBoard board = decode(radius, layer.get(i));
+        int count = board.legalMoves(moves);
+        if (count == 0 && !board.isGameOver()) {
+          board.pass();
+          long key = key(symmetry, board);
+          if (values.add(key)) {
+            layer.add(key);
+          }
+        }
+        for (int m = 0; m < count; m++) {
+          CompactBoard child = new CompactBoard(board);
+          child.play(moves[m]);
+          long key = key(symmetry, child);
+          if (values.add(key)) {
+            layers[pieces + 1].add(key);
+          }
+        }
+      }
+    }
+
+    // solve backwards; positions that must pass are solved after the positions they pass to
+    for (int pieces = cells; pieces >= 0; pieces--) {
+      LongList layer = layers[pieces];
+      LongList passing = new LongList();
+      for (int i = 0; i < layer.size(); i++) {
+        long key = layer.get(i);
+        CompactBoard board = decode(radius, key);
+        int count = board.legalMoves(moves);
+        if (count == 0) {
+          if (board.isGameOver()) {
+            Player toMove = board.getPlayer();
+            values.put(key, (byte) (board.count(toMove) - board.count(toMove.getOther())));
+          } else {
+            passing.add(key);
+          }
+          continue;
+        }
+        int best = Integer.MIN_VALUE;
+        for (int m = 0; m < count; m++) {
+          CompactBoard child = new CompactBoard(board);
+          child.play(moves[m]);
+          best = Math.max(best, -values.get(key(symmetry, child)));
+        }
+        values.put(key, (byte) best);
+      }
+      for (int i = 0; i < passing.size(); i++) {
+        long key = passing.get(i);
+        CompactBoard board = decode(radius, key);
+        board.pass();
+        values.put(key, (byte) -values.get(key(symmetry, board)));
+      }
+    }
+    values.write(radius, file);
+    return values.size;
+  }
+
+  // the smallest packed key of the images of the position under every symmetry
+  private static long key(HexSymmetry symmetry, CompactBoard board) {
+    int cells = symmetry.getTable().size();
+    long player1 = board.getBits(Player.PLAYER1)[0];
+    long player2 = board.getBits(Player.PLAYER2)[0];
+    long side = board.getPlayer() == Player.PLAYER2 ? 1L << 2 * cells : 0;
+    long best = Long.MAX_VALUE;
+    for (int sym = 0; sym < HexSymmetry.COUNT; sym++) {
+      best = Math.min(best, map(symmetry, sym, player1) | map(symmetry, sym, player2) << cells
+          | side);
+    }
+    return best;
+  }
+
+  private static long map(HexSymmetry symmetry, int sym, long cells) {
+    long mapped = 0;
+    while (cells != 0) {
+      mapped |= 1L << symmetry.map(sym, Long.numberOfTrailingZeros(cells));
+      cells &= cells - 1;
+    }
+    return mapped;
+  }
+
+  private static CompactBoard decode(int radius, long key) {
+    int cells = HexSymmetry.forRadius(radius).getTable().size();
+    long cellMask = (1L << cells) - 1;
+    Player toMove = (key >>> 2 * cells & 1) == 0 ? Player.PLAYER1 : Player.PLAYER2;
+    return new CompactBoard(radius, new long[]{key & cellMask},
+        new long[]{key >>> cells & cellMask}, toMove);
+  }
+
+  private static int pieces(long key, int cells) {
+    return Long.bitCount(key & (1L << 2 * cells) - 1);
+  }
+
+  private static int slot(long key, int capacity) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(capacity)));
+  }
+
+  /**
+   * An open-addressing hash table from keys to values, laid out the same way as the file.
+   */
+  private static final class Table {
+    private long[] keys = new long[1 << 10];
+    private byte[] values = new byte[1 << 10];
+    private long size;
+
+    // add a key with an unknown value, returning whether it was new
+    private boolean add(long key) {
+      int slot = find(key);
+      if (keys[slot] == key) {
+        return false;
+      }
+      keys[slot] = key;
+      values[slot] = UNKNOWN;
+      if (++size * 2 > keys.length) {
+        grow();
+      }
+      return true;
+    }
+
+    private byte get(long key) {
+      int slot = find(key);
+      if (keys[slot] != key || values[slot] == UNKNOWN) {
+        throw new IllegalStateException("Tablebase: position solved out of order");
+      }
+      return values[slot];
+    }
+
+    private void put(long key, byte value) {
+      values[find(key)] = value;
+    }
+
+    // the slot holding the key, or the empty slot where it belongs
+    private int find(long key) {
+      int mask = keys.length - 1;
+      int slot = slot(key, keys.length);
+      while (keys[slot] != 0 && keys[slot] != key) {
+        slot = slot + 1 & mask;
+      }
+      return slot;
+    }
+
+    private void grow() {
+      long[] oldKeys = keys;
+      byte[] oldValues = values;
+      keys = new long[oldKeys.length * 2];
+      values = new byte[oldKeys.length * 2];
+      for (int slot = 0; slot < oldKeys.length; slot++) {
+        if (oldKeys[slot] != 0) {
+          int target = find(oldKeys[slot]);
+          keys[target] = oldKeys[slot];
+          values[target] = oldValues[slot];
+        }
+      }
+    }
+
+    private void write(int radius, Path file) throws IOException {
+      try (OutputStream stream = Files.newOutputStream(file);
+           DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(radius);
+        out.writeInt(keys.length);
+        out.writeLong(size);
+        for (long key : keys) {
+          out.writeLong(key);
+        }
+        out.write(values);
+      }
+    }
+  }
+
+  /**
+   * A growable list of keys.
+   */
+  private static final class LongList {
+    private long[] items = new long[16];
+    private int size;
+
+    private void add(long item) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      items[size++] = item;
+    }
+
+    private long get(int index) {
+      return items[index];
+    }
+
+    private int size() {
+      return size;
+    }
+  }
+}
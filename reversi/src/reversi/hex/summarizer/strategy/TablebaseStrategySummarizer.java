@@ -0,0 +1,74 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalInt;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.CompactBoard;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.HexPlaneSummarizer;
+
+/**
+ * A Summarizer that plays perfectly by looking up every move in a {@link Tablebase}. Moves are
+ * returned from best to worst for the player, by the final difference in pieces they lead to with
+ * perfect play. If the board is not the size of the tablebase, or a move leads to a position the
+ * tablebase does not hold, it returns an empty list instead, so that another strategy can choose
+ * the move (see {@link reversi.controller.agent.AgentBuilder.MaybeAgentBuilder#andThen}).
+ */
+public class TablebaseStrategySummarizer
+    implements HexPlaneSummarizer<Player, List<HexPlaneCoord>> {
+  private final Player player;
+  private final Tablebase tablebase;
+
+  /**
+   * Create a new {@link TablebaseStrategySummarizer} given the player to find moves for and the
+   * tablebase to look them up in.
+   *
+   * @param player    the player to find moves for, who must be the player to move
+   * @param tablebase the solved positions
+   * @throws NullPointerException if any argument is null
+   */
+  public TablebaseStrategySummarizer(Player player, Tablebase tablebase) {
+    this.player = Objects.requireNonNull(player);
+    this.tablebase = Objects.requireNonNull(tablebase);
+  }
+
+  @Override
+  public List<HexPlaneCoord> apply(HexPlane<Player> plane)
+      throws NullPointerException, IndexOutOfBoundsException {
+    if (Objects.requireNonNull(plane).getRadius() != tablebase.getRadius()) {
+      return new ArrayList<>();
+    }
+    CompactBoard board = new CompactBoard(plane, player);
+    int[] moves = new int[board.getTable().size()];
+    int count = board.legalMoves(moves);
+    List<HexPlaneCoord> ordered = new ArrayList<>();
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      CompactBoard child = new CompactBoard(board);
+      child.play(moves[i]);
+      OptionalInt value = tablebase.value(child);
+      if (value.isEmpty()) {
+        return new ArrayList<>();
+      }
+      ordered.add(board.getTable().coordAt(moves[i]));
+      // the value is for the opponent, who moves next
+      values.add(-value.getAsInt());
+    }
+    // best first; the sort is stable, so equally good moves stay in index order
+    List<Integer> order = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      order.add(i);
+    }
+    order.sort(Comparator.comparingInt((Integer i) -> -values.get(i)));
+    List<HexPlaneCoord> best = new ArrayList<>();
+    for (int i : order) {
+      best.add(ordered.get(i));
+    }
+    return best;
+  }
+}
@@ -0,0 +1,121 @@
+package reversi.hex.summarizer.strategy;
+
+import java.util.Arrays;
+
+/**
+ * A TranspositionTable remembers the results of searching positions, keyed by their 64-bit hash
+ * (see {@link reversi.model.ReadOnlyReversiModel#getPositionHash()}). Each slot holds one entry:
+ * the value found for the position, the depth it was searched to, whether the value is exact or a
+ * bound, and the best move found. Entries are packed into a single {@code long} so that a probe is
+ * two array reads; a newer entry always replaces the one in its slot.
+ *
+ * <p>The table may be shared by several searching threads without locking. Each slot stores the
+ * entry next to the hash XORed with the entry, and a probe only accepts an entry whose two words
+ * XOR back to the hash it asked for. A slot being written by one thread while another reads it
+ * therefore reads as missing instead of as a mix of two entries.
+ */
+public final class TranspositionTable {
+  /**
+   * Returned by {@link #probe(long)} when the table has no entry for a position.
+   */
+  public static final long MISSING = -1L;
+  /**
+   * The stored value is the exact value of the position.
+   */
+  public static final int EXACT = 0;
+  /**
+   * The stored value is a lower bound on the value of the position (the search failed high).
+   */
+  public static final int LOWER = 1;
+  /**
+   * The stored value is an upper bound on the value of the position (the search failed low).
+   */
+  public static final int UPPER = 2;
+
+  private final long[] keys;
+  private final long[] entries;
+  private final int mask;
+
+  /**
+   * Create a new, empty TranspositionTable with {@code 2^log2Size} slots.
+   *
+   * @param log2Size the base two logarithm of the number of slots
+   * @throws IllegalArgumentException if log2Size is not between 1 and 30
+   */
+  public TranspositionTable(int log2Size) {
+    if (log2Size < 1 || log2Size > 30) {
+      throw new IllegalArgumentException("TranspositionTable: size must be between 2^1 and 2^30");
+    }
+    this.keys = new long[1 << log2Size];
+    this.entries = new long[1 << log2Size];
+    this.mask = (1 << log2Size) - 1;
+    Arrays.fill(entries, MISSING);
+  }
+
+  /**
+   * Look up the entry for a position.
+   *
+   * @param hash the hash of the position
+   * @return the packed entry, or {@link #MISSING} if there is none; unpack it with
+   *     {@link #value(long)}, {@link #depth(long)}, {@link #flag(long)} and {@link #move(long)}
+   */
+  public long probe(long hash) {
+    int slot = slot(hash);
+    long entry = entries[slot];
+    if (entry == MISSING || (keys[slot] ^ entry) != hash) {
+      return MISSING;
+    }
+    return entry;
+  }
+
+  /**
+   * Remember the result of searching a position.
+   *
+   * @param hash  the hash of the position
+   * @param depth the depth the position was searched to, from 0 to 255
+   * @param value the value found
+   * @param flag  one of {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   * @param move  the cell index of the best move found, or -1 if there is none
+   */
+  public void store(long hash, int depth, int value, int flag, int move) {
+    int slot = slot(hash);
+    long entry = (value & 0xFFFFFFFFL)
+        | (long) (Math.min(depth, 255)) << 32
+        | (long) flag << 40
+        | (long) (move + 1 & 0xFFFF) << 42;
+    entries[slot] = entry;
+    keys[slot] = hash ^ entry;
+  }
+
+  /**
+   * Gets the value of a packed entry.
+   */
+  public static int value(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * Gets the depth of a packed entry.
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> 32) & 0xFF;
+  }
+
+  /**
+   * Gets the flag of a packed entry.
+   */
+  public static int flag(long entry) {
+    return (int) (entry >>> 40) & 0x3;
+  }
+
+  /**
+   * Gets the best move of a packed entry, or -1 if it has none.
+   */
+  public static int move(long entry) {
+    return ((int) (entry >>> 42) & 0xFFFF) - 1;
+  }
+
+  private int slot(long hash) {
+    return (int) (hash ^ hash >>> 32) & mask;
+  }
+}
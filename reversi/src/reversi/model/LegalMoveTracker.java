@@ -0,0 +1,146 @@
+package reversi.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
+
+/**
+ * A LegalMoveTracker keeps the set of legal moves of both players for a {@link BitboardHexPlane}.
+ * After a move, only the empty cells at the end of the rays leading away from the placed and
+ * flipped cells can change legality, so only those cells are checked again rather than the whole
+ * board.
+ */
+final class LegalMoveTracker {
+  private final FlipEngine engine;
+  private final HexCoordTable table;
+  private final long[] player1;
+  private final long[] player2;
+  // scratch space for the cells to check again during an update
+  private final long[] dirty;
+
+  /**
+   * Create a new LegalMoveTracker, computing the legal moves of the plane from scratch.
+   *
+   * @param plane the plane to track
+   */
+  LegalMoveTracker(BitboardHexPlane plane) {
+    this.engine = FlipEngine.forPlane(plane);
+    this.table = engine.getTable();
+    int words = (table.size() + 63) / 64;
+    this.player1 = new long[words];
+    this.player2 = new long[words];
+    this.dirty = new long[words];
+    for (int i = 0; i < table.size(); i++) {
+      recheck(plane, i);
+    }
+  }
+
+  /**
+   * Create a new LegalMoveTracker with the same legal moves as another, for a copy of its plane.
+   *
+   * @param other the tracker to copy
+   */
+  LegalMoveTracker(LegalMoveTracker other) {
+    this.engine = other.engine;
+    this.table = other.table;
+    this.player1 = other.player1.clone();
+    this.player2 = other.player2.clone();
+    this.dirty = new long[other.dirty.length];
+  }
+
+  /**
+   * Update the legal moves after the given cells of the plane have changed owner or been filled
+   * (or emptied, when a move is undone).
+   *
+   * @param plane   the tracked plane, after the change
+   * @param move    the index of the cell that was filled or emptied
+   * @param flipped holds the indices of the cells that changed owner
+   * @param offset  where in flipped the indices start
+   * @param length  how many indices there are
+   */
+  void update(BitboardHexPlane plane, int move, int[] flipped, int offset, int length) {
+    markAround(plane, move);
+    for (int i = offset; i < offset + length; i++) {
+      markAround(plane, flipped[i]);
+    }
+    for (int word = 0; word < dirty.length; word++) {
+      while (dirty[word] != 0) {
+        int bit = Long.numberOfTrailingZeros(dirty[word]);
+        dirty[word] &= dirty[word] - 1;
+        recheck(plane, word * 64 + bit);
+      }
+    }
+  }
+
+  /**
+   * Return whether the given player has at least one legal move.
+   */
+  boolean hasLegalMoves(Player player) {
+    for (long word : bits(player)) {
+      if (word != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Count the legal moves of the given player.
+   */
+  int countLegalMoves(Player player) {
+    int count = 0;
+    for (long word : bits(player)) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Get the legal moves of the given player, from the uppermost-leftmost to the bottommost-rightmost
+   * cell.
+   */
+  List<HexPlaneCoord> getPossibleMoves(Player player) {
+    long[] bits = bits(player);
+    List<HexPlaneCoord> moves = new ArrayList<>();
+    for (int pos = 0; pos < table.size(); pos++) {
+      int index = table.diagonalOrder(pos);
+      if ((bits[index >>> 6] & (1L << index)) != 0) {
+        moves.add(table.coordAt(index));
+      }
+    }
+    return moves;
+  }
+
+  private void markAround(BitboardHexPlane plane, int index) {
+    dirty[index >>> 6] |= 1L << index;
+    for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+      int empty = engine.firstEmpty(plane, index, dir);
+      if (empty >= 0) {
+        dirty[empty >>> 6] |= 1L << empty;
+      }
+    }
+  }
+
+  private void recheck(BitboardHexPlane plane, int index) {
+    long mask = 1L << index;
+    if (engine.isLegal(plane, index, Player.PLAYER1)) {
+      player1[index >>> 6] |= mask;
+    } else {
+      player1[index >>> 6] &= ~mask;
+    }
+    if (engine.isLegal(plane, index, Player.PLAYER2)) {
+      player2[index >>> 6] |= mask;
+    } else {
+      player2[index >>> 6] &= ~mask;
+    }
+  }
+
+  private long[] bits(Player player) {
+    return player == Player.PLAYER1 ? player1 : player2;
+  }
+}
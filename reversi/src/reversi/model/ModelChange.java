@@ -0,0 +1,171 @@
+package reversi.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+
+/**
+ * A ModelChange describes a single action made on a {@link MutableReversiModel}: a move, a pass,
+ * or the undoing of one of them. It lists exactly the cells whose contents changed, so that
+ * whoever follows the model only needs to look at those cells again, without reading the model:
+ * every changed cell is either emptied ({@link #getRemoved()}) or now belongs to
+ * {@link #getOwner()}.
+ *
+ * <p>Changes are reported to {@link ModelChangeListener}s right after they are made, on the thread
+ * that made them.
+ */
+public final class ModelChange {
+  private static final int[] NONE = new int[0];
+
+  private final HexCoordTable table;
+  private final int placed;
+  private final int removed;
+  private final int[] flipped;
+  private final Player player;
+  private final int turnCount;
+
+  private ModelChange(HexCoordTable table, int placed, int removed, int[] flipped,
+                      Player player, int turnCount) {
+    this.table = table;
+    this.placed = placed;
+    this.removed = removed;
+    this.flipped = flipped;
+    this.player = Objects.requireNonNull(player);
+    this.turnCount = turnCount;
+  }
+
+  /**
+   * Create the change of a move. The flipped indices are kept, not copied.
+   *
+   * @param table     the table of the board the move was made on
+   * @param index     the index of the cell the piece was placed on
+   * @param flipped   the indices of the cells the move flipped
+   * @param player    the player whose turn it is after the move
+   * @param turnCount the number of actions made after the move
+   * @return the change
+   */
+  static ModelChange move(HexCoordTable table, int index, int[] flipped, Player player,
+                          int turnCount) {
+    return new ModelChange(table, index, -1, flipped, player, turnCount);
+  }
+
+  /**
+   * Create the change of a pass, or of undoing one, which changes no cells.
+   *
+   * @param table     the table of the board the pass was made or undone on
+   * @param player    the player whose turn it is afterwards
+   * @param turnCount the number of actions made afterwards
+   * @return the change
+   */
+  static ModelChange pass(HexCoordTable table, Player player, int turnCount) {
+    return new ModelChange(table, -1, -1, NONE, player, turnCount);
+  }
+
+  /**
+   * Create the change of undoing a move, which empties the cell it was made on and flips its
+   * pieces back. The flipped indices are kept, not copied.
+   *
+   * @param table     the table of the board the move was undone on
+   * @param index     the index of the cell the move was made on
+   * @param flipped   the indices of the cells the move had flipped
+   * @param player    the player whose turn it is after the undo
+   * @param turnCount the number of actions left after the undo
+   * @return the change
+   */
+  static ModelChange undoMove(HexCoordTable table, int index, int[] flipped, Player player,
+                              int turnCount) {
+    return new ModelChange(table, -1, index, flipped, player, turnCount);
+  }
+
+  /**
+   * Gets the cell a piece was placed on, if the change was a move.
+   */
+  public Optional<HexPlaneCoord> getPlaced() {
+    return placed < 0 ? Optional.empty() : Optional.of(table.coordAt(placed));
+  }
+
+  /**
+   * Gets the cell that was emptied, if the change undid a move.
+   */
+  public Optional<HexPlaneCoord> getRemoved() {
+    return removed < 0 ? Optional.empty() : Optional.of(table.coordAt(removed));
+  }
+
+  /**
+   * Gets the cells whose pieces changed owner, in no particular order.
+   */
+  public List<HexPlaneCoord> getFlipped() {
+    return new CoordList(flipped, -1);
+  }
+
+  /**
+   * Gets every cell whose contents changed: the cell placed on or emptied, if any, followed by the
+   * flipped cells. A pass changes no cells.
+   */
+  public List<HexPlaneCoord> getChanged() {
+    return new CoordList(flipped, Math.max(placed, removed));
+  }
+
+  /**
+   * Gets the owner of every changed cell after the change, other than a cell that was emptied.
+   * This is the player who is not to move next: the player who made the move, or, for an undone
+   * move, the player whose pieces were flipped back.
+   */
+  public Player getOwner() {
+    return player.getOther();
+  }
+
+  /**
+   * Gets the player whose turn it is after the change.
+   */
+  public Player getPlayer() {
+    return player;
+  }
+
+  /**
+   * Gets the number of actions that can be undone after the change (see
+   * {@link MutableReversiModel#getTurnCount()}).
+   */
+  public int getTurnCount() {
+    return turnCount;
+  }
+
+  @Override
+  public String toString() {
+    return "ModelChange{placed=" + getPlaced().orElse(null)
+        + ", removed=" + getRemoved().orElse(null)
+        + ", flipped=" + getFlipped()
+        + ", player=" + player
+        + ", turnCount=" + turnCount + "}";
+  }
+
+  // a read-only list of the coordinates of some indices, after an optional first index
+  private final class CoordList extends AbstractList<HexPlaneCoord> {
+    private final int[] indices;
+    private final int first;
+
+    CoordList(int[] indices, int first) {
+      this.indices = indices;
+      this.first = first;
+    }
+
+    @Override
+    public HexPlaneCoord get(int i) {
+      Objects.checkIndex(i, size());
+      if (first < 0) {
+        return table.coordAt(indices[i]);
+      }
+      return table.coordAt(i == 0 ? first : indices[i - 1]);
+    }
+
+    @Override
+    public int size() {
+      return first < 0 ? indices.length : indices.length + 1;
+    }
+  }
+}
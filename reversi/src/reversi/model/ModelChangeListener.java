@@ -0,0 +1,18 @@
+package reversi.model;
+
+/**
+ * A ModelChangeListener is told about every action made on a model it is registered with (see
+ * {@link ReadOnlyReversiModel#addChangeListener(ModelChangeListener)}). Listeners are called on
+ * the thread that made the change, after the change is complete, in the order they were added.
+ * They must not change the model themselves.
+ */
+@FunctionalInterface
+public interface ModelChangeListener {
+
+  /**
+   * React to a change of the model.
+   *
+   * @param change the change that was made
+   */
+  void modelChanged(ModelChange change);
+}
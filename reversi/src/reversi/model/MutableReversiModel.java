@@ -35,6 +35,31 @@ public interface MutableReversiModel extends ReadOnlyReversiModel<Player> {
   void passAsPlayer(Player player)
       throws IllegalStateException;
 
+  /**
+   * Undo the most recent move or pass, restoring the board and the active player to what they were
+   * before it. Only the pieces changed by the action are touched, so making a move and undoing it
+   * is an inexpensive way to explore a position in place.
+   *
+   * @throws IllegalStateException if there is no action to undo
+   */
+  void undo() throws IllegalStateException;
+
+  /**
+   * Undo actions until only the given number of them remain, i.e. rewind the game to how it was
+   * after that many moves and passes.
+   *
+   * @param turn the number of actions to keep
+   * @throws IllegalArgumentException if turn is negative or greater than {@link #getTurnCount()}
+   */
+  void rewindTo(int turn) throws IllegalArgumentException;
+
+  /**
+   * Get the number of moves and passes that can be undone.
+   *
+   * @return the number of actions made on this model
+   */
+  int getTurnCount();
+
   /**
    * Get the player whose turn it is.
    *
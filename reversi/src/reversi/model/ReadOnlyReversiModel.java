@@ -1,6 +1,8 @@
 package reversi.model;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import reversi.controller.Player;
 import reversi.hex.coordinates.HexIndexable;
@@ -33,6 +35,107 @@ public interface ReadOnlyReversiModel<T> extends HexIndexable<T> {
    */
   Player getPlayer();
 
+  /**
+   * Get the moves the given player could legally make on the current board, regardless of whose
+   * turn it is. The moves are ordered from the uppermost-leftmost to the bottommost-rightmost
+   * coordinate, the same as a
+   * {@link reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer} applied to
+   * {@link #getHexPlane()}.
+   *
+   * @param player the player to get the moves of
+   * @return the legal moves of the player, empty if there are none
+   * @throws NullPointerException if the player is null
+   */
+  List<HexPlaneCoord> getPossibleMoves(Player player);
+
+  /**
+   * Return whether the given player could make any legal move on the current board, regardless of
+   * whose turn it is.
+   *
+   * @param player the player to check
+   * @return true iff the player has a legal move
+   * @throws NullPointerException if the player is null
+   */
+  boolean hasLegalMoves(Player player);
+
+  /**
+   * Count the legal moves the given player could make on the current board, regardless of whose
+   * turn it is. This is the size of {@link #getPossibleMoves(Player)}, without building the list.
+   *
+   * @param player the player to count the moves of
+   * @return the number of legal moves of the player
+   * @throws NullPointerException if the player is null
+   */
+  int countLegalMoves(Player player);
+
+  /**
+   * Get the number of pieces the given player has on the board.
+   *
+   * @param player the player to get the score of
+   * @return the number of pieces the player has
+   * @throws NullPointerException if the player is null
+   */
+  int getScore(Player player);
+
+  /**
+   * Get the coordinates of the pieces the given player has on the board. The returned set is a
+   * read-only view that follows the model as moves are made; copy it to keep a snapshot.
+   *
+   * @param player the player to get the pieces of
+   * @return the coordinates of the player's pieces
+   * @throws NullPointerException if the player is null
+   */
+  Set<HexPlaneCoord> getPieces(Player player);
+
+  /**
+   * Get a 64-bit hash of the current position, i.e. the board and the player to move. Equal
+   * positions always have equal hashes, and unequal positions almost never do, so the hash is
+   * suitable as a key for caches and transposition tables. It is kept up to date as moves are
+   * made, so it is cheap to call.
+   *
+   * @return the hash of the position
+   */
+  long getPositionHash();
+
+  /**
+   * Get a 64-bit hash of the current position that is the same for every rotation and reflection
+   * of the board (see {@link reversi.hex.coordinates.HexSymmetry}), with the same player to move.
+   * Such positions are equally good for the player to move, so caches, transposition tables and
+   * opening books keyed on this hash can share one entry between them. Moves stored alongside it
+   * should be stored in the canonical orientation, see {@link #getCanonicalSymmetry()}.
+   *
+   * @return the canonical hash of the position
+   */
+  long getCanonicalPositionHash();
+
+  /**
+   * Get the symmetry that moves the board to the orientation that
+   * {@link #getCanonicalPositionHash()} describes. A move on the board is translated to that
+   * orientation with {@link reversi.hex.coordinates.HexSymmetry#map(int, HexPlaneCoord)}, and back
+   * again with the inverse of this symmetry.
+   *
+   * @return the symmetry, from 0 (inclusive) to
+   *     {@link reversi.hex.coordinates.HexSymmetry#COUNT} (exclusive)
+   */
+  int getCanonicalSymmetry();
+
+  /**
+   * Register a listener to be told about every move, pass and undo made on this model from now
+   * on, with the cells each one changed (see {@link ModelChange}). Followers of the model, such as
+   * views, can use it to update only what changed instead of reading the whole board again.
+   *
+   * @param listener the listener to add
+   * @throws NullPointerException if the listener is null
+   */
+  void addChangeListener(ModelChangeListener listener);
+
+  /**
+   * Stop telling a listener about changes to this model. Does nothing if it was not registered.
+   *
+   * @param listener the listener to remove
+   */
+  void removeChangeListener(ModelChangeListener listener);
+
   @Override
   Optional<T> getAtHex(HexPlaneCoord coordinate)
       throws IndexOutOfBoundsException, NullPointerException;
@@ -4,14 +4,17 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import reversi.controller.Player;
 import reversi.exceptions.MoveOutOfBoundsException;
 import reversi.hex.coordinates.CubicalCoordinate;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
-import reversi.hex.plane.HexPlaneImpl;
-import reversi.hex.summarizer.reversiinfo.CoordsToFlipGivenMoveSummarizer;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.plane.FlipEngine;
+import reversi.hex.plane.ZobristKeys;
 
 /**
  * A ReversiModel implements the game logic behind a game of Reversi. It is the Model of the Model
@@ -19,6 +22,9 @@ import reversi.hex.summarizer.reversiinfo.CoordsToFlipGivenMoveSummarizer;
  *
  * <p>Upon any invalid moves, the Model will throw an exception.
  *
+ * <p>Every move, pass and undo is reported to the registered {@link ModelChangeListener}s. A model
+ * without listeners, such as one a search explores positions on, builds no change at all.
+ *
  * <p>It is recommended to avoid passing Mutable instances of this class where possible; if a
  * {@code ReadOnlyReversiModel<Player>} suffices, avoid mentioning {@link MutableReversiModel}.
  */
@@ -26,8 +32,19 @@ public class ReversiModel implements MutableReversiModel {
   /**
    * Invariant: hexPlane contains no nulls.
    */
-  private final HexPlane<Player> hexPlane;
+  private final BitboardHexPlane hexPlane;
+  private final LegalMoveTracker legalMoves;
   private Player curPlayer;
+  /**
+   * The undo stack, one record per action, each ending with a header. A move pushes the indices it
+   * flipped, the index it was made at, the number of flips, then the header; a pass pushes only
+   * the header. The header is the ordinal of the acting player shifted left once, with the low bit
+   * set for a pass.
+   */
+  private int[] history;
+  private int historySize;
+  private int turnCount;
+  private final List<ModelChangeListener> listeners = new CopyOnWriteArrayList<>();
 
   /**
    * Create a new ReversiModel given the radius of the board. By default, Player1 starts. The board
@@ -50,11 +67,13 @@ public class ReversiModel implements MutableReversiModel {
     if (radius < 1) {
       throw new IllegalArgumentException("Radius passed to ReversiModel must be positive.");
     }
-    this.hexPlane = new HexPlaneImpl<>(radius);
+    this.hexPlane = new BitboardHexPlane(radius);
     // initial state
     this.curPlayer = Player.PLAYER1;
+    this.history = new int[16];
     // only create starting ring if radius > 1
     if (radius == 1) {
+      this.legalMoves = new LegalMoveTracker(this.hexPlane);
       return;
     }
     Player temp = Player.PLAYER2;
@@ -68,6 +87,7 @@ public class ReversiModel implements MutableReversiModel {
       this.hexPlane.setElementAt(coord, temp);
       temp = temp.getOther();
     }
+    this.legalMoves = new LegalMoveTracker(this.hexPlane);
   }
 
   /**
@@ -90,8 +110,24 @@ public class ReversiModel implements MutableReversiModel {
    * @param player   the current active player
    */
   public ReversiModel(HexPlane<Player> hexPlane, Player player) {
-    this.hexPlane = new HexPlaneImpl<>(hexPlane);
+    this.hexPlane = new BitboardHexPlane(hexPlane);
+    this.legalMoves = new LegalMoveTracker(this.hexPlane);
     this.curPlayer = Objects.requireNonNull(player);
+    this.history = new int[16];
+  }
+
+  /**
+   * Create a new ReversiModel with the same board and active player as another. The copy starts
+   * with an empty history, so its first action cannot be undone past.
+   *
+   * @param other the model to copy
+   * @throws NullPointerException if the model is null
+   */
+  public ReversiModel(ReversiModel other) {
+    this.hexPlane = Objects.requireNonNull(other).hexPlane.snapshot();
+    this.legalMoves = new LegalMoveTracker(other.legalMoves);
+    this.curPlayer = other.curPlayer;
+    this.history = new int[16];
   }
 
   @Override
@@ -102,22 +138,34 @@ public class ReversiModel implements MutableReversiModel {
     if (!player.equals(curPlayer)) {
       throw new IllegalStateException("It is not " + player + "'s turn, cannot make an action.");
     }
-    if (!this.hexPlane.getKnownCoords().contains(coordinate)) {
+    int index = this.hexPlane.getTable().indexOf(coordinate);
+    if (index < 0) {
       throw new MoveOutOfBoundsException("MoveOutOfBoundsException: " + coordinate);
     }
-    if (this.hexPlane.getAtHex(coordinate).isPresent()) {
+    if (this.hexPlane.getAtIndex(index).isPresent()) {
       throw new IllegalStateException("Invalid move: can't overwrite existing piece.");
     }
-    List<HexPlaneCoord> toChange = new CoordsToFlipGivenMoveSummarizer(coordinate, player)
-        .apply(new HexPlaneImpl<>(this.hexPlane));
+    int[] toFlip = FlipEngine.forPlane(this.hexPlane).flips(this.hexPlane, index, player);
     // no points to change: invalid move
-    if (toChange.size() == 1) {
+    if (toFlip.length == 0) {
       throw new IllegalStateException("Invalid move: attempted move does not flip any pieces.");
     }
-    for (HexPlaneCoord coord : toChange) {
-      this.hexPlane.setElementAt(coord, player);
+    this.hexPlane.setAtIndex(index, player);
+    for (int flip : toFlip) {
+      this.hexPlane.setAtIndex(flip, player);
     }
+    this.legalMoves.update(this.hexPlane, index, toFlip, 0, toFlip.length);
+    ensureHistory(toFlip.length + 3);
+    System.arraycopy(toFlip, 0, history, historySize, toFlip.length);
+    historySize += toFlip.length;
+    history[historySize++] = index;
+    history[historySize++] = toFlip.length;
+    history[historySize++] = player.ordinal() << 1;
+    turnCount++;
     this.curPlayer = curPlayer.getOther();
+    if (!listeners.isEmpty()) {
+      fireChange(ModelChange.move(hexPlane.getTable(), index, toFlip, curPlayer, turnCount));
+    }
   }
 
   @Override
@@ -126,7 +174,59 @@ public class ReversiModel implements MutableReversiModel {
     if (!player.equals(curPlayer)) {
       throw new IllegalStateException("It is not " + player + "'s turn, cannot make an action.");
     }
+    ensureHistory(1);
+    history[historySize++] = player.ordinal() << 1 | 1;
+    turnCount++;
     this.curPlayer = curPlayer.getOther();
+    if (!listeners.isEmpty()) {
+      fireChange(ModelChange.pass(hexPlane.getTable(), curPlayer, turnCount));
+    }
+  }
+
+  @Override
+  public void undo() throws IllegalStateException {
+    if (turnCount == 0) {
+      throw new IllegalStateException("Invalid undo: there is no action to undo.");
+    }
+    int header = history[--historySize];
+    Player player = Player.values()[header >>> 1];
+    turnCount--;
+    this.curPlayer = player;
+    if ((header & 1) != 0) {
+      if (!listeners.isEmpty()) {
+        fireChange(ModelChange.pass(hexPlane.getTable(), curPlayer, turnCount));
+      }
+      return;
+    }
+    int flipCount = history[--historySize];
+    int index = history[--historySize];
+    historySize -= flipCount;
+    // the flipped cells are read straight from the history, which is only copied for listeners
+    this.hexPlane.removeAtIndex(index);
+    for (int i = historySize; i < historySize + flipCount; i++) {
+      this.hexPlane.setAtIndex(history[i], player.getOther());
+    }
+    this.legalMoves.update(this.hexPlane, index, history, historySize, flipCount);
+    if (!listeners.isEmpty()) {
+      int[] flipped = Arrays.copyOfRange(history, historySize, historySize + flipCount);
+      fireChange(ModelChange.undoMove(hexPlane.getTable(), index, flipped, curPlayer, turnCount));
+    }
+  }
+
+  @Override
+  public void rewindTo(int turn) throws IllegalArgumentException {
+    if (turn < 0 || turn > turnCount) {
+      throw new IllegalArgumentException("Invalid rewind: turn " + turn
+          + " is not between 0 and " + turnCount + ".");
+    }
+    while (turnCount > turn) {
+      undo();
+    }
+  }
+
+  @Override
+  public int getTurnCount() {
+    return turnCount;
   }
 
   @Override
@@ -145,8 +245,72 @@ public class ReversiModel implements MutableReversiModel {
     }
   }
 
+  @Override
+  public List<HexPlaneCoord> getPossibleMoves(Player player) {
+    return legalMoves.getPossibleMoves(Objects.requireNonNull(player));
+  }
+
+  @Override
+  public boolean hasLegalMoves(Player player) {
+    return legalMoves.hasLegalMoves(Objects.requireNonNull(player));
+  }
+
+  @Override
+  public int countLegalMoves(Player player) {
+    return legalMoves.countLegalMoves(Objects.requireNonNull(player));
+  }
+
+  @Override
+  public int getScore(Player player) {
+    return hexPlane.count(player);
+  }
+
+  @Override
+  public Set<HexPlaneCoord> getPieces(Player player) {
+    return hexPlane.coordsOf(player);
+  }
+
+  @Override
+  public long getPositionHash() {
+    long hash = hexPlane.zobristHash();
+    return curPlayer == Player.PLAYER2 ? hash ^ ZobristKeys.SIDE_TO_MOVE : hash;
+  }
+
+  @Override
+  public long getCanonicalPositionHash() {
+    long hash = hexPlane.canonicalHash();
+    return curPlayer == Player.PLAYER2 ? hash ^ ZobristKeys.SIDE_TO_MOVE : hash;
+  }
+
+  @Override
+  public int getCanonicalSymmetry() {
+    return hexPlane.canonicalSymmetry();
+  }
+
   @Override
   public HexPlane<Player> getHexPlane() {
-    return new HexPlaneImpl<>(this.hexPlane);
+    return this.hexPlane.snapshot();
+  }
+
+  @Override
+  public void addChangeListener(ModelChangeListener listener) {
+    listeners.add(Objects.requireNonNull(listener));
+  }
+
+  @Override
+  public void removeChangeListener(ModelChangeListener listener) {
+    listeners.remove(listener);
+  }
+
+  private void fireChange(ModelChange change) {
+    for (ModelChangeListener listener : listeners) {
+      listener.modelChanged(change);
+    }
+  }
+
+  private void ensureHistory(int extra) {
+    if (historySize + extra > history.length) {
+      history = Arrays.copyOf(history, Math.max(history.length * 2, historySize + extra));
+    }
   }
 }
@@ -1,15 +1,17 @@
 package reversi.provider.adapters.controller;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import reversi.command.UnifiedCommand;
 import reversi.command.commands.Move;
 import reversi.command.commands.Pass;
 import reversi.controller.agent.AbsoluteAgent;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.strategy.Deadline;
 import reversi.provider.adapters.hex.ProviderHexCoordAdapter;
 import reversi.provider.adapters.model.ProviderModelAdapter;
-import reversi.provider.model.ReversiModel;
 import reversi.provider.model.board.TileColor;
 import reversi.provider.model.board.TilePosition;
 import reversi.provider.model.players.Player;
@@ -18,12 +20,13 @@ import reversi.provider.model.players.ReversiRobotPlayer;
 /**
  * A {@link ProviderAgentAIAdapter} is an Object Adapter for
  * {@link reversi.controller.agent.AbsoluteAgent}s. It adapts an AbsoluteAgent to be compatible with
- * {@link reversi.provider.model.players.Player}.
+ * {@link reversi.provider.model.players.Player}. The provider's strategies cannot be stopped
+ * early, so deadlines are ignored, but moves are still found off the controller's thread.
  */
 public class ProviderAgentAIAdapter implements Player, AbsoluteAgent {
   private final reversi.provider.model.players.Player agent;
   private final reversi.controller.Player player;
-  private final ReversiModel model;
+  private final ProviderModelAdapter model;
   private final TileColor color;
 
   /**
@@ -63,6 +66,21 @@ public class ProviderAgentAIAdapter implements Player, AbsoluteAgent {
     return new UnifiedCommand(new Move(coord));
   }
 
+  @Override
+  public UnifiedCommand getAndResetCommand(Deadline deadline) {
+    Objects.requireNonNull(deadline);
+    // the provider's strategies do not check whose turn it is
+    if (model.getPlayer() != player) {
+      return new UnifiedCommand(new Pass());
+    }
+    return getAndResetCommand();
+  }
+
+  @Override
+  public CompletableFuture<UnifiedCommand> requestCommand(Deadline deadline, Executor executor) {
+    return AbsoluteAgent.requestOn(this, deadline, executor);
+  }
+
   @Override
   public boolean viewIsVisible() {
     return isHuman();
@@ -1,6 +1,7 @@
 package reversi.provider.adapters.hex;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -9,7 +10,7 @@ import java.util.Set;
 import java.util.function.Function;
 
 import reversi.controller.Player;
-import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
 import reversi.provider.model.board.Board;
@@ -19,9 +20,13 @@ import reversi.provider.model.board.TileColor;
 /**
  * {@link BoardAdapter} is an Object Adapter used to adapt a {@link HexPlane} to a {@link Board}.
  * It delegates to the provided HexPlane, substituting its Players for Tiles when necessary.
+ *
+ * <p>The rows of tiles are built once, and each tile reads its cell of the plane when asked, so the
+ * tiles always show the plane as it is now and looking one up by row and column is constant time.
  */
 public class BoardAdapter implements HexPlane<Player>, Board {
   private final HexPlane<Player> plane;
+  private List<List<Tile>> rows;
 
   /**
    * Create a new {@link BoardAdapter} given the {@link HexPlane} to use.
@@ -81,38 +86,41 @@ public class BoardAdapter implements HexPlane<Player>, Board {
 
   @Override
   public List<List<Tile>> getBoard() {
+    if (rows != null) {
+      return rows;
+    }
     List<List<Tile>> ret = new ArrayList<>();
     int radius = getRadius() - 1;
+    HexCoordTable table = HexCoordTable.forRadius(radius);
     for (int r = -radius; r <= radius; r++) {
       List<Tile> row = new ArrayList<>();
       for (int q = Math.max(-radius - r, -radius); q <= Math.min(radius - r, radius); q++) {
-        row.add(new PlayerToTileAdapter(plane
-            .getAtHex(new AxialCoordinate(q, r))
-            .orElse(null)));
+        row.add(new PlayerToTileAdapter(table.coordAt(table.indexOf(q, r))));
       }
-      ret.add(row);
+      ret.add(Collections.unmodifiableList(row));
     }
-    return ret;
+    rows = Collections.unmodifiableList(ret);
+    return rows;
   }
 
 
   private class PlayerToTileAdapter implements Tile {
-    private final Player player;
+    private final HexPlaneCoord coord;
 
     /**
-     * Create a new {@link PlayerToTileAdapter} given the Player to use internally.
+     * Create a new {@link PlayerToTileAdapter} given the cell of the plane it shows.
      *
-     * @param player the Player enum representing the value at this location
+     * @param coord the coordinate of the cell
      */
-    public PlayerToTileAdapter(Player player) {
-      this.player = player;
+    public PlayerToTileAdapter(HexPlaneCoord coord) {
+      this.coord = coord;
     }
 
     /**
      * Gets the player of this cell. This is for internal use in {@link BoardAdapter}.
      */
     public Player getPlayer() {
-      return player;
+      return plane.getAtHex(coord).orElse(null);
     }
 
     @Override
@@ -125,6 +133,7 @@ public class BoardAdapter implements HexPlane<Player>, Board {
     @Override
     public TileColor getColor() {
       // FIXME: check for usages
+      Player player = getPlayer();
       if (player == null) {
         return TileColor.NONE;
       }
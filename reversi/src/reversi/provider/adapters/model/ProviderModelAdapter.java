@@ -1,16 +1,19 @@
 package reversi.provider.adapters.model;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Objects;
+import java.util.Set;
 
 import reversi.exceptions.MoveOutOfBoundsException;
 import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.BoardSizeSummarizer;
-import reversi.hex.summarizer.reversiinfo.IsGameOverSummarizer;
 import reversi.hex.summarizer.reversiinfo.IsMoveLegalSummarizer;
 import reversi.hex.summarizer.reversiinfo.PointsFromMoveAtPointSummarizer;
-import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
+import reversi.model.ModelChange;
+import reversi.model.ModelChangeListener;
 import reversi.model.MutableReversiModel;
 import reversi.provider.adapters.controller.ProviderPlayerAdapter;
 import reversi.provider.adapters.hex.ProviderHexCoordAdapter;
@@ -22,9 +25,16 @@ import reversi.provider.model.players.Player;
 /**
  * An Object Adapter between {@link reversi.provider.model.ReversiModel} and
  * {@link MutableReversiModel}.
+ *
+ * <p>The provider's views and strategies read the whole board through {@link #getBoard()} over and
+ * over. Rather than copying the board for each of them, the adapter copies it once, the first time
+ * it is asked for, and from then on only updates the cells each change of the model touches. The
+ * returned board therefore follows the model instead of being a snapshot of it.
  */
 public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
   private final MutableReversiModel model;
+  private BitboardHexPlane mirror;
+  private BoardAdapter board;
 
   /**
    * Create a new {@link ProviderModelAdapter} given the {@link MutableReversiModel} to adapt
@@ -38,8 +48,22 @@ public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
 
   @Override
   public Board getBoard() {
-    HexPlane<reversi.controller.Player> plane = model.getHexPlane();
-    return new BoardAdapter(plane);
+    if (board == null) {
+      mirror = BitboardHexPlane.of(model.getHexPlane());
+      board = new BoardAdapter(mirror);
+      model.addChangeListener(this::updateMirror);
+    }
+    return board;
+  }
+
+  // bring the cells of the board that a change touched up to date
+  private void updateMirror(ModelChange change) {
+    change.getRemoved().ifPresent(coord -> mirror.removeAtIndex(mirror.getTable().indexOf(coord)));
+    change.getPlaced().ifPresent(coord ->
+        mirror.setAtIndex(mirror.getTable().indexOf(coord), change.getOwner()));
+    for (HexPlaneCoord coord : change.getFlipped()) {
+      mirror.setAtIndex(mirror.getTable().indexOf(coord), change.getOwner());
+    }
   }
 
   @Override
@@ -49,7 +73,11 @@ public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
 
   @Override
   public reversi.provider.model.ReversiModel cloneModel() {
-    // this will work? hopefully!
+    if (model instanceof reversi.model.ReversiModel) {
+      // shares the board until either model moves, and keeps the known legal moves
+      return new ProviderModelAdapter(
+          new reversi.model.ReversiModel((reversi.model.ReversiModel) model));
+    }
     return new ProviderModelAdapter(
         new reversi.model.ReversiModel(model.getHexPlane(), model.getPlayer()));
   }
@@ -83,8 +111,7 @@ public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
 
   @Override
   public int getScore(Player player) {
-    return new TotalPointsSummarizer(ProviderPlayerAdapter.getEnumFromPlayer(player))
-        .apply(model.getHexPlane());
+    return model.getScore(ProviderPlayerAdapter.getEnumFromPlayer(player));
   }
 
   @Override
@@ -97,7 +124,8 @@ public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
 
   @Override
   public boolean isGameOver() {
-    return new IsGameOverSummarizer().apply(model.getHexPlane());
+    return !(model.hasLegalMoves(reversi.controller.Player.PLAYER1)
+        || model.hasLegalMoves(reversi.controller.Player.PLAYER2));
   }
 
   @Override
@@ -116,11 +144,76 @@ public class ProviderModelAdapter implements ReversiModel, MutableReversiModel {
     model.passAsPlayer(player);
   }
 
+  @Override
+  public void undo() throws IllegalStateException {
+    model.undo();
+  }
+
+  @Override
+  public void rewindTo(int turn) throws IllegalArgumentException {
+    model.rewindTo(turn);
+  }
+
+  @Override
+  public int getTurnCount() {
+    return model.getTurnCount();
+  }
+
   @Override
   public HexPlane<reversi.controller.Player> getHexPlane() {
     return model.getHexPlane();
   }
 
+  @Override
+  public List<HexPlaneCoord> getPossibleMoves(reversi.controller.Player player) {
+    return model.getPossibleMoves(player);
+  }
+
+  @Override
+  public boolean hasLegalMoves(reversi.controller.Player player) {
+    return model.hasLegalMoves(player);
+  }
+
+  @Override
+  public int countLegalMoves(reversi.controller.Player player) {
+    return model.countLegalMoves(player);
+  }
+
+  @Override
+  public int getScore(reversi.controller.Player player) {
+    return model.getScore(player);
+  }
+
+  @Override
+  public Set<HexPlaneCoord> getPieces(reversi.controller.Player player) {
+    return model.getPieces(player);
+  }
+
+  @Override
+  public long getPositionHash() {
+    return model.getPositionHash();
+  }
+
+  @Override
+  public long getCanonicalPositionHash() {
+    return model.getCanonicalPositionHash();
+  }
+
+  @Override
+  public int getCanonicalSymmetry() {
+    return model.getCanonicalSymmetry();
+  }
+
+  @Override
+  public void addChangeListener(ModelChangeListener listener) {
+    model.addChangeListener(listener);
+  }
+
+  @Override
+  public void removeChangeListener(ModelChangeListener listener) {
+    model.removeChangeListener(listener);
+  }
+
   @Override
   public reversi.controller.Player getPlayer() {
     return model.getPlayer();
@@ -5,7 +5,6 @@ import java.util.Objects;
 import reversi.command.ViewCommand;
 import reversi.controller.ControllerCallback;
 import reversi.hex.coordinates.HexPlaneCoord;
-import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
 import reversi.provider.adapters.controller.ProviderViewListenerAdapter;
 import reversi.provider.adapters.model.ProviderModelAdapter;
 import reversi.provider.model.players.Player;
@@ -75,8 +74,8 @@ public class ProviderViewAdapter extends SimpleReversiGuiView implements Reversi
     }
     JOptionPane.showConfirmDialog(null,
             String.format("X: %s points.\nO: %s points.",
-                    new TotalPointsSummarizer(reversi.controller.Player.PLAYER1).apply(model.getHexPlane()),
-                    new TotalPointsSummarizer(reversi.controller.Player.PLAYER2).apply(model.getHexPlane())),
+                    model.getScore(reversi.controller.Player.PLAYER1),
+                    model.getScore(reversi.controller.Player.PLAYER2)),
             "Game Over!",
             JOptionPane.DEFAULT_OPTION,
             JOptionPane.INFORMATION_MESSAGE);
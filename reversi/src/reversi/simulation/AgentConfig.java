@@ -0,0 +1,22 @@
+package reversi.simulation;
+
+import reversi.controller.Player;
+import reversi.controller.agent.AbsoluteAgent;
+import reversi.model.MutableReversiModel;
+
+/**
+ * An AgentConfig creates the agent for one side of a simulated game. Agents keep a reference to
+ * the model they play on, so a new agent is created for every game. For the built-in skill levels,
+ * see {@link reversi.ReversiGameFactory#createAgent}.
+ */
+@FunctionalInterface
+public interface AgentConfig {
+  /**
+   * Create an agent for a new game.
+   *
+   * @param player the player the agent plays as
+   * @param model  the model of the game the agent plays in
+   * @return the agent
+   */
+  AbsoluteAgent create(Player player, MutableReversiModel model);
+}
@@ -0,0 +1,299 @@
+package reversi.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import reversi.command.ModelCommand;
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Pass;
+import reversi.controller.Player;
+import reversi.controller.agent.AbsoluteAgent;
+import reversi.exceptions.IllegalCommandException;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.model.ReversiModel;
+
+/**
+ * SelfPlay plays many games between two agents without a controller or any views, so that agents
+ * can be compared over thousands of games. Users should instantiate this class with the
+ * {@link AgentConfig} of each player, adjust it with its setters, and then call {@link #run()}.
+ *
+ * <p>Games are played in parallel on a fixed pool of threads. Game {@code i} is played on the
+ * {@code i % radii.length}th radius (see {@link #setRadii(int...)}), and, unless a first player is
+ * set, the players take turns moving first. The first few moves of each game may be played at
+ * random (see {@link #setRandomOpeningMoves(int)}), drawn from a seed derived from the game's
+ * index, so that deterministic agents do not play the same game over and over while a run can
+ * still be repeated exactly.
+ *
+ * <p>A player whose agent cannot be created, throws an exception, returns no model command, or
+ * returns an illegal one forfeits the game. A game also ends once both players pass in a row, even
+ * if either could still move, so that agents that always pass cannot stall a run.
+ */
+public final class SelfPlay {
+  private final AgentConfig player1;
+  private final AgentConfig player2;
+  private int games;
+  private int threads;
+  private int[] radii;
+  private Player firstPlayer;
+  private long seed;
+  private int randomOpeningMoves;
+
+  /**
+   * Create a new {@link SelfPlay} given the agents of each player. By default, it plays 100 games
+   * on a board of radius 6, on as many threads as there are processors available, with the
+   * players taking turns moving first and no random moves.
+   *
+   * @param player1 the agent of {@link Player#PLAYER1}
+   * @param player2 the agent of {@link Player#PLAYER2}
+   * @throws NullPointerException if any argument is null
+   */
+  public SelfPlay(AgentConfig player1, AgentConfig player2) {
+    this.player1 = Objects.requireNonNull(player1);
+    this.player2 = Objects.requireNonNull(player2);
+    this.games = 100;
+    this.threads = Runtime.getRuntime().availableProcessors();
+    this.radii = new int[]{6};
+  }
+
+  /**
+   * Set how many games to play.
+   *
+   * @param games the number of games
+   * @throws IllegalArgumentException if games is less than 1
+   */
+  public void setGames(int games) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Number of games must be positive: " + games);
+    }
+    this.games = games;
+  }
+
+  /**
+   * Set how many games to play at once. Agents that search on several threads of their own should
+   * usually be limited to one when games are played in parallel.
+   *
+   * @param threads the number of threads to play on
+   * @throws IllegalArgumentException if threads is less than 1
+   */
+  public void setThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Thread count must be positive: " + threads);
+    }
+    this.threads = threads;
+  }
+
+  /**
+   * Set the radii of the boards to play on, in turn. The radii use the same convention as
+   * {@link ReversiModel#ReversiModel(int)}.
+   *
+   * @param radii the radii, at least one
+   * @throws IllegalArgumentException if no radius is given, or a radius is too small to play on
+   * @throws NullPointerException     if radii is null
+   */
+  public void setRadii(int... radii) {
+    if (radii.length == 0) {
+      throw new IllegalArgumentException("At least one radius must be given");
+    }
+    for (int radius : radii) {
+      if (radius < 3) {
+        throw new IllegalArgumentException("Radius is too small to play on: " + radius);
+      }
+    }
+    this.radii = radii.clone();
+  }
+
+  /**
+   * Set the player to move first in every game, or null for the players to take turns moving
+   * first. By default, they take turns.
+   *
+   * @param firstPlayer the player to move first, or null
+   */
+  public void setFirstPlayer(Player firstPlayer) {
+    this.firstPlayer = firstPlayer;
+  }
+
+  /**
+   * Set the seed the random moves of every game are drawn from. By default, this is 0.
+   *
+   * @param seed the seed
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Set how many moves at the start of each game are played at random rather than by the agents.
+   * By default, this is 0.
+   *
+   * @param moves the number of random moves
+   * @throws IllegalArgumentException if moves is negative
+   */
+  public void setRandomOpeningMoves(int moves) {
+    if (moves < 0) {
+      throw new IllegalArgumentException("Number of random moves may not be negative: " + moves);
+    }
+    this.randomOpeningMoves = moves;
+  }
+
+  /**
+   * Play every game and summarize the results.
+   *
+   * @return the results of the games
+   * @throws IllegalStateException if the run is interrupted
+   */
+  public SelfPlayResult run() {
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Game>> futures = new ArrayList<>();
+      for (int i = 0; i < games; i++) {
+        int game = i;
+        futures.add(pool.submit(() -> play(game)));
+      }
+      SelfPlayResult.Builder result = new SelfPlayResult.Builder();
+      for (Future<Game> future : futures) {
+        Game game = future.get();
+        result.add(game.winner, game.forfeit, game.latencies);
+      }
+      return result.build((System.nanoTime() - start) / 1e9);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Self-play was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A game failed: " + e.getCause(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  // play one game of the run
+  private Game play(int index) {
+    int radius = radii[index % radii.length];
+    Player first = firstPlayer != null ? firstPlayer
+        : (index / radii.length) % 2 == 0 ? Player.PLAYER1 : Player.PLAYER2;
+    return playGame(player1, player2, radius, first, seed + index, randomOpeningMoves);
+  }
+
+  /**
+   * Play one game to the end, see {@link SelfPlay} for the rules.
+   *
+   * @param player1     the agent of {@link Player#PLAYER1}
+   * @param player2     the agent of {@link Player#PLAYER2}
+   * @param radius      the radius of the board, as for {@link ReversiModel#ReversiModel(int)}
+   * @param first       the player to move first
+   * @param seed        the seed of the random moves
+   * @param randomMoves how many moves at the start of the game are played at random
+   * @return the outcome of the game
+   */
+  static Game playGame(AgentConfig player1, AgentConfig player2, int radius, Player first,
+                       long seed, int randomMoves) {
+    ReversiModel model = new ReversiModel(radius, first);
+    SplittableRandom random = new SplittableRandom(seed);
+    for (int i = 0; i < randomMoves && !isOver(model); i++) {
+      Player turn = model.getPlayer();
+      List<HexPlaneCoord> moves = model.getPossibleMoves(turn);
+      if (moves.isEmpty()) {
+        model.passAsPlayer(turn);
+      } else {
+        model.makeMoveAsPlayer(moves.get(random.nextInt(moves.size())), turn);
+      }
+    }
+
+    Game game = new Game();
+    // an agent that cannot be created forfeits like any other failing agent, so that one bad
+    // entrant does not stop the rest of a run
+    AbsoluteAgent agent1;
+    AbsoluteAgent agent2;
+    try {
+      agent1 = player1.create(Player.PLAYER1, model);
+    } catch (RuntimeException e) {
+      return game.forfeit(Player.PLAYER1);
+    }
+    try {
+      agent2 = player2.create(Player.PLAYER2, model);
+    } catch (RuntimeException e) {
+      return game.forfeit(Player.PLAYER2);
+    }
+    int passes = 0;
+    while (!isOver(model) && passes < 2) {
+      Player turn = model.getPlayer();
+      AbsoluteAgent agent = turn == Player.PLAYER1 ? agent1 : agent2;
+      long moveStart = System.nanoTime();
+      Optional<ModelCommand> command;
+      try {
+        command = agent.getAndResetCommand().getModelCommand();
+        game.latencies[turn.ordinal()].add(System.nanoTime() - moveStart);
+        if (command.isEmpty()) {
+          return game.forfeit(turn);
+        }
+        command.get().runCommandAs(model, turn);
+      } catch (IllegalCommandException | RuntimeException e) {
+        return game.forfeit(turn);
+      }
+      passes = command.get().equals(new Pass()) ? passes + 1 : 0;
+    }
+    int difference = model.getScore(Player.PLAYER1) - model.getScore(Player.PLAYER2);
+    game.winner = difference > 0 ? Player.PLAYER1 : difference < 0 ? Player.PLAYER2 : null;
+    return game;
+  }
+
+  private static boolean isOver(ReversiModel model) {
+    return !model.hasLegalMoves(Player.PLAYER1) && !model.hasLegalMoves(Player.PLAYER2);
+  }
+
+  /**
+   * The outcome of one game and the time each player took for each move.
+   */
+  static final class Game {
+    private final LongList[] latencies = {new LongList(), new LongList()};
+    // null for a draw
+    private Player winner;
+    private boolean forfeit;
+
+    // the winner of the game, or null for a draw
+    Player getWinner() {
+      return winner;
+    }
+
+    private Game forfeit(Player loser) {
+      winner = loser.getOther();
+      forfeit = true;
+      return this;
+    }
+  }
+
+  /**
+   * A growable list of times, in nanoseconds.
+   */
+  static final class LongList {
+    private long[] items = new long[64];
+    private int size;
+
+    void add(long item) {
+      if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      items[size++] = item;
+    }
+
+    void addAll(LongList other) {
+      for (int i = 0; i < other.size; i++) {
+        add(other.items[i]);
+      }
+    }
+
+    long[] toSortedArray() {
+      long[] sorted = Arrays.copyOf(items, size);
+      Arrays.sort(sorted);
+      return sorted;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package reversi.simulation;
+
+import java.util.Objects;
+
+import reversi.controller.Player;
+
+/**
+ * The results of a {@link SelfPlay} run: how often each player won, how fast the games were
+ * played, and how long each player took to move.
+ */
+public final class SelfPlayResult {
+  private final int games;
+  private final int[] wins;
+  private final int draws;
+  private final int[] forfeits;
+  private final double seconds;
+  // the time each player took for each move, in nanoseconds, in ascending order
+  private final long[][] latencies;
+
+  private SelfPlayResult(Builder builder, double seconds) {
+    this.games = builder.games;
+    this.wins = builder.wins.clone();
+    this.draws = builder.draws;
+    this.forfeits = builder.forfeits.clone();
+    this.seconds = seconds;
+    this.latencies = new long[][]{
+        builder.latencies[0].toSortedArray(), builder.latencies[1].toSortedArray()};
+  }
+
+  /**
+   * Gets the number of games played.
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of games the given player won, including games won by forfeit.
+   *
+   * @param player the player
+   * @return the number of wins
+   * @throws NullPointerException if the player is null
+   */
+  public int getWins(Player player) {
+    return wins[Objects.requireNonNull(player).ordinal()];
+  }
+
+  /**
+   * Gets the number of games that ended with both players holding as many pieces.
+   */
+  public int getDraws() {
+    return draws;
+  }
+
+  /**
+   * Gets the number of games the given player lost by failing to make a legal move.
+   *
+   * @param player the player
+   * @return the number of forfeits
+   * @throws NullPointerException if the player is null
+   */
+  public int getForfeits(Player player) {
+    return forfeits[Objects.requireNonNull(player).ordinal()];
+  }
+
+  /**
+   * Gets the fraction of games the given player won, counting a draw as half a win.
+   *
+   * @param player the player
+   * @return the score, from 0 to 1
+   * @throws NullPointerException if the player is null
+   */
+  public double getScore(Player player) {
+    return (getWins(player) + draws / 2.0) / games;
+  }
+
+  /**
+   * Gets the time the run took, in seconds.
+   */
+  public double getSeconds() {
+    return seconds;
+  }
+
+  /**
+   * Gets the number of games played per second.
+   */
+  public double getGamesPerSecond() {
+    return games / seconds;
+  }
+
+  /**
+   * Gets the number of moves (and passes) the given player's agent chose.
+   *
+   * @param player the player
+   * @return the number of moves
+   * @throws NullPointerException if the player is null
+   */
+  public int getMoves(Player player) {
+    return latencies[Objects.requireNonNull(player).ordinal()].length;
+  }
+
+  /**
+   * Gets a percentile of the time the given player's agent took to choose a move. The percentile
+   * is the smallest time that at least that percentage of the moves took no longer than.
+   *
+   * @param player     the player
+   * @param percentile the percentile, from 0 to 100
+   * @return the time, in nanoseconds, or 0 if the player never moved
+   * @throws NullPointerException     if the player is null
+   * @throws IllegalArgumentException if the percentile is not from 0 to 100
+   */
+  public long getLatencyPercentile(Player player, double percentile) {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be from 0 to 100: " + percentile);
+    }
+    long[] sorted = latencies[Objects.requireNonNull(player).ordinal()];
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+
+  /**
+   * Gets a readable report of these results.
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games in %.1f s (%.2f games/s), %d draws%n",
+        games, seconds, getGamesPerSecond(), draws));
+    report.append(String.format("%-8s %6s %7s %9s %6s %10s %10s %10s %10s%n",
+        "player", "wins", "score", "forfeits", "moves", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+    for (Player player : Player.values()) {
+      report.append(String.format("%-8s %6d %7.3f %9d %6d %10.2f %10.2f %10.2f %10.2f%n",
+          player, getWins(player), getScore(player), getForfeits(player), getMoves(player),
+          getLatencyPercentile(player, 50) / 1e6, getLatencyPercentile(player, 90) / 1e6,
+          getLatencyPercentile(player, 99) / 1e6, getLatencyPercentile(player, 100) / 1e6));
+    }
+    return report.toString();
+  }
+
+  /**
+   * Collects the outcomes of games as they finish.
+   */
+  static final class Builder {
+    private int games;
+    private final int[] wins = new int[2];
+    private int draws;
+    private final int[] forfeits = new int[2];
+    private final SelfPlay.LongList[] latencies =
+        {new SelfPlay.LongList(), new SelfPlay.LongList()};
+
+    // record a game, won by the given player (null for a draw)
+    void add(Player winner, boolean forfeit, SelfPlay.LongList[] gameLatencies) {
+      games++;
+      if (winner == null) {
+        draws++;
+      } else {
+        wins[winner.ordinal()]++;
+        if (forfeit) {
+          forfeits[winner.getOther().ordinal()]++;
+        }
+      }
+      for (int i = 0; i < latencies.length; i++) {
+        latencies[i].addAll(gameLatencies[i]);
+      }
+    }
+
+    SelfPlayResult build(double seconds) {
+      return new SelfPlayResult(this, seconds);
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package reversi.simulation;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import reversi.controller.Player;
+
+/**
+ * A Tournament plays every pair of a set of agents against each other, with each agent of a pair
+ * taking each side, on each of several board sizes, and rates the agents from the results (see
+ * {@link TournamentResult}). Users should instantiate this class with the named
+ * {@link AgentConfig} of each entrant, adjust it with its setters, and then call {@link #run()}.
+ *
+ * <p>Every game is a separate task on a work-stealing pool, so long and short games are spread
+ * evenly over the threads. Games are played as in {@link SelfPlay}; within each match (two
+ * entrants, one per side, on one board), the players take turns moving first. An entrant whose
+ * agent fails in any way, even to be created, forfeits that game, which is recorded like any
+ * other, so a single bad entrant cannot stop a long tournament.
+ *
+ * <p>Given a checkpoint file (see {@link #setCheckpoint(Path)}), the outcome of every game is
+ * appended to the file as soon as the game ends. A later run of the same tournament with the same
+ * file skips the games already recorded in it, so a long tournament that is stopped can be
+ * resumed where it left off. The file starts with a description of the tournament, and a run
+ * refuses to resume from the checkpoint of a different tournament.
+ */
+public final class Tournament {
+  private static final String CHECKPOINT_VERSION = "reversi-tournament 1";
+
+  private final List<String> names;
+  private final List<AgentConfig> configs;
+  private int gamesPerMatch;
+  private int threads;
+  private int[] radii;
+  private long seed;
+  private int randomOpeningMoves;
+  private Path checkpoint;
+
+  /**
+   * Create a new {@link Tournament} given its entrants. By default, every match is 2 games long
+   * and is played on a board of radius 6, on as many threads as there are processors available,
+   * with no random moves and no checkpoint.
+   *
+   * @param entrants the agent of each entrant by name, in the order to report them in
+   * @throws IllegalArgumentException if there are fewer than 2 entrants
+   * @throws NullPointerException     if entrants, or any name or agent, is null
+   */
+  public Tournament(Map<String, AgentConfig> entrants) {
+    if (Objects.requireNonNull(entrants).size() < 2) {
+      throw new IllegalArgumentException("A tournament needs at least 2 entrants");
+    }
+    this.names = new ArrayList<>();
+    this.configs = new ArrayList<>();
+    for (Map.Entry<String, AgentConfig> entrant : new LinkedHashMap<>(entrants).entrySet()) {
+      names.add(Objects.requireNonNull(entrant.getKey()));
+      configs.add(Objects.requireNonNull(entrant.getValue()));
+    }
+    this.gamesPerMatch = 2;
+    this.threads = Runtime.getRuntime().availableProcessors();
+    this.radii = new int[]{6};
+  }
+
+  /**
+   * Set how many games each match is played over.
+   *
+   * @param games the number of games per match
+   * @throws IllegalArgumentException if games is less than 1
+   */
+  public void setGamesPerMatch(int games) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Number of games must be positive: " + games);
+    }
+    this.gamesPerMatch = games;
+  }
+
+  /**
+   * Set how many games to play at once.
+   *
+   * @param threads the number of threads to play on
+   * @throws IllegalArgumentException if threads is less than 1
+   */
+  public void setThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Thread count must be positive: " + threads);
+    }
+    this.threads = threads;
+  }
+
+  /**
+   * Set the radii of the boards every match is played on. The radii use the same convention as
+   * {@link reversi.model.ReversiModel#ReversiModel(int)}.
+   *
+   * @param radii the radii, at least one
+   * @throws IllegalArgumentException if no radius is given, or a radius is too small to play on
+   * @throws NullPointerException     if radii is null
+   */
+  public void setRadii(int... radii) {
+    if (radii.length == 0) {
+      throw new IllegalArgumentException("At least one radius must be given");
+    }
+    for (int radius : radii) {
+      if (radius < 3) {
+        throw new IllegalArgumentException("Radius is too small to play on: " + radius);
+      }
+    }
+    this.radii = radii.clone();
+  }
+
+  /**
+   * Set the seed the random moves of every game are drawn from. By default, this is 0.
+   *
+   * @param seed the seed
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Set how many moves at the start of each game are played at random rather than by the agents.
+   * By default, this is 0.
+   *
+   * @param moves the number of random moves
+   * @throws IllegalArgumentException if moves is negative
+   */
+  public void setRandomOpeningMoves(int moves) {
+    if (moves < 0) {
+      throw new IllegalArgumentException("Number of random moves may not be negative: " + moves);
+    }
+    this.randomOpeningMoves = moves;
+  }
+
+  /**
+   * Set the file to record the outcome of every game in, and to resume from, or null for none.
+   *
+   * @param checkpoint the checkpoint file, or null
+   */
+  public void setCheckpoint(Path checkpoint) {
+    this.checkpoint = checkpoint;
+  }
+
+  /**
+   * Play every game not already recorded in the checkpoint and rate the entrants.
+   *
+   * @return the results of the tournament
+   * @throws IOException           if the checkpoint cannot be read or written, or was written by
+   *                               a different tournament
+   * @throws IllegalStateException if the run is interrupted
+   */
+  public TournamentResult run() throws IOException {
+    long start = System.nanoTime();
+    List<Pairing> schedule = schedule();
+    // the winning side of every game, or -1 for a draw and -2 while the game is unplayed
+    int[] outcomes = new int[schedule.size()];
+    Arrays.fill(outcomes, -2);
+    String header = header();
+    if (checkpoint != null && Files.exists(checkpoint)) {
+      readCheckpoint(header, outcomes);
+    }
+
+    ExecutorService pool = Executors.newWorkStealingPool(threads);
+    try (BufferedWriter log = openCheckpoint(header)) {
+      CompletionService<int[]> games = new ExecutorCompletionService<>(pool);
+      int pending = 0;
+      for (int id = 0; id < schedule.size(); id++) {
+        if (outcomes[id] == -2) {
+          int game = id;
+          games.submit(() -> new int[]{game, play(schedule.get(game), game)});
+          pending++;
+        }
+      }
+      for (; pending > 0; pending--) {
+        int[] finished = games.take().get();
+        outcomes[finished[0]] = finished[1];
+        if (log != null) {
+          log.write(finished[0] + " " + finished[1]);
+          log.newLine();
+          log.flush();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("A game failed: " + e.getCause(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+
+    TournamentResult.Builder result = new TournamentResult.Builder(names);
+    for (int id = 0; id < schedule.size(); id++) {
+      Pairing pairing = schedule.get(id);
+      result.add(pairing.player1, pairing.player2, outcomes[id]);
+    }
+    return result.build((System.nanoTime() - start) / 1e9);
+  }
+
+  // every game of the tournament, in a fixed order
+  private List<Pairing> schedule() {
+    List<Pairing> schedule = new ArrayList<>();
+    for (int radius : radii) {
+      for (int a = 0; a < names.size(); a++) {
+        for (int b = a + 1; b < names.size(); b++) {
+          for (int game = 0; game < gamesPerMatch; game++) {
+            Player first = game % 2 == 0 ? Player.PLAYER1 : Player.PLAYER2;
+            schedule.add(new Pairing(a, b, radius, first));
+            schedule.add(new Pairing(b, a, radius, first));
+          }
+        }
+      }
+    }
+    return schedule;
+  }
+
+  // the side that won the game, 0 for PLAYER1 and 1 for PLAYER2, or -1 for a draw
+  private int play(Pairing pairing, int id) {
+    Player winner = SelfPlay.playGame(configs.get(pairing.player1), configs.get(pairing.player2),
+        pairing.radius, pairing.first, seed + id, randomOpeningMoves).getWinner();
+    return winner == null ? -1 : winner.ordinal();
+  }
+
+  private String header() {
+    return CHECKPOINT_VERSION + " entrants=" + names + " radii=" + Arrays.toString(radii)
+        + " games=" + gamesPerMatch + " seed=" + seed + " random=" + randomOpeningMoves;
+  }
+
+  private void readCheckpoint(String header, int[] outcomes) throws IOException {
+    List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+    if (lines.isEmpty()) {
+      return;
+    }
+    if (!lines.get(0).equals(header)) {
+      throw new IOException("Tournament: " + checkpoint + " is the checkpoint of a different "
+          + "tournament: " + lines.get(0));
+    }
+    for (String line : lines.subList(1, lines.size())) {
+      String[] parts = line.trim().split(" ");
+      // a line cut short by a crash is simply played again
+      if (parts.length != 2) {
+        continue;
+      }
+      try {
+        int id = Integer.parseInt(parts[0]);
+        int outcome = Integer.parseInt(parts[1]);
+        if (id >= 0 && id < outcomes.length && outcome >= -1 && outcome <= 1) {
+          outcomes[id] = outcome;
+        }
+      } catch (NumberFormatException e) {
+        // as above, play the game again
+      }
+    }
+  }
+
+  private BufferedWriter openCheckpoint(String header) throws IOException {
+    if (checkpoint == null) {
+      return null;
+    }
+    boolean fresh = !Files.exists(checkpoint) || Files.size(checkpoint) == 0;
+    // end a line cut short by a crash, so that the next outcome starts a line of its own
+    boolean cutShort = !fresh && !endsWithNewline();
+    BufferedWriter log = Files.newBufferedWriter(checkpoint, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    if (fresh) {
+      log.write(header);
+    }
+    if (fresh || cutShort) {
+      log.newLine();
+      log.flush();
+    }
+    return log;
+  }
+
+  private boolean endsWithNewline() throws IOException {
+    try (SeekableByteChannel channel = Files.newByteChannel(checkpoint)) {
+      ByteBuffer last = ByteBuffer.allocate(1);
+      channel.position(channel.size() - 1).read(last);
+      return last.get(0) == '\n';
+    }
+  }
+
+  /**
+   * One game of the schedule: the entrants playing each side, the board, and who moves first.
+   */
+  private static final class Pairing {
+    private final int player1;
+    private final int player2;
+    private final int radius;
+    private final Player first;
+
+    private Pairing(int player1, int player2, int radius, Player first) {
+      this.player1 = player1;
+      this.player2 = player2;
+      this.radius = radius;
+      this.first = first;
+    }
+  }
+}
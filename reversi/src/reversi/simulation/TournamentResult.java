@@ -0,0 +1,264 @@
+package reversi.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The results of a {@link Tournament}: how each entrant scored against each other entrant, and
+ * the Elo rating of each entrant.
+ *
+ * <p>Ratings are fitted to every game at once, under the Bradley-Terry model that underlies Elo:
+ * an entrant rated {@code d} points above another scores {@code 1 / (1 + 10^(-d / 400))} against
+ * it on average. The fit is the maximum likelihood estimate, counting a draw as half a win, with
+ * one extra draw between every pair of entrants that met so that an entrant that won or lost every
+ * game still has a finite rating. Ratings are relative, so they are shifted to average 0. Each
+ * rating comes with the half-width of its approximate 95% confidence interval, from the curvature
+ * of the likelihood with the other ratings held fixed.
+ */
+public final class TournamentResult {
+  private static final int MAX_ITERATIONS = 10000;
+  private static final double TOLERANCE = 1e-10;
+
+  private final List<String> names;
+  // points[a][b] is the points entrant a scored against entrant b in their games[a][b] games
+  private final double[][] points;
+  private final int[][] games;
+  private final int totalGames;
+  private final double seconds;
+  private final double[] ratings;
+  private final double[] errors;
+
+  private TournamentResult(Builder builder, double seconds) {
+    this.names = Collections.unmodifiableList(new ArrayList<>(builder.names));
+    int size = names.size();
+    this.points = new double[size][];
+    this.games = new int[size][];
+    for (int a = 0; a < size; a++) {
+      points[a] = builder.points[a].clone();
+      games[a] = builder.games[a].clone();
+    }
+    this.totalGames = builder.totalGames;
+    this.seconds = seconds;
+    this.ratings = new double[size];
+    this.errors = new double[size];
+    fitRatings();
+  }
+
+  /**
+   * Gets the names of the entrants, in the order they were given to the tournament.
+   */
+  public List<String> getEntrants() {
+    return names;
+  }
+
+  /**
+   * Gets the number of games played.
+   */
+  public int getGames() {
+    return totalGames;
+  }
+
+  /**
+   * Gets the number of games two entrants played against each other.
+   *
+   * @param entrant  the name of one entrant
+   * @param opponent the name of the other entrant
+   * @return the number of games
+   * @throws IllegalArgumentException if either entrant is not in the tournament
+   */
+  public int getGames(String entrant, String opponent) {
+    return games[indexOf(entrant)][indexOf(opponent)];
+  }
+
+  /**
+   * Gets the points an entrant scored against another, counting a win as 1 and a draw as half.
+   *
+   * @param entrant  the name of the entrant whose points to get
+   * @param opponent the name of the opponent
+   * @return the points
+   * @throws IllegalArgumentException if either entrant is not in the tournament
+   */
+  public double getPoints(String entrant, String opponent) {
+    return points[indexOf(entrant)][indexOf(opponent)];
+  }
+
+  /**
+   * Gets the Elo rating of an entrant, relative to an average of 0.
+   *
+   * @param entrant the name of the entrant
+   * @return the rating
+   * @throws IllegalArgumentException if the entrant is not in the tournament
+   */
+  public double getRating(String entrant) {
+    return ratings[indexOf(entrant)];
+  }
+
+  /**
+   * Gets the half-width of the approximate 95% confidence interval of an entrant's rating.
+   *
+   * @param entrant the name of the entrant
+   * @return the half-width, in rating points
+   * @throws IllegalArgumentException if the entrant is not in the tournament
+   */
+  public double getRatingError(String entrant) {
+    return errors[indexOf(entrant)];
+  }
+
+  /**
+   * Gets the time the run took, in seconds. A run resumed from a checkpoint only counts the games
+   * it played itself.
+   */
+  public double getSeconds() {
+    return seconds;
+  }
+
+  /**
+   * Gets a readable report of these results, with the entrants from the highest rated to the
+   * lowest and the points each scored against each other entrant.
+   */
+  @Override
+  public String toString() {
+    Integer[] order = new Integer[names.size()];
+    for (int a = 0; a < order.length; a++) {
+      order[a] = a;
+    }
+    Arrays.sort(order, (a, b) -> Double.compare(ratings[b], ratings[a]));
+    int width = 6;
+    for (String name : names) {
+      width = Math.max(width, name.length());
+    }
+
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games in %.1f s%n", totalGames, seconds));
+    report.append(String.format("%-" + width + "s %7s %6s %6s %7s", "entrant", "elo", "+/-",
+        "games", "score"));
+    for (int b = 0; b < order.length; b++) {
+      report.append(String.format(" %8s", "vs " + (b + 1)));
+    }
+    report.append(String.format("%n"));
+    for (int row = 0; row < order.length; row++) {
+      int a = order[row];
+      int played = 0;
+      double scored = 0;
+      for (int b = 0; b < names.size(); b++) {
+        played += games[a][b];
+        scored += points[a][b];
+      }
+      report.append(String.format("%-" + width + "s %7.0f %6.0f %6d %7.3f",
+          (row + 1) + ". " + names.get(a), ratings[a], errors[a], played,
+          played == 0 ? 0 : scored / played));
+      for (int b : order) {
+        report.append(a == b || games[a][b] == 0 ? String.format(" %8s", "-")
+            : String.format(" %8s", formatPoints(points[a][b]) + "/" + games[a][b]));
+      }
+      report.append(String.format("%n"));
+    }
+    return report.toString();
+  }
+
+  private static String formatPoints(double points) {
+    return points == Math.rint(points) ? Integer.toString((int) points) : Double.toString(points);
+  }
+
+  private int indexOf(String entrant) {
+    int index = names.indexOf(Objects.requireNonNull(entrant));
+    if (index < 0) {
+      throw new IllegalArgumentException("No such entrant: " + entrant);
+    }
+    return index;
+  }
+
+  // fit the strengths gamma = 10^(rating / 400) by the minorization-maximization iteration
+  private void fitRatings() {
+    int size = names.size();
+    double[] wins = new double[size];
+    double[][] met = new double[size][size];
+    for (int a = 0; a < size; a++) {
+      for (int b = 0; b < size; b++) {
+        if (a != b && games[a][b] > 0) {
+          // the extra draw of the prior
+          wins[a] += points[a][b] + 0.5;
+          met[a][b] = games[a][b] + 1;
+        }
+      }
+    }
+
+    double[] gamma = new double[size];
+    Arrays.fill(gamma, 1);
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double change = 0;
+      for (int a = 0; a < size; a++) {
+        double denominator = 0;
+        for (int b = 0; b < size; b++) {
+          if (met[a][b] > 0) {
+            denominator += met[a][b] / (gamma[a] + gamma[b]);
+          }
+        }
+        if (denominator > 0) {
+          double next = wins[a] / denominator;
+          change = Math.max(change, Math.abs(Math.log(next / gamma[a])));
+          gamma[a] = next;
+        }
+      }
+      if (change < TOLERANCE) {
+        break;
+      }
+    }
+
+    double scale = 400 / Math.log(10);
+    double mean = 0;
+    for (int a = 0; a < size; a++) {
+      ratings[a] = scale * Math.log(gamma[a]);
+      mean += ratings[a] / size;
+    }
+    for (int a = 0; a < size; a++) {
+      ratings[a] -= mean;
+      double information = 0;
+      for (int b = 0; b < size; b++) {
+        if (met[a][b] > 0) {
+          double expected = gamma[a] / (gamma[a] + gamma[b]);
+          information += met[a][b] * expected * (1 - expected);
+        }
+      }
+      errors[a] = information > 0 ? 1.96 * scale / Math.sqrt(information)
+          : Double.POSITIVE_INFINITY;
+    }
+  }
+
+  /**
+   * Collects the outcomes of games.
+   */
+  static final class Builder {
+    private final List<String> names;
+    private final double[][] points;
+    private final int[][] games;
+    private int totalGames;
+
+    Builder(List<String> names) {
+      this.names = names;
+      this.points = new double[names.size()][names.size()];
+      this.games = new int[names.size()][names.size()];
+    }
+
+    // record a game between two entrants: 0 if the first won, 1 if the second won, -1 for a draw,
+    // or anything else for a game that was not played
+    void add(int first, int second, int outcome) {
+      if (outcome < -1 || outcome > 1) {
+        return;
+      }
+      double scored = outcome == -1 ? 0.5 : outcome == 0 ? 1 : 0;
+      totalGames++;
+      games[first][second]++;
+      games[second][first]++;
+      points[first][second] += scored;
+      points[second][first] += 1 - scored;
+    }
+
+    TournamentResult build(double seconds) {
+      return new TournamentResult(this, seconds);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package reversi.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import reversi.hex.summarizer.strategy.OpeningBook;
+
+/**
+ * Searches the first moves of a game and writes their best moves to an {@link OpeningBook}.
+ *
+ * <p>Usage: {@code BuildOpeningBook radius plies depth file}, where the radius uses the same
+ * convention as {@code ReversiModel}, plies is how many moves into the game the book reaches, and
+ * depth is how many moves deep each position is searched.
+ */
+public final class BuildOpeningBook {
+  private BuildOpeningBook() {
+  }
+
+  /**
+   * Builds the book and prints how many positions it holds.
+   *
+   * @param args the radius of the board, the plies, the depth and the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 4) {
+      System.err.println("Expected arguments: (radius) (plies) (depth) (file)");
+      System.exit(1);
+    }
+    int radius = Integer.parseInt(args[0]);
+    int plies = Integer.parseInt(args[1]);
+    int depth = Integer.parseInt(args[2]);
+    long start = System.nanoTime();
+    int positions = OpeningBook.build(radius - 1, plies, depth, Path.of(args[3]));
+    System.out.printf("searched %d positions in %.1f s%n",
+        positions, (System.nanoTime() - start) / 1e9);
+  }
+}
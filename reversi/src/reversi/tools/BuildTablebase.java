@@ -0,0 +1,35 @@
+package reversi.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import reversi.hex.summarizer.strategy.Tablebase;
+
+/**
+ * Solves a small board completely and writes its {@link Tablebase} to a file.
+ *
+ * <p>Usage: {@code BuildTablebase radius file}, where the radius uses the same convention as
+ * {@code ReversiModel}, so {@code BuildTablebase 3 radius3.tb} solves the 19-cell board.
+ */
+public final class BuildTablebase {
+  private BuildTablebase() {
+  }
+
+  /**
+   * Builds the tablebase and prints how many positions it holds.
+   *
+   * @param args the radius of the board and the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Expected arguments: (radius) (file)");
+      System.exit(1);
+    }
+    int radius = Integer.parseInt(args[0]);
+    long start = System.nanoTime();
+    long positions = Tablebase.build(radius - 1, Path.of(args[1]));
+    System.out.printf("solved %d positions in %.1f s%n",
+        positions, (System.nanoTime() - start) / 1e9);
+  }
+}
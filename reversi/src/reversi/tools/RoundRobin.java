@@ -0,0 +1,67 @@
+package reversi.tools;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import reversi.ReversiGameFactory;
+import reversi.simulation.AgentConfig;
+import reversi.simulation.Tournament;
+
+/**
+ * Plays a round-robin tournament between skill levels without any views and prints their Elo
+ * ratings (see {@link Tournament}).
+ *
+ * <p>Usage: {@code RoundRobin [gamesPerMatch] [radii] [budgetMillis] [threads] [checkpoint]
+ * [skill...]}, where the radii are separated by commas and use the same convention as
+ * {@code ReversiModel}, and a checkpoint of {@code -} means none. By default, every computer skill
+ * level takes part, each match is 2 games long on a board of radius 6, searching AI get a 100
+ * millisecond budget and think on a single thread, games are played on as many threads as there
+ * are processors available, and there is no checkpoint. Every game starts with 4 random moves, so
+ * that games between the same agents differ.
+ */
+public final class RoundRobin {
+  private RoundRobin() {
+  }
+
+  /**
+   * Plays the tournament and prints the results to stdout.
+   *
+   * @param args the optional settings of the tournament and the skills taking part
+   * @throws IOException if the checkpoint cannot be read or written
+   */
+  public static void main(String[] args) throws IOException {
+    int games = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+    int[] radii = args.length > 1 ? SelfPlayGames.parseRadii(args[1]) : new int[]{6};
+    long budgetMillis = args.length > 2 ? Long.parseLong(args[2]) : 100;
+    int threads = args.length > 3
+        ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+    String checkpoint = args.length > 4 ? args[4] : "-";
+
+    ReversiGameFactory agents = SelfPlayGames.agentFactory(budgetMillis);
+    Map<String, AgentConfig> entrants = new LinkedHashMap<>();
+    if (args.length > 5) {
+      for (int i = 5; i < args.length; i++) {
+        ReversiGameFactory.Skill skill = SelfPlayGames.parseSkill(args[i]);
+        entrants.put(skill.name(), SelfPlayGames.config(agents, skill));
+      }
+    } else {
+      for (ReversiGameFactory.Skill skill : ReversiGameFactory.Skill.values()) {
+        if (skill != ReversiGameFactory.Skill.Client) {
+          entrants.put(skill.name(), SelfPlayGames.config(agents, skill));
+        }
+      }
+    }
+
+    Tournament tournament = new Tournament(entrants);
+    tournament.setGamesPerMatch(games);
+    tournament.setRadii(radii);
+    tournament.setThreads(threads);
+    tournament.setRandomOpeningMoves(4);
+    if (!checkpoint.equals("-")) {
+      tournament.setCheckpoint(Paths.get(checkpoint));
+    }
+    System.out.print(tournament.run());
+  }
+}
@@ -0,0 +1,112 @@
+package reversi.tools;
+
+import reversi.ReversiGameFactory;
+import reversi.controller.Player;
+import reversi.simulation.AgentConfig;
+import reversi.simulation.SelfPlay;
+
+/**
+ * Plays many games between two skill levels without any views and prints how they did (see
+ * {@link SelfPlay}).
+ *
+ * <p>Usage: {@code SelfPlayGames skill1 skill2 [games] [radii] [threads] [budgetMillis] [seed]
+ * [randomMoves]}, where the radii are separated by commas and use the same convention as
+ * {@code ReversiModel}. By default, 100 games are played on a board of radius 6, on as many
+ * threads as there are processors available, with a 100 millisecond budget for searching AI, seed
+ * 0 and 4 random moves at the start of each game. Searching AI think on a single thread, as the
+ * games are already played in parallel.
+ */
+public final class SelfPlayGames {
+  private SelfPlayGames() {
+  }
+
+  /**
+   * Plays the games and prints the results to stdout.
+   *
+   * @param args the skills of each player and the optional settings of the run
+   */
+  public static void main(String[] args) {
+    if (args.length < 2) {
+      System.err.println("Expected arguments: (skill) (skill) [games] [radii] [threads] "
+          + "[budgetMillis] [seed] [randomMoves]");
+      System.exit(1);
+    }
+    ReversiGameFactory.Skill skill1 = parseSkill(args[0]);
+    ReversiGameFactory.Skill skill2 = parseSkill(args[1]);
+    int games = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+    int[] radii = args.length > 3 ? parseRadii(args[3]) : new int[]{6};
+    int threads = args.length > 4
+        ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+    long budgetMillis = args.length > 5 ? Long.parseLong(args[5]) : 100;
+    long seed = args.length > 6 ? Long.parseLong(args[6]) : 0;
+    int randomMoves = args.length > 7 ? Integer.parseInt(args[7]) : 4;
+
+    ReversiGameFactory agents = agentFactory(budgetMillis);
+    SelfPlay selfPlay = new SelfPlay(config(agents, skill1), config(agents, skill2));
+    selfPlay.setGames(games);
+    selfPlay.setRadii(radii);
+    selfPlay.setThreads(threads);
+    selfPlay.setSeed(seed);
+    selfPlay.setRandomOpeningMoves(randomMoves);
+    System.out.printf("%s (%s) against %s (%s)%n", skill1, Player.PLAYER1, skill2, Player.PLAYER2);
+    System.out.print(selfPlay.run());
+  }
+
+  /**
+   * Get a factory for the agents of headless games: searching AI get the given budget and a single
+   * thread each. Only {@link ReversiGameFactory#createAgent} is meant to be called on it.
+   *
+   * @param budgetMillis the time budget per move of searching AI
+   * @return the factory
+   */
+  static ReversiGameFactory agentFactory(long budgetMillis) {
+    ReversiGameFactory agents = new ReversiGameFactory(6, ReversiGameFactory.Skill.Easy,
+        ReversiGameFactory.Skill.Easy, null, ReversiGameFactory.ViewMode.TUI);
+    agents.setAiTimeBudget(budgetMillis);
+    agents.setAiThreads(1);
+    return agents;
+  }
+
+  /**
+   * Get the configuration of an agent of the given skill level.
+   *
+   * @param agents the factory that creates the agents
+   * @param skill  the skill level
+   * @return the configuration
+   */
+  static AgentConfig config(ReversiGameFactory agents, ReversiGameFactory.Skill skill) {
+    return (player, model) -> agents.createAgent(skill, player, model);
+  }
+
+  /**
+   * Parse a skill level, ignoring case. Human players cannot take part in headless games.
+   *
+   * @param name the name of the skill level
+   * @return the skill level
+   * @throws IllegalArgumentException if there is no such computer skill level
+   */
+  static ReversiGameFactory.Skill parseSkill(String name) {
+    for (ReversiGameFactory.Skill skill : ReversiGameFactory.Skill.values()) {
+      if (skill != ReversiGameFactory.Skill.Client && skill.name().equalsIgnoreCase(name)) {
+        return skill;
+      }
+    }
+    throw new IllegalArgumentException("Cannot parse computer skill string \"" + name + "\"");
+  }
+
+  /**
+   * Parse a list of radii separated by commas.
+   *
+   * @param list the radii
+   * @return the radii
+   * @throws NumberFormatException if a radius is not a number
+   */
+  static int[] parseRadii(String list) {
+    String[] parts = list.split(",");
+    int[] radii = new int[parts.length];
+    for (int i = 0; i < parts.length; i++) {
+      radii[i] = Integer.parseInt(parts[i].trim());
+    }
+    return radii;
+  }
+}
@@ -1,14 +1,16 @@
 package reversi.view;
 
 import java.awt.Color;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.swing.JOptionPane;
 
 import reversi.controller.ControllerCallback;
 import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.summarizer.BoardSizeSummarizer;
-import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
 import reversi.model.ReadOnlyReversiModel;
 
 /**
@@ -18,11 +20,16 @@ import reversi.model.ReadOnlyReversiModel;
  * <p>If you are using Linux and experience internal errors from Swing, it may be due to your
  * fontconfig. Please ensure you have the required packages installed.
  *
+ * <p>Changes to the board repaint only the cells they touch (see {@link ReversiPanel}), so
+ * rendering only repaints the whole board when whose turn it is or the highlighted cells change.
+ *
  * @see AbstractReversiView
  */
 public class ReversiGraphicsView extends AbstractReversiView {
   private final ReversiPanel panel;
   private final Player myPlayer;
+  // the highlighted cells as of the last repaint
+  private final Set<HexPlaneCoord> shownHighlights;
 
   /**
    * Create a new {@link ReversiGraphicsView} given a model to show.
@@ -33,6 +40,7 @@ public class ReversiGraphicsView extends AbstractReversiView {
   public ReversiGraphicsView(ReadOnlyReversiModel<Player> model, Player player) {
     super(model);
     this.myPlayer = Objects.requireNonNull(player);
+    this.shownHighlights = new HashSet<>();
 
     int radius = new BoardSizeSummarizer<Player>().apply(model.getHexPlane());
     // Multiply radius by 3 * log_2(radius) to logarithmically grow size. Or multiply by 4 to make
@@ -55,12 +63,13 @@ public class ReversiGraphicsView extends AbstractReversiView {
   public boolean render() {
     this.setVisible(true);
     boolean focused = this.isFocused();
-    if (model.getPlayer() == myPlayer) {
-      panel.setBackground(Color.ORANGE);
-    } else {
-      panel.setBackground(Color.DARK_GRAY);
+    Color background = model.getPlayer() == myPlayer ? Color.ORANGE : Color.DARK_GRAY;
+    if (!background.equals(panel.getBackground()) || !highlightedCoords.equals(shownHighlights)) {
+      panel.setBackground(background);
+      shownHighlights.clear();
+      shownHighlights.addAll(highlightedCoords);
+      repaint();
     }
-    repaint();
     return focused;
   }
 
@@ -81,8 +90,8 @@ public class ReversiGraphicsView extends AbstractReversiView {
     }
     JOptionPane.showConfirmDialog(null,
         String.format("X: %s points.\nO: %s points.",
-            new TotalPointsSummarizer(Player.PLAYER1).apply(model.getHexPlane()),
-            new TotalPointsSummarizer(Player.PLAYER2).apply(model.getHexPlane())),
+            model.getScore(Player.PLAYER1),
+            model.getScore(Player.PLAYER2)),
         "Game Over!",
         JOptionPane.DEFAULT_OPTION,
         JOptionPane.INFORMATION_MESSAGE);
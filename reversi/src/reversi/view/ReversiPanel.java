@@ -5,14 +5,16 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Polygon;
-import java.awt.Shape;
+import java.awt.Rectangle;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -25,22 +27,48 @@ import reversi.command.ViewCommand;
 import reversi.command.commands.Highlight;
 import reversi.controller.ControllerCallback;
 import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
 import reversi.hex.summarizer.HexCoordToPixelSummarizer;
+import reversi.model.ModelChange;
 import reversi.model.ReadOnlyReversiModel;
 
 /**
  * Package-private Panel for use in {@link ReversiGraphicsView}. Handles most of the logic behind
  * the interface and the actual function of the View; most of the methods in the View simply forward
  * to this class.
+ *
+ * <p>The hexagon of every cell is computed once for each size of the panel. The cells are drawn,
+ * without highlights, onto an offscreen image that is kept between paints; a paint draws that image
+ * and the highlighted cells on top of it. When the model changes, only the cells the change touched
+ * are drawn again, and only their area of the panel is repainted.
+ *
+ * <p>A click is resolved to its cell by inverting the hex-to-pixel transform (see
+ * {@link HexCoordToPixelSummarizer#toHex(Point2D)}), in constant time and whether or not the panel
+ * was painted yet.
  */
 class ReversiPanel extends JPanel {
   private final ReadOnlyReversiModel<Player> model;
   private ControllerCallback controllerCallback;
   private final int radius;
   private final Set<HexPlaneCoord> highlightedCoords;
-  private final java.util.List<PolyCoord> drawnPolygons;
+  private final HexCoordTable table;
+  private final HexCoordToPixelSummarizer<Player> toPixel;
+  // the owner of each cell, by its index in the table, kept up to date with the model's changes
+  private final Player[] owners;
+  // the corners of the hexagon of a cell centered on the origin
+  private final int[] cornersX;
+  private final int[] cornersY;
+  // the center and hexagon of each cell, by index, for the size of the panel they were computed for
+  private int[] centersX;
+  private int[] centersY;
+  private Polygon[] hexagons;
+  private int geometryWidth;
+  private int geometryHeight;
+  // every cell drawn without highlights, and the cells that changed since they were drawn
+  private BufferedImage boardLayer;
+  private final BitSet dirtyCells;
 
   /**
    * Create a new {@link ReversiPanel} given the model to display.
@@ -53,8 +81,22 @@ class ReversiPanel extends JPanel {
     this.model = Objects.requireNonNull(model);
     this.radius = radius;
     this.highlightedCoords = highlightedCoords;
-    this.drawnPolygons = new ArrayList<>();
+    HexPlane<Player> plane = model.getHexPlane();
+    this.table = HexCoordTable.forRadius(plane.getRadius());
+    this.toPixel = new HexCoordToPixelSummarizer<>(radius);
+    this.owners = new Player[table.size()];
+    for (int i = 0; i < owners.length; i++) {
+      owners[i] = plane.getAtHex(table.coordAt(i)).orElse(null);
+    }
+    this.cornersX = new int[6];
+    this.cornersY = new int[6];
+    for (int i = 0; i < 6; i++) {
+      cornersX[i] = (int) Math.round(radius * Math.sin(i * Math.PI / 3));
+      cornersY[i] = (int) Math.round(radius * Math.cos(i * Math.PI / 3));
+    }
+    this.dirtyCells = new BitSet(table.size());
     Runnable callback = this::repaint;
+    model.addChangeListener(this::updateCells);
 
     // SET UP EVENT LISTENERS
     this.addMouseListener(new MouseAdapter() {
@@ -62,21 +104,11 @@ class ReversiPanel extends JPanel {
       public void mouseReleased(MouseEvent e) {
         super.mouseReleased(e);
         requestFocusInWindow();
-        Point clickPoint = e.getPoint();
-        int button = e.getButton();
-        // iterate over drawn polygons
-        boolean clickInBounds = false;
-        for (PolyCoord polyCoord : drawnPolygons) {
-          HexPlaneCoord coord = polyCoord.coord;
-          Polygon poly = polyCoord.poly;
-          // check if we clicked in a poly and if the factory is present, sending the event if so
-          if (poly.contains(clickPoint) && button == MouseEvent.BUTTON1) {
-            sendToController(new Highlight(coord));
-            clickInBounds = true;
-            break;
-          }
-        }
-        if (!clickInBounds) {
+        Optional<HexPlaneCoord> cell = cellAt(e.getPoint());
+        // check if we clicked in a cell and if the factory is present, sending the event if so
+        if (cell.isPresent() && e.getButton() == MouseEvent.BUTTON1) {
+          sendToController(new Highlight(cell.get()));
+        } else {
           highlightedCoords.clear();
         }
         callback.run();
@@ -102,44 +134,94 @@ class ReversiPanel extends JPanel {
   @Override
   protected void paintComponent(Graphics gBasic) {
     super.paintComponent(gBasic);
-    this.drawnPolygons.clear();
-    Graphics2D g = (Graphics2D) gBasic.create();
-    g.translate(this.getWidth() / 2, this.getHeight() / 2);
-
-    HexPlane<Point2D> pointMap = new HexCoordToPixelSummarizer<Player>(radius)
-        .apply(model.getHexPlane());
-
-    // DRAWING LOOP
-    for (HexPlaneCoord coord : model.getHexPlane().getKnownCoords()) {
-      // get the translated point from the map of translations. This is a known-safe operation.
-      Point2D point = pointMap.getAtHex(coord).orElseThrow();
-      Polygon p;
-      ////////////////////////// HEXAGONS /////////////////////////////////
-      // draw the actual polygons, highlighting them if necessary
-      if (highlightedCoords.contains(coord)) {
-        p = drawHexagon(g, (int) point.getX(), (int) point.getY(),
-            radius, Color.CYAN, true);
-      } else {
-        p = drawHexagon(g, (int) point.getX(), (int) point.getY(),
-            radius, Color.LIGHT_GRAY, true);
+    if (getWidth() <= 0 || getHeight() <= 0) {
+      return;
+    }
+    updateGeometry();
+    if (boardLayer == null) {
+      boardLayer = new BufferedImage(getWidth(), getHeight(), BufferedImage.TYPE_INT_ARGB);
+      dirtyCells.set(0, table.size());
+    }
+    if (!dirtyCells.isEmpty()) {
+      Graphics2D layer = boardLayer.createGraphics();
+      for (int i = dirtyCells.nextSetBit(0); i >= 0; i = dirtyCells.nextSetBit(i + 1)) {
+        drawCell(layer, i, Color.LIGHT_GRAY);
       }
-      drawnPolygons.add(new PolyCoord(p, coord));
-      //////////////////////// OUTLINE ////////////////////////////////////
-      // draw the black outline
-      drawHexagon(g, (int) point.getX(), (int) point.getY(),
-          radius, Color.BLACK, false);
-      // draw the players
-      /////////////////////// PLAYERS ////////////////////////////////////
-      if (model.getAtHex(coord).equals(Optional.of(Player.PLAYER1))) {
-        drawCircle(g, (int) point.getX(), (int) point.getY(),
-            radius / 2, Color.BLACK, true);
-      } else if (model.getAtHex(coord).equals(Optional.of(Player.PLAYER2))) {
-        drawCircle(g, (int) point.getX(), (int) point.getY(),
-            radius / 2, Color.WHITE, true);
+      layer.dispose();
+      dirtyCells.clear();
+    }
+    gBasic.drawImage(boardLayer, 0, 0, null);
+
+    // the highlighted cells are drawn over the layer, so that they never need to be erased
+    Graphics2D g = (Graphics2D) gBasic.create();
+    for (HexPlaneCoord coord : highlightedCoords) {
+      int index = table.indexOf(coord);
+      if (index >= 0) {
+        drawCell(g, index, Color.CYAN);
       }
     }
+    g.dispose();
   }
 
+  // compute the hexagon of every cell again if the panel changed size, dropping the drawn layer
+  private void updateGeometry() {
+    if (hexagons != null && geometryWidth == getWidth() && geometryHeight == getHeight()) {
+      return;
+    }
+    geometryWidth = getWidth();
+    geometryHeight = getHeight();
+    centersX = new int[table.size()];
+    centersY = new int[table.size()];
+    Polygon[] cells = new Polygon[table.size()];
+    for (int i = 0; i < cells.length; i++) {
+      Point2D point = toPixel.toPixel(table.coordAt(i));
+      centersX[i] = (int) point.getX() + geometryWidth / 2;
+      centersY[i] = (int) point.getY() + geometryHeight / 2;
+      cells[i] = new Polygon(cornersX, cornersY, 6);
+      cells[i].translate(centersX[i], centersY[i]);
+    }
+    hexagons = cells;
+    boardLayer = null;
+  }
+
+  // the cell under a point of the panel, if the point is on the board
+  private Optional<HexPlaneCoord> cellAt(Point point) {
+    HexPlaneCoord coord = toPixel.toHex(new Point2D.Double(
+        point.getX() - getWidth() / 2, point.getY() - getHeight() / 2));
+    int index = table.indexOf(coord);
+    return index < 0 ? Optional.empty() : Optional.of(table.coordAt(index));
+  }
+
+  // draw a cell: its hexagon, its black outline and its piece, if any
+  private void drawCell(Graphics2D g, int index, Color fill) {
+    Polygon hexagon = hexagons[index];
+    g.setColor(fill);
+    g.fillPolygon(hexagon);
+    g.setColor(Color.BLACK);
+    g.drawPolygon(hexagon);
+    Player owner = owners[index];
+    if (owner != null) {
+      int pieceRadius = radius / 2;
+      g.setColor(owner == Player.PLAYER1 ? Color.BLACK : Color.WHITE);
+      g.fill(new Ellipse2D.Double(centersX[index] - pieceRadius, centersY[index] - pieceRadius,
+          2 * pieceRadius, 2 * pieceRadius));
+    }
+  }
+
+  // copy the cells a change of the model touched, and repaint only those cells
+  private void updateCells(ModelChange change) {
+    Optional<HexPlaneCoord> removed = change.getRemoved();
+    for (HexPlaneCoord coord : change.getChanged()) {
+      int index = table.indexOf(coord);
+      owners[index] = removed.equals(Optional.of(coord)) ? null : change.getOwner();
+      dirtyCells.set(index);
+      if (hexagons != null) {
+        Rectangle bounds = hexagons[index].getBounds();
+        // one extra pixel for the outline
+        repaint(bounds.x, bounds.y, bounds.width + 1, bounds.height + 1);
+      }
+    }
+  }
 
   /**
    * Set the controller callback. The callback may be null.
@@ -157,44 +239,6 @@ class ReversiPanel extends JPanel {
         JOptionPane.ERROR_MESSAGE);
   }
 
-  private void drawCircle(Graphics g, int x, int y, int radius, Color color, boolean filled) {
-    Graphics2D g2d = (Graphics2D) g.create();
-    g2d.translate(x, y);
-    g2d.setColor(color);
-    Shape circle = new Ellipse2D.Double(
-        -radius,     // left
-        -radius,     // top
-        2 * radius,  // width
-        2 * radius); // height
-    if (filled) {
-      g2d.fill(circle);
-    } else {
-      g2d.draw(circle);
-    }
-  }
-
-  private Polygon drawHexagon(Graphics g, int x, int y, int radius, Color color, boolean filled) {
-    Graphics2D g2d = (Graphics2D) g.create();
-    g2d.translate(x, y);
-    g2d.setColor(color);
-    Polygon p = new Polygon();
-    for (int i = 0; i < 6; i++) {
-      p.addPoint((int) Math.round(radius * Math.sin(i * Math.PI / 3)),
-          (int) Math.round(radius * Math.cos(i * Math.PI / 3)));
-    }
-    if (filled) {
-      g2d.fill(p);
-    } else {
-      g2d.draw(p);
-    }
-    Polygon retPoly = new Polygon();
-    retPoly.xpoints = p.xpoints.clone();
-    retPoly.ypoints = p.ypoints.clone();
-    retPoly.npoints = p.npoints;
-    retPoly.translate(x + this.getWidth() / 2, y + this.getHeight() / 2);
-    return retPoly;
-  }
-
   private void sendToController(CommandIdentifier identifier, HexPlaneCoord coord) {
     if (controllerCallback != null) {
       controllerCallback.accept(identifier, coord);
@@ -206,14 +250,4 @@ class ReversiPanel extends JPanel {
       controllerCallback.accept(command);
     }
   }
-
-  private static class PolyCoord {
-    public final Polygon poly;
-    public final HexPlaneCoord coord;
-
-    public PolyCoord(Polygon poly, HexPlaneCoord coord) {
-      this.poly = Objects.requireNonNull(poly);
-      this.coord = Objects.requireNonNull(coord);
-    }
-  }
-}
\ No newline at end of file
+}
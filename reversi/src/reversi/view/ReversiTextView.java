@@ -2,22 +2,28 @@ package reversi.view;
 
 import java.io.IOException;
 import java.util.Objects;
-import java.util.Optional;
 
 import reversi.controller.ControllerCallback;
 import reversi.controller.Player;
-import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
-import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
+import reversi.model.ModelChange;
 import reversi.model.ReadOnlyReversiModel;
 
 /**
  * A {@link ReversiTextView} is a text-only output version of a {@link ReversiView}. It writes out
  * to an {@link Appendable}. The appendable must not be closed during any rendering process.
+ *
+ * <p>The view keeps its own copy of the owner of each cell, which it reads from the model once and
+ * then updates from the cells each change of the model touches, so rendering does not read the
+ * board again.
  */
 public final class ReversiTextView extends AbstractReversiView {
   private final Appendable out;
+  private final HexCoordTable table;
+  // the owner of each cell, by its index in the table
+  private final Player[] owners;
 
   /**
    * Create a new ReversiTextView with the desired destination for output and the Model to render.
@@ -30,13 +36,18 @@ public final class ReversiTextView extends AbstractReversiView {
   public ReversiTextView(Appendable out, ReadOnlyReversiModel<Player> model) {
     super(model);
     this.out = Objects.requireNonNull(out);
+    HexPlane<Player> plane = model.getHexPlane();
+    this.table = HexCoordTable.forRadius(plane.getRadius());
+    this.owners = new Player[table.size()];
+    for (int i = 0; i < owners.length; i++) {
+      owners[i] = plane.getAtHex(table.coordAt(i)).orElse(null);
+    }
+    model.addChangeListener(this::updateOwners);
   }
 
   @Override
   public boolean render() {
-    HexPlane<Player> curPlane = model.getHexPlane();
-
-    int maxIndex = curPlane.getRadius();
+    int maxIndex = table.getRadius();
     StringBuilder builder = new StringBuilder();
     // this gets from the top of the hex grid to the middle
     for (int r = -maxIndex; r <= maxIndex; r++) {
@@ -45,14 +56,15 @@ public final class ReversiTextView extends AbstractReversiView {
       builder.append(" ".repeat(Math.max(0, offset)));
       // iterate over q, going left to right
       for (int q = Math.max(-maxIndex - r, -maxIndex); q <= Math.min(maxIndex - r, maxIndex); q++) {
-        HexPlaneCoord coord = new AxialCoordinate(q, r);
-        Optional<Player> val = curPlane.getAtHex(coord);
+        int index = table.indexOf(q, r);
+        HexPlaneCoord coord = table.coordAt(index);
+        Player val = owners[index];
         // if it's an empty position, use an _ to represent it
-        if (val.isEmpty()) {
+        if (val == null) {
           appendToBuilderAndHighlight(builder, "_ ", coord);
         } else {
           // otherwise use the value at the position
-          appendToBuilderAndHighlight(builder, val.get().toString(), coord);
+          appendToBuilderAndHighlight(builder, val.toString(), coord);
           builder.append(" ");
         }
       }
@@ -79,13 +91,22 @@ public final class ReversiTextView extends AbstractReversiView {
     try {
       out.append("Game over!\n");
       out.append(String.format("X: %s points.\nO: %s points.\n",
-          new TotalPointsSummarizer(Player.PLAYER1).apply(model.getHexPlane()),
-          new TotalPointsSummarizer(Player.PLAYER2).apply(model.getHexPlane())));
+          model.getScore(Player.PLAYER1),
+          model.getScore(Player.PLAYER2)));
     } catch (IOException ex) {
       throw new IllegalStateException("IOException on writing out stream. Something bad happened!");
     }
   }
 
+  // copy the owners of the cells a change touched
+  private void updateOwners(ModelChange change) {
+    change.getRemoved().ifPresent(coord -> owners[table.indexOf(coord)] = null);
+    change.getPlaced().ifPresent(coord -> owners[table.indexOf(coord)] = change.getOwner());
+    for (HexPlaneCoord coord : change.getFlipped()) {
+      owners[table.indexOf(coord)] = change.getOwner();
+    }
+  }
+
   private void writeOutWithNewline(String str) {
     try {
       out.append(str).append("\n");
@@ -0,0 +1,116 @@
+package publictest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Pass;
+import reversi.controller.Player;
+import reversi.controller.agent.AbsoluteAgent;
+import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.AlphaBetaAIAgent;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.HexPlaneImpl;
+import reversi.hex.summarizer.strategy.AlphaBetaStrategySummarizer;
+import reversi.hex.summarizer.strategy.Deadline;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for the {@link AlphaBetaAIAgent}.
+ */
+public class AlphaBetaAgentTests {
+
+  @Test
+  public void testOrdersEveryLegalMove() {
+    ReversiModel model = new ReversiModel(5);
+    List<HexPlaneCoord> moves = new AlphaBetaStrategySummarizer(Player.PLAYER1, 10_000, 3)
+        .apply(model.getHexPlane());
+    Assert.assertEquals(new HashSet<>(model.getPossibleMoves(Player.PLAYER1)),
+        new HashSet<>(moves));
+    Assert.assertEquals(moves.size(), new HashSet<>(moves).size());
+  }
+
+  @Test
+  public void testParallelOrdersEveryLegalMove() {
+    ReversiModel model = new ReversiModel(5);
+    model.makeMoveAsPlayer(model.getPossibleMoves(Player.PLAYER1).get(0), Player.PLAYER1);
+    AlphaBetaStrategySummarizer search =
+        new AlphaBetaStrategySummarizer(Player.PLAYER2, 10_000, 4, 3);
+    List<HexPlaneCoord> moves = search.apply(model.getHexPlane());
+    Assert.assertEquals(new HashSet<>(model.getPossibleMoves(Player.PLAYER2)),
+        new HashSet<>(moves));
+    Assert.assertEquals(moves.size(), new HashSet<>(moves).size());
+    Assert.assertEquals(4, search.getLastDepth());
+    Assert.assertTrue(search.getLastNodes() > 0);
+  }
+
+  @Test
+  public void testDeadlineCutsSearchShort() {
+    ReversiModel model = new ReversiModel(7);
+    AlphaBetaStrategySummarizer search =
+        new AlphaBetaStrategySummarizer(Player.PLAYER1, 60_000, 64);
+    long start = System.nanoTime();
+    List<HexPlaneCoord> moves = search.apply(model.getHexPlane(), Deadline.after(50));
+    // far sooner than the minute-long budget, and still a ranking of every legal move
+    Assert.assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    Assert.assertEquals(new HashSet<>(model.getPossibleMoves(Player.PLAYER1)),
+        new HashSet<>(moves));
+    Assert.assertTrue(search.getLastDepth() < 64);
+  }
+
+  @Test
+  public void testCancellingRequestStopsSearch() throws Exception {
+    ReversiModel model = new ReversiModel(7);
+    AbsoluteAgent agent = AgentBuilder
+        .create(new AlphaBetaAIAgent(Player.PLAYER1, model, 60_000))
+        .getFirstMoveOrPassFinalizer().build();
+    Deadline deadline = Deadline.none();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CompletableFuture<UnifiedCommand> request = agent.requestCommand(deadline, executor);
+      Assert.assertFalse(request.isDone());
+      request.cancel(true);
+      Assert.assertTrue(deadline.isCancelled());
+      Assert.assertThrows(CancellationException.class, request::join);
+      // the search gives up its thread long before its budget would have run out
+      long start = System.nanoTime();
+      executor.submit(() -> { }).get();
+      Assert.assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNoMovesPasses() {
+    ReversiModel model = new ReversiModel(new HexPlaneImpl<>(4), Player.PLAYER1);
+    AbsoluteAgent agent = AgentBuilder.create(new AlphaBetaAIAgent(Player.PLAYER1, model))
+        .getFirstMoveOrPassFinalizer().build();
+    Assert.assertEquals(new Pass(), agent.getAndResetCommand().getModelCommand().get());
+  }
+
+  @Test
+  public void testBeatsPaste() {
+    Assert.assertTrue(
+        PasteMatch.play(5, new AlphaBetaStrategySummarizer(Player.PLAYER1, 10_000, 3)) > 0);
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaStrategySummarizer(Player.PLAYER1, -1, 3));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaStrategySummarizer(Player.PLAYER1, 10, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaStrategySummarizer(Player.PLAYER1, 10, 3, 0));
+    Assert.assertThrows(NullPointerException.class,
+        () -> new AlphaBetaAIAgent(null, new ReversiModel(3)));
+  }
+}
@@ -0,0 +1,136 @@
+package publictest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Move;
+import reversi.controller.Player;
+import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.EndgameAIAgent;
+import reversi.controller.agent.GreedyAIAgent;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.strategy.EndgameStrategySummarizer;
+import reversi.hex.summarizer.strategy.GreedyStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for the {@link EndgameAIAgent}.
+ */
+public class EndgameAgentTests {
+
+  @Test
+  public void testMatchesExhaustiveSearch() {
+    int solved = 0;
+    for (int seed = 0; solved < 5; seed++) {
+      ReversiModel model = randomPosition(seed, 9);
+      if (model == null) {
+        continue;
+      }
+      Player toMove = model.getPlayer();
+      EndgameStrategySummarizer solver = new EndgameStrategySummarizer(toMove, 9, 60_000);
+      List<HexPlaneCoord> best = solver.apply(model.getHexPlane());
+      Assert.assertTrue(solver.lastSolved());
+      Assert.assertEquals(1, best.size());
+      Assert.assertEquals(ExhaustiveSearch.value(model), solver.getLastValue());
+      model.makeMoveAsPlayer(best.get(0), toMove);
+      Assert.assertEquals(solver.getLastValue(), -ExhaustiveSearch.value(model));
+      solved++;
+    }
+  }
+
+  @Test
+  public void testConcurrentSearchesDoNotInterfere() throws Exception {
+    List<ReversiModel> positions = new ArrayList<>();
+    for (int seed = 0; positions.size() < 6; seed++) {
+      ReversiModel model = randomPosition(seed, 9);
+      if (model != null && model.getPlayer() == Player.PLAYER1) {
+        positions.add(model);
+      }
+    }
+    // one summarizer searching every position at once, as when an agent is asked again
+    EndgameStrategySummarizer solver = new EndgameStrategySummarizer(Player.PLAYER1, 9, 60_000);
+    ExecutorService threads = Executors.newFixedThreadPool(positions.size());
+    try {
+      List<Future<List<HexPlaneCoord>>> answers = new ArrayList<>();
+      for (ReversiModel model : positions) {
+        answers.add(threads.submit(() -> solver.apply(model.getHexPlane())));
+      }
+      for (int i = 0; i < positions.size(); i++) {
+        ReversiModel model = positions.get(i);
+        List<HexPlaneCoord> best = answers.get(i).get();
+        Assert.assertEquals(1, best.size());
+        int value = ExhaustiveSearch.value(model);
+        model.makeMoveAsPlayer(best.get(0), Player.PLAYER1);
+        Assert.assertEquals(value, -ExhaustiveSearch.value(model));
+      }
+    } finally {
+      threads.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testTooManyEmptiesReturnsNothing() {
+    ReversiModel model = new ReversiModel(5);
+    EndgameStrategySummarizer solver = new EndgameStrategySummarizer(Player.PLAYER1, 5, 1000);
+    Assert.assertTrue(solver.apply(model.getHexPlane()).isEmpty());
+    Assert.assertFalse(solver.lastSolved());
+  }
+
+  @Test
+  public void testOutOfTimeReturnsNothing() {
+    ReversiModel model = new ReversiModel(4);
+    EndgameStrategySummarizer solver = new EndgameStrategySummarizer(Player.PLAYER1, 64, 0);
+    Assert.assertTrue(solver.apply(model.getHexPlane()).isEmpty());
+    Assert.assertFalse(solver.lastSolved());
+  }
+
+  @Test
+  public void testFallsBackWhenUnsolved() {
+    ReversiModel model = new ReversiModel(5);
+    UnifiedCommand command = AgentBuilder
+        .create(new EndgameAIAgent(Player.PLAYER1, model))
+        .andThen(new GreedyAIAgent(Player.PLAYER1, model))
+        .getFirstMoveOrPassFinalizer()
+        .build()
+        .getAndResetCommand();
+    HexPlaneCoord greedy =
+        new GreedyStrategySummarizer(Player.PLAYER1).apply(model.getHexPlane()).get(0);
+    Assert.assertEquals(new UnifiedCommand(new Move(greedy)), command);
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new EndgameStrategySummarizer(Player.PLAYER1, -1, 10));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new EndgameStrategySummarizer(Player.PLAYER1, 10, -1));
+  }
+
+  // a game played at random until at most the given number of cells are empty, or null if the game
+  // ended first
+  private static ReversiModel randomPosition(int seed, int empties) {
+    Random rand = new Random(seed);
+    ReversiModel model = new ReversiModel(4);
+    int cells = model.getHexPlane().getKnownCoords().size();
+    while (cells - model.getScore(Player.PLAYER1) - model.getScore(Player.PLAYER2) > empties) {
+      Player turn = model.getPlayer();
+      List<HexPlaneCoord> moves = model.getPossibleMoves(turn);
+      if (!moves.isEmpty()) {
+        model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), turn);
+      } else if (model.hasLegalMoves(turn.getOther())) {
+        model.passAsPlayer(turn);
+      } else {
+        return null;
+      }
+    }
+    return model.hasLegalMoves(model.getPlayer()) ? model : null;
+  }
+}
@@ -0,0 +1,45 @@
+package publictest;
+
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.model.ReversiModel;
+
+/**
+ * {@link ExhaustiveSearch} is a testing class that solves small games by plain minimax, to check
+ * the answers of the faster searches and tables against.
+ */
+public final class ExhaustiveSearch {
+
+  private ExhaustiveSearch() {
+  }
+
+  /**
+   * Find the final difference in pieces for the player to move with perfect play, by trying every
+   * move to the end of the game. The model is left as it was.
+   *
+   * @param model the game to solve
+   * @return the difference in pieces, from the point of view of the player to move
+   */
+  public static int value(ReversiModel model) {
+    Player turn = model.getPlayer();
+    List<HexPlaneCoord> moves = model.getPossibleMoves(turn);
+    if (moves.isEmpty()) {
+      if (!model.hasLegalMoves(turn.getOther())) {
+        return model.getScore(turn) - model.getScore(turn.getOther());
+      }
+      model.passAsPlayer(turn);
+      int value = -value(model);
+      model.undo();
+      return value;
+    }
+    int best = Integer.MIN_VALUE;
+    for (HexPlaneCoord move : moves) {
+      model.makeMoveAsPlayer(move, turn);
+      best = Math.max(best, -value(model));
+      model.undo();
+    }
+    return best;
+  }
+}
@@ -1,12 +1,15 @@
 package publictest;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import reversi.controller.Player;
 import reversi.exceptions.MoveOutOfBoundsException;
 import reversi.hex.coordinates.HexPlaneCoord;
 import reversi.hex.plane.HexPlane;
+import reversi.model.ModelChangeListener;
 import reversi.model.MutableReversiModel;
 import reversi.model.ReversiModel;
 
@@ -49,11 +52,78 @@ public class MockReversiModel implements MutableReversiModel {
     model.passAsPlayer(player);
   }
 
+  @Override
+  public void undo() throws IllegalStateException {
+    log.append("Undo.\n");
+    model.undo();
+  }
+
+  @Override
+  public void rewindTo(int turn) throws IllegalArgumentException {
+    log.append(String.format("Rewind to %d.\n", turn));
+    model.rewindTo(turn);
+  }
+
+  @Override
+  public int getTurnCount() {
+    return model.getTurnCount();
+  }
+
   @Override
   public HexPlane<Player> getHexPlane() {
     return model.getHexPlane();
   }
 
+  @Override
+  public List<HexPlaneCoord> getPossibleMoves(Player player) {
+    return model.getPossibleMoves(player);
+  }
+
+  @Override
+  public boolean hasLegalMoves(Player player) {
+    return model.hasLegalMoves(player);
+  }
+
+  @Override
+  public int countLegalMoves(Player player) {
+    return model.countLegalMoves(player);
+  }
+
+  @Override
+  public int getScore(Player player) {
+    return model.getScore(player);
+  }
+
+  @Override
+  public Set<HexPlaneCoord> getPieces(Player player) {
+    return model.getPieces(player);
+  }
+
+  @Override
+  public long getPositionHash() {
+    return model.getPositionHash();
+  }
+
+  @Override
+  public long getCanonicalPositionHash() {
+    return model.getCanonicalPositionHash();
+  }
+
+  @Override
+  public int getCanonicalSymmetry() {
+    return model.getCanonicalSymmetry();
+  }
+
+  @Override
+  public void addChangeListener(ModelChangeListener listener) {
+    model.addChangeListener(listener);
+  }
+
+  @Override
+  public void removeChangeListener(ModelChangeListener listener) {
+    model.removeChangeListener(listener);
+  }
+
   @Override
   public Player getPlayer() {
     log.append("Get active player.\n");
@@ -0,0 +1,66 @@
+package publictest;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.controller.agent.MonteCarloAIAgent;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.strategy.MonteCarloStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for the {@link MonteCarloAIAgent}.
+ */
+public class MonteCarloAgentTests {
+
+  @Test
+  public void testPlaysItsPlayouts() {
+    ReversiModel model = new ReversiModel(5);
+    MonteCarloStrategySummarizer search =
+        new MonteCarloStrategySummarizer(Player.PLAYER1, 10_000, 200, 1, 1);
+    List<HexPlaneCoord> moves = search.apply(model.getHexPlane());
+    Assert.assertEquals(new HashSet<>(model.getPossibleMoves(Player.PLAYER1)),
+        new HashSet<>(moves));
+    Assert.assertEquals(moves.size(), new HashSet<>(moves).size());
+    Assert.assertEquals(200, search.getLastPlayouts());
+    Assert.assertTrue(search.getLastPlayoutsPerSecond() > 0);
+
+    search = new MonteCarloStrategySummarizer(Player.PLAYER1, 10_000, 500, 3, 1);
+    moves = search.apply(model.getHexPlane());
+    Assert.assertEquals(new HashSet<>(model.getPossibleMoves(Player.PLAYER1)),
+        new HashSet<>(moves));
+    // each thread may finish the game it is playing when the limit is reached
+    Assert.assertTrue(search.getLastPlayouts() >= 500);
+  }
+
+  @Test
+  public void testDeterministicGivenSeed() {
+    ReversiModel model = new ReversiModel(5);
+    Assert.assertEquals(
+        new MonteCarloStrategySummarizer(Player.PLAYER1, 10_000, 300, 1, 3)
+            .apply(model.getHexPlane()),
+        new MonteCarloStrategySummarizer(Player.PLAYER1, 10_000, 300, 1, 3)
+            .apply(model.getHexPlane()));
+  }
+
+  @Test
+  public void testBeatsPaste() {
+    MonteCarloStrategySummarizer search =
+        new MonteCarloStrategySummarizer(Player.PLAYER1, 10_000, 2000, 1, 5);
+    Assert.assertTrue(PasteMatch.play(4, search) > 0);
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloStrategySummarizer(Player.PLAYER1, -1, 1));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloStrategySummarizer(Player.PLAYER1, 10, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloStrategySummarizer(Player.PLAYER1, 10, 0, 1, 0));
+  }
+}
@@ -0,0 +1,112 @@
+package publictest;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Move;
+import reversi.controller.Player;
+import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.GreedyAIAgent;
+import reversi.controller.agent.OpeningBookAIAgent;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.coordinates.HexSymmetry;
+import reversi.hex.plane.BitboardHexPlane;
+import reversi.hex.summarizer.strategy.AlphaBetaStrategySummarizer;
+import reversi.hex.summarizer.strategy.GreedyStrategySummarizer;
+import reversi.hex.summarizer.strategy.OpeningBook;
+import reversi.hex.summarizer.strategy.OpeningBookStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for the {@link OpeningBook} and the {@link OpeningBookAIAgent}.
+ */
+public class OpeningBookAgentTests {
+  private static final int PLIES = 4;
+  private static final int DEPTH = 3;
+  private static OpeningBook book;
+
+  @BeforeClass
+  public static void buildBook() throws IOException {
+    Path file = Files.createTempFile("book", ".ob");
+    file.toFile().deleteOnExit();
+    int positions = OpeningBook.build(3, PLIES, DEPTH, file);
+    book = OpeningBook.open(file);
+    Assert.assertEquals(positions, book.size());
+    Assert.assertEquals(3, book.getRadius());
+  }
+
+  @Test
+  public void testStartMatchesSearch() {
+    ReversiModel model = new ReversiModel(4);
+    HexPlaneCoord searched = new AlphaBetaStrategySummarizer(Player.PLAYER1, 60_000, DEPTH)
+        .apply(model.getHexPlane()).get(0);
+    List<HexPlaneCoord> booked =
+        new OpeningBookStrategySummarizer(Player.PLAYER1, book).apply(model.getHexPlane());
+    Assert.assertEquals(1, booked.size());
+    // the start is symmetric, so the book may hold an image of the searched move
+    Assert.assertEquals(afterMove(model, searched), afterMove(model, booked.get(0)));
+  }
+
+  @Test
+  public void testBookCoversOpeningsInEveryOrientation() {
+    HexSymmetry symmetry = HexSymmetry.forRadius(3);
+    Random rand = new Random(5);
+    for (int game = 0; game < 10; game++) {
+      ReversiModel model = new ReversiModel(4, game % 2 == 0 ? Player.PLAYER1 : Player.PLAYER2);
+      for (int ply = 0; ply < PLIES; ply++) {
+        Player turn = model.getPlayer();
+        List<HexPlaneCoord> booked =
+            new OpeningBookStrategySummarizer(turn, book).apply(model.getHexPlane());
+        Assert.assertEquals(1, booked.size());
+        int sym = rand.nextInt(HexSymmetry.COUNT);
+        BitboardHexPlane image = BitboardHexPlane.of(model.getHexPlane()).transformed(sym);
+        List<HexPlaneCoord> imageBooked =
+            new OpeningBookStrategySummarizer(turn, book).apply(image);
+        Assert.assertEquals(1, imageBooked.size());
+        HexPlaneCoord back = symmetry.map(symmetry.inverse(sym), imageBooked.get(0));
+        Assert.assertEquals(afterMove(model, booked.get(0)), afterMove(model, back));
+        List<HexPlaneCoord> moves = model.getPossibleMoves(turn);
+        model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), turn);
+      }
+    }
+  }
+
+  @Test
+  public void testFallsBackOutOfBook() {
+    ReversiModel model = new ReversiModel(5);
+    UnifiedCommand command = AgentBuilder
+        .create(new OpeningBookAIAgent(Player.PLAYER1, model, book))
+        .andThen(new GreedyAIAgent(Player.PLAYER1, model))
+        .getFirstMoveOrPassFinalizer()
+        .build()
+        .getAndResetCommand();
+    HexPlaneCoord greedy =
+        new GreedyStrategySummarizer(Player.PLAYER1).apply(model.getHexPlane()).get(0);
+    Assert.assertEquals(new UnifiedCommand(new Move(greedy)), command);
+  }
+
+  @Test
+  public void testIllegalArgumentsAndCorruptFiles() throws IOException {
+    Path file = Files.createTempFile("book", ".ob");
+    file.toFile().deleteOnExit();
+    Assert.assertThrows(IllegalArgumentException.class, () -> OpeningBook.build(3, 0, 2, file));
+    Assert.assertThrows(IllegalArgumentException.class, () -> OpeningBook.build(3, 2, 0, file));
+    Files.write(file, new byte[]{1, 2, 3});
+    Assert.assertThrows(IOException.class, () -> OpeningBook.open(file));
+  }
+
+  // the canonical hash of the position after the move, which is the same for equivalent moves
+  private static long afterMove(ReversiModel model, HexPlaneCoord move) {
+    ReversiModel copy = new ReversiModel(model);
+    copy.makeMoveAsPlayer(move, copy.getPlayer());
+    return copy.getCanonicalPositionHash();
+  }
+}
@@ -0,0 +1,44 @@
+package publictest;
+
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.HexPlaneSummarizer;
+import reversi.hex.summarizer.strategy.PasteStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * {@link PasteMatch} is a testing class that plays a strategy against the
+ * {@link PasteStrategySummarizer}, a baseline any search should beat.
+ */
+public final class PasteMatch {
+
+  private PasteMatch() {
+  }
+
+  /**
+   * Play a game to the end with the strategy as {@link Player#PLAYER1}, moving first, and the
+   * paste strategy as {@link Player#PLAYER2}. Each side plays the first move its strategy returns,
+   * or passes if it returns none.
+   *
+   * @param radius   the radius of the board, as for {@link ReversiModel#ReversiModel(int)}
+   * @param strategy the strategy to play for the first player
+   * @return the final difference in pieces, from the strategy's point of view
+   */
+  public static int play(int radius, HexPlaneSummarizer<Player, List<HexPlaneCoord>> strategy) {
+    ReversiModel model = new ReversiModel(radius);
+    PasteStrategySummarizer paste = new PasteStrategySummarizer(Player.PLAYER2);
+    while (model.hasLegalMoves(Player.PLAYER1) || model.hasLegalMoves(Player.PLAYER2)) {
+      Player turn = model.getPlayer();
+      List<HexPlaneCoord> moves = turn == Player.PLAYER1
+          ? strategy.apply(model.getHexPlane()) : paste.apply(model.getHexPlane());
+      if (moves.isEmpty()) {
+        model.passAsPlayer(turn);
+      } else {
+        model.makeMoveAsPlayer(moves.get(0), turn);
+      }
+    }
+    return model.getScore(Player.PLAYER1) - model.getScore(Player.PLAYER2);
+  }
+}
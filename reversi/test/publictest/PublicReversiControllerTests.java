@@ -4,10 +4,17 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import reversi.ReversiGameFactory;
+import reversi.command.ModelCommand;
 import reversi.command.UnifiedCommand;
+import reversi.command.commands.Highlight;
 import reversi.command.commands.Move;
 import reversi.command.commands.Pass;
 import reversi.controller.AsynchronousReversiController;
@@ -18,6 +25,7 @@ import reversi.controller.agent.AbsoluteAgent;
 import reversi.exceptions.IllegalCommandException;
 import reversi.hex.coordinates.AxialCoordinate;
 import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.summarizer.strategy.Deadline;
 import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
 import reversi.model.MutableReversiModel;
 import reversi.model.ReversiModel;
@@ -248,14 +256,52 @@ public class PublicReversiControllerTests {
         getLine(5));
     Assert.assertEquals("Move at AxialCoordinate{q=-1, r=2, s=-1} as X.",
         getLine(9));
+    // the game ends as soon as neither player can move, without asking the agents to pass
     Assert.assertEquals("gameEnd",
-        getLine(16));
+        getLine(12));
+    Assert.assertEquals(13, log.toString().split("\n").length);
     Assert.assertEquals(Integer.valueOf(4),
         new TotalPointsSummarizer(Player.PLAYER1).apply(model.getHexPlane()));
     Assert.assertEquals(Integer.valueOf(8),
         new TotalPointsSummarizer(Player.PLAYER2).apply(model.getHexPlane()));
   }
 
+  @Test
+  public void testAsyncRendersOncePerState() throws IllegalCommandException {
+    log = new StringBuilder();
+    model = new MockReversiModel(3, log);
+    int[] renders = new int[1];
+    ReversiView view = new MockReversiView(log) {
+      @Override
+      public boolean render() {
+        renders[0]++;
+        return false;
+      }
+    };
+    cont = new AsynchronousReversiController(
+        new SetMovesAgent(Player.PLAYER1,
+            List.<ModelCommand>of(new Move(new CubicalCoordinate(-1, -1, 2)),
+                        new Move(new AxialCoordinate(2, -1)),
+                        new Move(new AxialCoordinate(-1, 2)))
+                .iterator()),
+        new SetMovesAgent(Player.PLAYER2,
+            List.<ModelCommand>of(new Move(new CubicalCoordinate(1, 1, -2)),
+                        new Move(new AxialCoordinate(1, -2)),
+                        new Move(new AxialCoordinate(-2, 1)))
+                .iterator()),
+        view,
+        view,
+        model);
+    cont.startGame();
+    // the starting position, and the position after each round of moves by both agents
+    Assert.assertEquals(4, renders[0]);
+    // nothing changed, so there is nothing to render
+    cont.accept(new UnifiedCommand(), Player.PLAYER1);
+    Assert.assertEquals(4, renders[0]);
+    cont.accept(new UnifiedCommand(new Highlight(new AxialCoordinate(0, 1))), Player.PLAYER1);
+    Assert.assertEquals(5, renders[0]);
+  }
+
   @Test
   public void testAsyncPass() {
     initAsync();
@@ -306,6 +352,91 @@ public class PublicReversiControllerTests {
     }
   }
 
+  @Test
+  public void testAsyncThinkingAgents() throws Exception {
+    log = new StringBuilder();
+    model = new ReversiModel(3);
+    ReversiView view = new MockReversiView(log);
+    ExecutorService events = Executors.newSingleThreadExecutor();
+    try {
+      cont = new AsynchronousReversiController(
+          new ThinkingAgent(Player.PLAYER1, model,
+              List.<ModelCommand>of(new Move(new CubicalCoordinate(-1, -1, 2)),
+                      new Move(new AxialCoordinate(2, -1)),
+                      new Move(new AxialCoordinate(-1, 2)))
+                  .iterator()),
+          new ThinkingAgent(Player.PLAYER2, model,
+              List.<ModelCommand>of(new Move(new CubicalCoordinate(1, 1, -2)),
+                      new Move(new AxialCoordinate(1, -2)),
+                      new Move(new AxialCoordinate(-2, 1)))
+                  .iterator()),
+          view,
+          view,
+          model,
+          events);
+      events.submit(cont::startGame).get();
+      awaitGameEnd(events);
+      Assert.assertEquals(Integer.valueOf(4),
+          new TotalPointsSummarizer(Player.PLAYER1).apply(model.getHexPlane()));
+      Assert.assertEquals(Integer.valueOf(8),
+          new TotalPointsSummarizer(Player.PLAYER2).apply(model.getHexPlane()));
+    } finally {
+      events.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testAsyncAsksFailedAgentAgain() throws Exception {
+    log = new StringBuilder();
+    model = new ReversiModel(3);
+    ReversiView view = new MockReversiView(log);
+    ExecutorService events = Executors.newSingleThreadExecutor();
+    try {
+      cont = new AsynchronousReversiController(
+          // fails its first request, then makes a move the model rejects, then plays normally
+          new ThinkingAgent(Player.PLAYER1, model,
+              List.<ModelCommand>of(new Move(new AxialCoordinate(0, 2)),
+                      new Move(new CubicalCoordinate(-1, -1, 2)),
+                      new Move(new AxialCoordinate(2, -1)),
+                      new Move(new AxialCoordinate(-1, 2)))
+                  .iterator()) {
+            private boolean failed;
+
+            @Override
+            public CompletableFuture<UnifiedCommand> requestCommand(Deadline deadline,
+                                                                   Executor executor) {
+              if (!failed) {
+                failed = true;
+                return CompletableFuture.supplyAsync(() -> {
+                  throw new IllegalStateException("Agent failed.");
+                }, executor);
+              }
+              return super.requestCommand(deadline, executor);
+            }
+          },
+          new ThinkingAgent(Player.PLAYER2, model,
+              List.<ModelCommand>of(new Move(new CubicalCoordinate(1, 1, -2)),
+                      new Move(new AxialCoordinate(1, -2)),
+                      new Move(new AxialCoordinate(-2, 1)))
+                  .iterator()),
+          view,
+          view,
+          model,
+          events);
+      events.submit(cont::startGame).get();
+      awaitGameEnd(events);
+      String out = events.submit(log::toString).get();
+      Assert.assertTrue(out.contains("Agent failed."));
+      Assert.assertTrue(out.contains("Invalid move: attempted move does not flip any pieces."));
+      Assert.assertEquals(Integer.valueOf(4),
+          new TotalPointsSummarizer(Player.PLAYER1).apply(model.getHexPlane()));
+      Assert.assertEquals(Integer.valueOf(8),
+          new TotalPointsSummarizer(Player.PLAYER2).apply(model.getHexPlane()));
+    } finally {
+      events.shutdownNow();
+    }
+  }
+
   @Test
   public void testEasyEasyAIScore() {
     ReversiGameFactory factory = new ReversiGameFactory(
@@ -380,6 +511,55 @@ public class PublicReversiControllerTests {
     return lines[n];
   }
 
+  // the agents answer on threads of their own, so wait for the game to end
+  private void awaitGameEnd(ExecutorService events) throws Exception {
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (!events.submit(() -> log.toString().contains("gameEnd")).get()) {
+      Assert.assertTrue(System.nanoTime() < deadline);
+      Thread.sleep(10);
+    }
+  }
+
+  // An agent that plays set moves on its own turn, but answers on another thread like an AI, and
+  // passes once it runs out of moves
+  private static class ThinkingAgent implements AbsoluteAgent {
+    private final Player player;
+    private final MutableReversiModel model;
+    private final Iterator<ModelCommand> moves;
+
+    ThinkingAgent(Player player, MutableReversiModel model, Iterator<ModelCommand> moves) {
+      this.player = player;
+      this.model = model;
+      this.moves = moves;
+    }
+
+    @Override
+    public UnifiedCommand getAndResetCommand() {
+      if (model.getPlayer() != player || !moves.hasNext()) {
+        return new UnifiedCommand(new Pass());
+      }
+      return new UnifiedCommand(moves.next());
+    }
+
+    @Override
+    public CompletableFuture<UnifiedCommand> requestCommand(Deadline deadline,
+                                                           Executor executor) {
+      // decide on the position the agent was asked about, then answer later on another thread
+      UnifiedCommand command = getAndResetCommand();
+      return CompletableFuture.supplyAsync(() -> command, executor);
+    }
+
+    @Override
+    public boolean viewIsVisible() {
+      return false;
+    }
+
+    @Override
+    public Player getPlayer() {
+      return player;
+    }
+  }
+
   // Prevent the extra polling of pollAgents(). It makes gameplay work smoothly, but gets in the way
   // of tests.
   private static class NoExtraPollSyncController extends SynchronousReversiController {
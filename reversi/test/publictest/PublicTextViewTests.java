@@ -70,6 +70,21 @@ public class PublicTextViewTests {
     Assert.assertEquals(blankExpected + highlightExpected, out.toString());
   }
 
+  @Test
+  public void testRenderFollowsModelChanges() {
+    model = new ReversiModel(3);
+    view = new ReversiTextView(out, model);
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    model.makeMoveAsPlayer(new AxialCoordinate(2, -1), Player.PLAYER2);
+    model.undo();
+    view.render();
+    // a new view reads the whole board from the model
+    StringBuilder fresh = new StringBuilder();
+    new ReversiTextView(fresh, model).render();
+    Assert.assertEquals(fresh.toString(), out.toString());
+    Assert.assertTrue(out.toString().contains("X"));
+  }
+
   @Test
   public void testHighlightingNullThrows() {
     model = new ReversiModel(3);
@@ -0,0 +1,123 @@
+package publictest;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Move;
+import reversi.controller.Player;
+import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.GreedyAIAgent;
+import reversi.controller.agent.TablebaseAIAgent;
+import reversi.hex.coordinates.HexSymmetry;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.CompactBoard;
+import reversi.hex.summarizer.strategy.GreedyStrategySummarizer;
+import reversi.hex.summarizer.strategy.Tablebase;
+import reversi.hex.summarizer.strategy.TablebaseStrategySummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for the {@link Tablebase} and the {@link TablebaseAIAgent}.
+ */
+public class TablebaseAgentTests {
+  private static Tablebase tablebase;
+
+  @BeforeClass
+  public static void buildTablebase() throws IOException {
+    Path file = Files.createTempFile("tablebase", ".tb");
+    file.toFile().deleteOnExit();
+    long positions = Tablebase.build(2, file);
+    tablebase = Tablebase.open(file);
+    Assert.assertEquals(positions, tablebase.size());
+    Assert.assertEquals(2, tablebase.getRadius());
+  }
+
+  @Test
+  public void testValuesMatchExhaustiveSearch() {
+    for (int seed = 0; seed < 20; seed++) {
+      Random rand = new Random(seed);
+      ReversiModel model = new ReversiModel(3, seed % 2 == 0 ? Player.PLAYER1 : Player.PLAYER2);
+      while (model.hasLegalMoves(Player.PLAYER1) || model.hasLegalMoves(Player.PLAYER2)) {
+        Player turn = model.getPlayer();
+        CompactBoard board = new CompactBoard(model.getHexPlane(), turn);
+        Assert.assertEquals(ExhaustiveSearch.value(model), tablebase.value(board).getAsInt());
+        List<HexPlaneCoord> moves = model.getPossibleMoves(turn);
+        if (moves.isEmpty()) {
+          model.passAsPlayer(turn);
+        } else {
+          model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), turn);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSymmetricPositionsShareAValue() {
+    HexSymmetry symmetry = HexSymmetry.forRadius(2);
+    ReversiModel model = new ReversiModel(3);
+    Player turn = model.getPlayer();
+    model.makeMoveAsPlayer(model.getPossibleMoves(turn).get(0), turn);
+    CompactBoard board = new CompactBoard(model.getHexPlane(), model.getPlayer());
+    int value = tablebase.value(board).getAsInt();
+    for (int sym = 0; sym < HexSymmetry.COUNT; sym++) {
+      CompactBoard image = new CompactBoard(2,
+          symmetry.map(sym, board.getBits(Player.PLAYER1)),
+          symmetry.map(sym, board.getBits(Player.PLAYER2)), board.getPlayer());
+      Assert.assertEquals(value, tablebase.value(image).getAsInt());
+      for (int index = 0; index < symmetry.getTable().size(); index++) {
+        Assert.assertEquals(index, symmetry.map(symmetry.inverse(sym), symmetry.map(sym, index)));
+      }
+    }
+  }
+
+  @Test
+  public void testBestMoveKeepsTheValue() {
+    ReversiModel model = new ReversiModel(3);
+    while (model.hasLegalMoves(Player.PLAYER1) || model.hasLegalMoves(Player.PLAYER2)) {
+      Player turn = model.getPlayer();
+      int value = tablebase.value(new CompactBoard(model.getHexPlane(), turn)).getAsInt();
+      List<HexPlaneCoord> best =
+          new TablebaseStrategySummarizer(turn, tablebase).apply(model.getHexPlane());
+      if (best.isEmpty()) {
+        model.passAsPlayer(turn);
+      } else {
+        Assert.assertEquals(model.getPossibleMoves(turn).size(), best.size());
+        model.makeMoveAsPlayer(best.get(0), turn);
+      }
+      Player next = model.getPlayer();
+      int after = tablebase.value(new CompactBoard(model.getHexPlane(), next)).getAsInt();
+      Assert.assertEquals(value, next == turn ? after : -after);
+    }
+  }
+
+  @Test
+  public void testOtherSizesFallBack() {
+    ReversiModel model = new ReversiModel(4);
+    UnifiedCommand command = AgentBuilder
+        .create(new TablebaseAIAgent(Player.PLAYER1, model, tablebase))
+        .andThen(new GreedyAIAgent(Player.PLAYER1, model))
+        .getFirstMoveOrPassFinalizer()
+        .build()
+        .getAndResetCommand();
+    HexPlaneCoord greedy =
+        new GreedyStrategySummarizer(Player.PLAYER1).apply(model.getHexPlane()).get(0);
+    Assert.assertEquals(new UnifiedCommand(new Move(greedy)), command);
+  }
+
+  @Test
+  public void testUnsupportedOrCorruptFiles() throws IOException {
+    Path file = Files.createTempFile("tablebase", ".tb");
+    file.toFile().deleteOnExit();
+    Assert.assertThrows(IllegalArgumentException.class, () -> Tablebase.build(3, file));
+    Files.write(file, new byte[]{1, 2, 3});
+    Assert.assertThrows(IOException.class, () -> Tablebase.open(file));
+  }
+}
@@ -0,0 +1,68 @@
+package publictest.summarizers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.CachingSummarizer;
+import reversi.hex.summarizer.SummaryCache;
+import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
+import reversi.hex.summarizer.reversiinfo.TotalPointsSummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for {@link CachingSummarizer} and {@link SummaryCache}.
+ */
+public class CachingSummarizerTests {
+
+  @Test
+  public void testHitsOnEqualSummarizerAndBoard() {
+    SummaryCache cache = new SummaryCache(8);
+    ReversiModel model = new ReversiModel(4);
+    List<HexPlaneCoord> first = new CachingSummarizer<>(
+        new PlayerPossibleMovesSummarizer(Player.PLAYER1), cache).apply(model.getHexPlane());
+    List<HexPlaneCoord> second = new CachingSummarizer<>(
+        new PlayerPossibleMovesSummarizer(Player.PLAYER1), cache).apply(model.getHexPlane());
+    Assert.assertSame(first, second);
+    Assert.assertEquals(1, cache.getHits());
+    Assert.assertEquals(1, cache.getMisses());
+    // a different parameter is a different summary
+    new CachingSummarizer<>(new PlayerPossibleMovesSummarizer(Player.PLAYER2), cache)
+        .apply(model.getHexPlane());
+    Assert.assertEquals(2, cache.getMisses());
+  }
+
+  @Test
+  public void testMissesAfterBoardChanges() {
+    SummaryCache cache = new SummaryCache(8);
+    ReversiModel model = new ReversiModel(4);
+    CachingSummarizer<Integer> points =
+        new CachingSummarizer<>(new TotalPointsSummarizer(Player.PLAYER1), cache);
+    HexPlane<Player> before = model.getHexPlane();
+    Assert.assertEquals(Integer.valueOf(3), points.apply(before));
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    Assert.assertEquals(Integer.valueOf(5), points.apply(model.getHexPlane()));
+    Assert.assertEquals(Integer.valueOf(3), points.apply(before));
+    Assert.assertEquals(1, cache.getHits());
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    SummaryCache cache = new SummaryCache(1);
+    HexPlane<Player> plane = new ReversiModel(4).getHexPlane();
+    new CachingSummarizer<>(new TotalPointsSummarizer(Player.PLAYER1), cache).apply(plane);
+    new CachingSummarizer<>(new TotalPointsSummarizer(Player.PLAYER2), cache).apply(plane);
+    new CachingSummarizer<>(new TotalPointsSummarizer(Player.PLAYER1), cache).apply(plane);
+    Assert.assertEquals(0, cache.getHits());
+    Assert.assertEquals(1, cache.size());
+    cache.clear();
+    Assert.assertEquals(0, cache.size());
+    Assert.assertEquals(0, cache.getMisses());
+    Assert.assertThrows(IllegalArgumentException.class, () -> new SummaryCache(0));
+  }
+}
@@ -0,0 +1,64 @@
+package publictest.summarizers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.geom.Point2D;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.plane.HexPlaneImpl;
+import reversi.hex.summarizer.HexCoordToPixelSummarizer;
+
+/**
+ * Tests for {@link HexCoordToPixelSummarizer}.
+ */
+public class HexCoordToPixelSummarizerTests {
+
+  @Test
+  public void testToHexInvertsToPixel() {
+    HexPlane<Player> plane = new HexPlaneImpl<>(10);
+    HexCoordToPixelSummarizer<Player> summarizer = new HexCoordToPixelSummarizer<>(17);
+    HexPlane<Point2D> centers = summarizer.apply(plane);
+    for (HexPlaneCoord coord : plane.getKnownCoords()) {
+      Point2D center = centers.getAtHex(coord).orElseThrow();
+      Assert.assertEquals(center, summarizer.toPixel(coord));
+      Assert.assertEquals(coord, summarizer.toHex(center));
+    }
+  }
+
+  @Test
+  public void testToHexFindsCellOfPointsNearEdges() {
+    Random rand = new Random(8);
+    int radius = 20;
+    HexCoordToPixelSummarizer<Player> summarizer = new HexCoordToPixelSummarizer<>(radius);
+    // every point closer to a center than the inner radius of the hexagon lies in that hex
+    double inner = radius * Math.sqrt(3) / 2;
+    for (int i = 0; i < 10000; i++) {
+      HexPlaneCoord coord = new AxialCoordinate(rand.nextInt(41) - 20, rand.nextInt(41) - 20);
+      Point2D center = summarizer.toPixel(coord);
+      double angle = rand.nextDouble() * 2 * Math.PI;
+      double distance = rand.nextDouble() * inner * 0.999;
+      Point2D point = new Point2D.Double(center.getX() + distance * Math.cos(angle),
+          center.getY() + distance * Math.sin(angle));
+      Assert.assertEquals(coord, summarizer.toHex(point));
+    }
+  }
+
+  @Test
+  public void testToHexAcrossEdges() {
+    HexCoordToPixelSummarizer<Player> summarizer = new HexCoordToPixelSummarizer<>(10);
+    // just past the right edge of the center hex is its right neighbor
+    double inner = 10 * Math.sqrt(3) / 2;
+    Assert.assertEquals(new AxialCoordinate(1, 0),
+        summarizer.toHex(new Point2D.Double(inner + 0.01, 0)));
+    Assert.assertEquals(new AxialCoordinate(0, 0),
+        summarizer.toHex(new Point2D.Double(inner - 0.01, 0)));
+    // just inside the bottom corner of the center hex
+    Assert.assertEquals(new AxialCoordinate(0, 0),
+        summarizer.toHex(new Point2D.Double(0, 9.99)));
+  }
+}
@@ -0,0 +1,53 @@
+package publictest.summarizers;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
+import reversi.hex.summarizer.reversiinfo.PointsFromMoveAtPointSummarizer;
+import reversi.hex.summarizer.reversiinfo.ScoredMove;
+import reversi.hex.summarizer.reversiinfo.ScoredMovesSummarizer;
+import reversi.model.ReversiModel;
+
+/**
+ * Tests for {@link ScoredMovesSummarizer}.
+ */
+public class ScoredMovesSummarizerTests {
+
+  @Test
+  public void testMatchesPossibleMovesAndPoints() {
+    Random rand = new Random(11);
+    ReversiModel model = new ReversiModel(6);
+    for (int ply = 0; ply < 80; ply++) {
+      Player player = model.getPlayer();
+      List<ScoredMove> scored = new ScoredMovesSummarizer(player).apply(model.getHexPlane());
+      List<HexPlaneCoord> moves =
+          new PlayerPossibleMovesSummarizer(player).apply(model.getHexPlane());
+      Assert.assertEquals(moves,
+          scored.stream().map(ScoredMove::getCoordinate).collect(Collectors.toList()));
+      for (ScoredMove move : scored) {
+        Assert.assertEquals(new PointsFromMoveAtPointSummarizer(move.getCoordinate(), player)
+            .apply(model.getHexPlane()).intValue(), move.getPoints());
+      }
+      if (moves.isEmpty()) {
+        model.passAsPlayer(player);
+      } else {
+        model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), player);
+      }
+    }
+  }
+
+  @Test
+  public void testReadOnly() {
+    List<ScoredMove> scored =
+        new ScoredMovesSummarizer(Player.PLAYER1).apply(new ReversiModel(4).getHexPlane());
+    Assert.assertEquals(6, scored.size());
+    Assert.assertThrows(UnsupportedOperationException.class, scored::clear);
+  }
+}
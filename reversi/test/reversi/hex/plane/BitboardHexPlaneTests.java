@@ -0,0 +1,178 @@
+package reversi.hex.plane;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.coordinates.HexSymmetry;
+
+/**
+ * Test class for BitboardHexPlane.
+ */
+public class BitboardHexPlaneTests {
+
+  @Test
+  public void testConstructorIllegalThrowsException() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new BitboardHexPlane(0));
+  }
+
+  @Test
+  public void testConstructorRadiusFour() {
+    HexPlane<Player> three = new BitboardHexPlane(4);
+    Assert.assertEquals(37, three.getPlane().size());
+    Assert.assertEquals(37, three.getKnownCoords().size());
+    Assert.assertEquals(3, three.getRadius());
+    Assert.assertEquals(Optional.empty(), three.getAtHex(new AxialCoordinate(3, -3)));
+    Assert.assertEquals(Optional.empty(), three.getAtHex(new AxialCoordinate(-3, 0)));
+    Assert.assertThrows(IndexOutOfBoundsException.class,
+        () -> three.getAtHex(new AxialCoordinate(4, -4)));
+    Assert.assertThrows(IndexOutOfBoundsException.class,
+        () -> three.getAtHex(new AxialCoordinate(-1, -3)));
+    Assert.assertThrows(NullPointerException.class, () -> three.getAtHex(null));
+  }
+
+  @Test
+  public void testSetAndGet() {
+    HexPlane<Player> plane = new BitboardHexPlane(5);
+    plane.setElementAt(new AxialCoordinate(0, 2), Player.PLAYER1);
+    plane.setElementAt(new CubicalCoordinate(-4, 4, 0), Player.PLAYER2);
+    Assert.assertEquals(Optional.of(Player.PLAYER1),
+        plane.getAtHex(new CubicalCoordinate(0, 2, -2)));
+    Assert.assertEquals(Optional.of(Player.PLAYER2),
+        plane.getAtHex(new AxialCoordinate(-4, 4)));
+    plane.setElementAt(new AxialCoordinate(0, 2), Player.PLAYER2);
+    Assert.assertEquals(Optional.of(Player.PLAYER2),
+        plane.getAtHex(new AxialCoordinate(0, 2)));
+    Assert.assertThrows(NullPointerException.class,
+        () -> plane.setElementAt(new AxialCoordinate(0, 0), null));
+    Assert.assertThrows(IndexOutOfBoundsException.class,
+        () -> plane.setElementAt(new AxialCoordinate(5, 0), Player.PLAYER1));
+  }
+
+  @Test
+  public void testMapIsLiveView() {
+    HexPlane<Player> plane = new BitboardHexPlane(3);
+    plane.getPlane().put(new AxialCoordinate(1, -1), Optional.of(Player.PLAYER1));
+    Assert.assertEquals(Optional.of(Player.PLAYER1),
+        plane.getAtHex(new AxialCoordinate(1, -1)));
+    plane.setElementAt(new AxialCoordinate(-1, 0), Player.PLAYER2);
+    Assert.assertEquals(Optional.of(Player.PLAYER2),
+        plane.getPlane().get(new CubicalCoordinate(-1, 0, 1)));
+    plane.getPlane().put(new AxialCoordinate(1, -1), Optional.empty());
+    Assert.assertEquals(Optional.empty(), plane.getAtHex(new AxialCoordinate(1, -1)));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> plane.getPlane().put(new AxialCoordinate(3, 0), Optional.empty()));
+  }
+
+  @Test
+  public void testEqualToHexPlaneImpl() {
+    HexPlane<Player> bits = new BitboardHexPlane(4);
+    HexPlane<Player> map = new HexPlaneImpl<>(4);
+    Assert.assertEquals(bits, map);
+    Assert.assertEquals(map, bits);
+    Assert.assertEquals(map.hashCode(), bits.hashCode());
+    bits.setElementAt(new AxialCoordinate(2, -1), Player.PLAYER1);
+    Assert.assertNotEquals(bits, map);
+    map.setElementAt(new AxialCoordinate(2, -1), Player.PLAYER1);
+    Assert.assertEquals(bits, map);
+    Assert.assertEquals(map.hashCode(), bits.hashCode());
+    Assert.assertEquals(bits, new BitboardHexPlane(map));
+  }
+
+  @Test
+  public void testKeysetMap() {
+    HexPlane<Player> plane = new BitboardHexPlane(3);
+    HexPlane<Integer> mapped = plane.keysetMap(coord -> coord.getQ() * 10 + coord.getR());
+    Assert.assertEquals(19, mapped.getPlane().size());
+    Assert.assertEquals(Optional.of(-9), mapped.getAtHex(new AxialCoordinate(-1, 1)));
+  }
+
+  @Test
+  public void testCountsAndOwnedCoords() {
+    BitboardHexPlane plane = new BitboardHexPlane(5);
+    plane.setElementAt(new AxialCoordinate(0, 2), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(-4, 4), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(4, -4), Player.PLAYER2);
+    Assert.assertEquals(2, plane.count(Player.PLAYER1));
+    Assert.assertEquals(1, plane.count(Player.PLAYER2));
+    plane.setElementAt(new AxialCoordinate(0, 2), Player.PLAYER2);
+    plane.getPlane().put(new AxialCoordinate(4, -4), Optional.empty());
+    Assert.assertEquals(1, plane.count(Player.PLAYER1));
+    Assert.assertEquals(1, plane.count(Player.PLAYER2));
+    Assert.assertEquals(java.util.Set.of(new AxialCoordinate(-4, 4)),
+        plane.coordsOf(Player.PLAYER1));
+    Assert.assertTrue(plane.coordsOf(Player.PLAYER2).contains(new CubicalCoordinate(0, 2, -2)));
+    Assert.assertFalse(plane.coordsOf(Player.PLAYER2).contains(new AxialCoordinate(9, 0)));
+    Assert.assertEquals(1, new BitboardHexPlane(plane).count(Player.PLAYER2));
+  }
+
+  @Test
+  public void testSnapshotsAreIndependent() {
+    BitboardHexPlane plane = new BitboardHexPlane(4);
+    plane.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER1);
+    BitboardHexPlane snapshot = plane.snapshot();
+    BitboardHexPlane copy = new BitboardHexPlane(snapshot);
+    Assert.assertEquals(plane, snapshot);
+    plane.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER2);
+    snapshot.setElementAt(new AxialCoordinate(0, 0), Player.PLAYER1);
+    Assert.assertEquals(Optional.of(Player.PLAYER2), plane.getAtHex(new AxialCoordinate(1, 0)));
+    Assert.assertEquals(Optional.empty(), plane.getAtHex(new AxialCoordinate(0, 0)));
+    Assert.assertEquals(Optional.of(Player.PLAYER1),
+        snapshot.getAtHex(new AxialCoordinate(1, 0)));
+    Assert.assertEquals(2, snapshot.count(Player.PLAYER1));
+    Assert.assertEquals(1, copy.count(Player.PLAYER1));
+    Assert.assertEquals(Optional.empty(), copy.getAtHex(new AxialCoordinate(0, 0)));
+  }
+
+  @Test
+  public void testZobristHashFollowsCells() {
+    BitboardHexPlane plane = new BitboardHexPlane(4);
+    Assert.assertEquals(0, plane.zobristHash());
+    plane.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(0, 1), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER2);
+    BitboardHexPlane other = new BitboardHexPlane(4);
+    other.setElementAt(new AxialCoordinate(0, 1), Player.PLAYER1);
+    other.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER2);
+    Assert.assertEquals(other.zobristHash(), plane.zobristHash());
+    Assert.assertEquals(plane.zobristHash(),
+        new BitboardHexPlane(new HexPlaneImpl<>(plane)).zobristHash());
+    plane.getPlane().put(new AxialCoordinate(1, 0), Optional.empty());
+    Assert.assertNotEquals(other.zobristHash(), plane.zobristHash());
+    other.removeAtIndex(other.getTable().indexOf(1, 0));
+    Assert.assertEquals(other.zobristHash(), plane.zobristHash());
+  }
+
+  @Test
+  public void testSymmetricHashesFollowCells() {
+    Random rand = new Random(7);
+    BitboardHexPlane plane = new BitboardHexPlane(5);
+    HexSymmetry symmetry = HexSymmetry.forRadius(4);
+    for (int step = 0; step < 200; step++) {
+      int index = rand.nextInt(plane.getTable().size());
+      if (rand.nextInt(4) == 0) {
+        plane.removeAtIndex(index);
+      } else {
+        plane.setAtIndex(index, rand.nextBoolean() ? Player.PLAYER1 : Player.PLAYER2);
+      }
+      int sym = rand.nextInt(HexSymmetry.COUNT);
+      BitboardHexPlane image = plane.transformed(sym);
+      Assert.assertEquals(image.zobristHash(), plane.symmetricHash(sym));
+      Assert.assertEquals(plane.canonicalHash(), image.canonicalHash());
+      Assert.assertEquals(plane.transformed(plane.canonicalSymmetry()),
+          image.transformed(image.canonicalSymmetry()));
+      HexPlaneCoord coord = plane.getTable().coordAt(index);
+      Assert.assertEquals(plane.getAtHex(coord), image.getAtHex(symmetry.map(sym, coord)));
+      Assert.assertEquals(coord,
+          symmetry.map(symmetry.inverse(sym), symmetry.map(sym, coord)));
+    }
+    Assert.assertEquals(plane, plane.transformed(0));
+    Assert.assertEquals(plane.symmetricHash(3), plane.snapshot().symmetricHash(3));
+  }
+}
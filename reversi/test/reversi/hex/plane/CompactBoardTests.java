@@ -0,0 +1,79 @@
+package reversi.hex.plane;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.model.ReversiModel;
+
+/**
+ * Test class for CompactBoard.
+ */
+public class CompactBoardTests {
+
+  @Test
+  public void testMatchesModelOnRandomGames() {
+    Random rand = new Random(7);
+    for (int game = 0; game < 10; game++) {
+      ReversiModel model = new ReversiModel(5);
+      CompactBoard board = new CompactBoard(model.getHexPlane(), model.getPlayer());
+      HexCoordTable table = board.getTable();
+      int[] moves = new int[table.size()];
+      while (!board.isGameOver()) {
+        Player turn = model.getPlayer();
+        Assert.assertEquals(turn, board.getPlayer());
+        int count = board.legalMoves(moves);
+        int[] expected = model.getPossibleMoves(turn).stream()
+            .mapToInt(table::indexOf).sorted().toArray();
+        Assert.assertArrayEquals(expected, Arrays.copyOf(moves, count));
+        if (count == 0) {
+          model.passAsPlayer(turn);
+          board.pass();
+          continue;
+        }
+        int move = moves[rand.nextInt(count)];
+        int before = model.getScore(turn);
+        model.makeMoveAsPlayer(table.coordAt(move), turn);
+        Assert.assertEquals(model.getScore(turn) - before - 1, board.play(move));
+        Assert.assertEquals(model.getScore(Player.PLAYER1), board.count(Player.PLAYER1));
+        Assert.assertEquals(model.getScore(Player.PLAYER2), board.count(Player.PLAYER2));
+      }
+      Assert.assertFalse(model.hasLegalMoves(Player.PLAYER1));
+      Assert.assertFalse(model.hasLegalMoves(Player.PLAYER2));
+    }
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    CompactBoard board = new CompactBoard(new ReversiModel(4).getHexPlane(), Player.PLAYER1);
+    CompactBoard copy = new CompactBoard(board);
+    int[] moves = new int[board.getTable().size()];
+    board.legalMoves(moves);
+    board.play(moves[0]);
+    Assert.assertEquals(Player.PLAYER2, board.getPlayer());
+    Assert.assertEquals(Player.PLAYER1, copy.getPlayer());
+    Assert.assertEquals(3, copy.count(Player.PLAYER1));
+    copy.copyFrom(board);
+    Assert.assertEquals(5, copy.count(Player.PLAYER1));
+    Assert.assertEquals(board.countEmpty(), copy.countEmpty());
+  }
+
+  @Test
+  public void testIllegalMovesThrow() {
+    ReversiModel model = new ReversiModel(4);
+    CompactBoard board = new CompactBoard(model.getHexPlane(), Player.PLAYER1);
+    HexPlaneCoord occupied = model.getPieces(Player.PLAYER1).iterator().next();
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> board.play(board.getTable().indexOf(occupied)));
+    Assert.assertThrows(IllegalArgumentException.class, () -> board.play(0));
+    Assert.assertThrows(IndexOutOfBoundsException.class,
+        () -> board.play(board.getTable().size()));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> board.copyFrom(new CompactBoard(new ReversiModel(5).getHexPlane(), Player.PLAYER1)));
+  }
+}
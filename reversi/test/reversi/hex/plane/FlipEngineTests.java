@@ -0,0 +1,114 @@
+package reversi.hex.plane;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
+import reversi.hex.coordinates.HexPlaneCoord;
+
+/**
+ * Test class for FlipEngine.
+ */
+public class FlipEngineTests {
+
+  @Test
+  public void testStartingRing() {
+    BitboardHexPlane plane = startingRing(4);
+    FlipEngine engine = FlipEngine.forPlane(plane);
+    HexCoordTable table = plane.getTable();
+    int move = table.indexOf(1, -2);
+    Assert.assertArrayEquals(new int[]{table.indexOf(1, -1)},
+        engine.flips(plane, move, Player.PLAYER1));
+    Assert.assertEquals(1, engine.countFlips(plane, move, Player.PLAYER1));
+    Assert.assertTrue(engine.isLegal(plane, move, Player.PLAYER1));
+    // occupied and unreachable cells flip nothing
+    Assert.assertEquals(0, engine.flips(plane, table.indexOf(1, -1), Player.PLAYER1).length);
+    Assert.assertFalse(engine.isLegal(plane, table.indexOf(3, -3), Player.PLAYER1));
+  }
+
+  @Test
+  public void testWrongRadiusThrows() {
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> FlipEngine.forRadius(2).isLegal(new BitboardHexPlane(5), 0, Player.PLAYER1));
+  }
+
+  @Test
+  public void testMatchesCoordinateWalkOnRandomGames() {
+    Random rand = new Random(42);
+    for (int game = 0; game < 20; game++) {
+      BitboardHexPlane plane = startingRing(6);
+      FlipEngine engine = FlipEngine.forPlane(plane);
+      HexCoordTable table = plane.getTable();
+      Player turn = Player.PLAYER1;
+      for (int ply = 0; ply < 200; ply++) {
+        List<Integer> legal = new ArrayList<>();
+        for (int i = 0; i < table.size(); i++) {
+          List<HexPlaneCoord> expected = walkFlips(plane, table.coordAt(i), turn);
+          int[] actual = engine.flips(plane, i, turn);
+          Assert.assertEquals(expected.size(), actual.length);
+          for (int j = 0; j < actual.length; j++) {
+            Assert.assertEquals(expected.get(j), table.coordAt(actual[j]));
+          }
+          Assert.assertEquals(!expected.isEmpty(), engine.isLegal(plane, i, turn));
+          if (!expected.isEmpty()) {
+            legal.add(i);
+          }
+        }
+        Assert.assertArrayEquals(legal.stream().mapToInt(Integer::intValue).sorted().toArray(),
+            engine.legalMoves(plane, turn).sorted().toArray());
+        if (!legal.isEmpty()) {
+          int move = legal.get(rand.nextInt(legal.size()));
+          for (int flip : engine.flips(plane, move, turn)) {
+            plane.setAtIndex(flip, turn);
+          }
+          plane.setAtIndex(move, turn);
+        }
+        turn = turn.getOther();
+      }
+    }
+  }
+
+  // the straightforward definition of a flip: walk each direction one coordinate at a time
+  private static List<HexPlaneCoord> walkFlips(HexPlane<Player> plane, HexPlaneCoord move,
+                                               Player player) {
+    List<HexPlaneCoord> flips = new ArrayList<>();
+    if (plane.getAtHex(move).isPresent()) {
+      return flips;
+    }
+    for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+      List<HexPlaneCoord> line = new ArrayList<>();
+      int q = move.getQ() + HexCoordTable.deltaQ(dir);
+      int r = move.getR() + HexCoordTable.deltaR(dir);
+      HexPlaneCoord next = new AxialCoordinate(q, r);
+      while (plane.getKnownCoords().contains(next)
+          && plane.getAtHex(next).equals(java.util.Optional.of(player.getOther()))) {
+        line.add(next);
+        q += HexCoordTable.deltaQ(dir);
+        r += HexCoordTable.deltaR(dir);
+        next = new AxialCoordinate(q, r);
+      }
+      if (plane.getKnownCoords().contains(next)
+          && plane.getAtHex(next).equals(java.util.Optional.of(player))) {
+        flips.addAll(line);
+      }
+    }
+    return flips;
+  }
+
+  private static BitboardHexPlane startingRing(int radius) {
+    BitboardHexPlane plane = new BitboardHexPlane(radius);
+    plane.setElementAt(new AxialCoordinate(1, -1), Player.PLAYER2);
+    plane.setElementAt(new AxialCoordinate(1, 0), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(0, 1), Player.PLAYER2);
+    plane.setElementAt(new AxialCoordinate(-1, 1), Player.PLAYER1);
+    plane.setElementAt(new AxialCoordinate(-1, 0), Player.PLAYER2);
+    plane.setElementAt(new AxialCoordinate(0, -1), Player.PLAYER1);
+    return plane;
+  }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import reversi.hex.coordinates.AxialCoordinate;
 import reversi.hex.coordinates.CubicalCoordinate;
+import reversi.hex.coordinates.HexCoordTable;
 import reversi.hex.coordinates.HexPlaneCoord;
 
 /**
@@ -25,4 +26,45 @@ public class CoordinateTests {
     Assert.assertThrows(IllegalArgumentException.class,
         () -> new CubicalCoordinate(1, 1, 1));
   }
+
+  @Test
+  public void testHashCodeMatchesAcrossTypes() {
+    Assert.assertEquals(new CubicalCoordinate(5, 9, -14).hashCode(),
+        new AxialCoordinate(5, 9).hashCode());
+    Assert.assertEquals(java.util.Objects.hash(5, 9, -14), new AxialCoordinate(5, 9).hashCode());
+  }
+
+  @Test
+  public void testTableIndexRoundTrip() {
+    HexCoordTable table = HexCoordTable.forRadius(3);
+    Assert.assertEquals(37, table.size());
+    for (int i = 0; i < table.size(); i++) {
+      Assert.assertEquals(i, table.indexOf(table.coordAt(i)));
+    }
+    Assert.assertEquals(0, table.indexOf(new AxialCoordinate(0, -3)));
+    Assert.assertEquals(-1, table.indexOf(new AxialCoordinate(4, -1)));
+    Assert.assertEquals(-1, table.indexOf(-2, -2));
+    Assert.assertTrue(table.intern(new CubicalCoordinate(1, 1, -2))
+        == table.intern(new AxialCoordinate(1, 1)));
+    Assert.assertTrue(table == HexCoordTable.forRadius(3));
+  }
+
+  @Test
+  public void testTableNeighbors() {
+    HexCoordTable table = HexCoordTable.forRadius(2);
+    int center = table.indexOf(0, 0);
+    for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+      int neighbor = table.neighbor(center, dir);
+      Assert.assertEquals(center, table.neighbor(neighbor, dir ^ 1));
+    }
+    // top-left corner only has three neighbors on the plane
+    int corner = table.indexOf(0, -2);
+    int onPlane = 0;
+    for (int dir = 0; dir < HexCoordTable.DIRECTIONS; dir++) {
+      if (table.neighbor(corner, dir) >= 0) {
+        onPlane++;
+      }
+    }
+    Assert.assertEquals(3, onPlane);
+  }
 }
@@ -0,0 +1,56 @@
+package reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.summarizer.reversiinfo.PlayerCoordsSummarizer;
+import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
+
+/**
+ * Test class for the legal moves and pieces kept by ReversiModel.
+ */
+public class LegalMoveTrackerTests {
+
+  @Test
+  public void testStartingMoves() {
+    ReversiModel model = new ReversiModel(4);
+    Assert.assertEquals(new PlayerPossibleMovesSummarizer(Player.PLAYER1)
+        .apply(model.getHexPlane()), model.getPossibleMoves(Player.PLAYER1));
+    Assert.assertEquals(6, model.getPossibleMoves(Player.PLAYER2).size());
+    Assert.assertTrue(model.hasLegalMoves(Player.PLAYER1));
+    Assert.assertFalse(new ReversiModel(1).hasLegalMoves(Player.PLAYER1));
+    Assert.assertThrows(NullPointerException.class, () -> model.getPossibleMoves(null));
+    Assert.assertThrows(NullPointerException.class, () -> model.countLegalMoves(null));
+  }
+
+  @Test
+  public void testMatchesSummarizerOnRandomGames() {
+    Random rand = new Random(7);
+    for (int game = 0; game < 20; game++) {
+      ReversiModel model = new ReversiModel(2 + game % 6);
+      for (int ply = 0; ply < 200; ply++) {
+        for (Player player : Player.values()) {
+          List<HexPlaneCoord> expected =
+              new PlayerPossibleMovesSummarizer(player).apply(model.getHexPlane());
+          Assert.assertEquals(expected, model.getPossibleMoves(player));
+          Assert.assertEquals(!expected.isEmpty(), model.hasLegalMoves(player));
+          Assert.assertEquals(expected.size(), model.countLegalMoves(player));
+          Assert.assertEquals(new PlayerCoordsSummarizer(player).apply(model.getHexPlane()),
+              model.getPieces(player));
+          Assert.assertEquals(model.getPieces(player).size(), model.getScore(player));
+        }
+        List<HexPlaneCoord> moves = model.getPossibleMoves(model.getPlayer());
+        if (moves.isEmpty()) {
+          model.passAsPlayer(model.getPlayer());
+        } else {
+          model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), model.getPlayer());
+        }
+      }
+    }
+  }
+}
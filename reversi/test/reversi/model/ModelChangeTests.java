@@ -0,0 +1,97 @@
+package reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.BitboardHexPlane;
+
+/**
+ * Test class for the changes a ReversiModel reports to its listeners.
+ */
+public class ModelChangeTests {
+
+  @Test
+  public void testMoveListsPlacedAndFlipped() {
+    ReversiModel model = new ReversiModel(4);
+    List<ModelChange> changes = new ArrayList<>();
+    model.addChangeListener(changes::add);
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    Assert.assertEquals(1, changes.size());
+    ModelChange change = changes.get(0);
+    Assert.assertEquals(Optional.of(new AxialCoordinate(1, -2)), change.getPlaced());
+    Assert.assertEquals(Optional.empty(), change.getRemoved());
+    Assert.assertEquals(List.of(new AxialCoordinate(1, -1)), change.getFlipped());
+    Assert.assertEquals(List.of(new AxialCoordinate(1, -2), new AxialCoordinate(1, -1)),
+        change.getChanged());
+    Assert.assertEquals(Player.PLAYER1, change.getOwner());
+    Assert.assertEquals(Player.PLAYER2, change.getPlayer());
+    Assert.assertEquals(1, change.getTurnCount());
+
+    model.passAsPlayer(Player.PLAYER2);
+    Assert.assertTrue(changes.get(1).getChanged().isEmpty());
+    Assert.assertEquals(Player.PLAYER1, changes.get(1).getPlayer());
+
+    model.rewindTo(0);
+    Assert.assertEquals(4, changes.size());
+    ModelChange undo = changes.get(3);
+    Assert.assertEquals(Optional.empty(), undo.getPlaced());
+    Assert.assertEquals(Optional.of(new AxialCoordinate(1, -2)), undo.getRemoved());
+    Assert.assertEquals(List.of(new AxialCoordinate(1, -1)), undo.getFlipped());
+    Assert.assertEquals(Player.PLAYER2, undo.getOwner());
+    Assert.assertEquals(0, undo.getTurnCount());
+  }
+
+  @Test
+  public void testChangesKeepCopyInSync() {
+    Random rand = new Random(5);
+    for (int game = 0; game < 10; game++) {
+      ReversiModel model = new ReversiModel(3 + game % 5);
+      BitboardHexPlane copy = BitboardHexPlane.of(model.getHexPlane());
+      model.addChangeListener(change -> {
+        change.getRemoved().ifPresent(coord -> copy.removeAtIndex(copy.getTable().indexOf(coord)));
+        for (HexPlaneCoord coord : change.getChanged()) {
+          if (!change.getRemoved().equals(Optional.of(coord))) {
+            copy.setAtIndex(copy.getTable().indexOf(coord), change.getOwner());
+          }
+        }
+      });
+      for (int ply = 0; ply < 60; ply++) {
+        if (model.getTurnCount() > 0 && rand.nextInt(4) == 0) {
+          model.undo();
+        } else {
+          List<HexPlaneCoord> moves = model.getPossibleMoves(model.getPlayer());
+          if (moves.isEmpty()) {
+            model.passAsPlayer(model.getPlayer());
+          } else {
+            model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), model.getPlayer());
+          }
+        }
+        Assert.assertEquals(model.getHexPlane(), copy);
+      }
+    }
+  }
+
+  @Test
+  public void testRemovedListenerIsNotCalled() {
+    ReversiModel model = new ReversiModel(3);
+    List<ModelChange> changes = new ArrayList<>();
+    ModelChangeListener listener = changes::add;
+    model.addChangeListener(listener);
+    model.passAsPlayer(Player.PLAYER1);
+    model.removeChangeListener(listener);
+    model.passAsPlayer(Player.PLAYER2);
+    Assert.assertEquals(1, changes.size());
+    // copies of a model do not share its listeners
+    model.addChangeListener(listener);
+    new ReversiModel(model).passAsPlayer(Player.PLAYER1);
+    Assert.assertEquals(1, changes.size());
+  }
+}
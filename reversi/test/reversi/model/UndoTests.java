@@ -0,0 +1,84 @@
+package reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.hex.coordinates.HexPlaneCoord;
+import reversi.hex.plane.HexPlane;
+import reversi.hex.summarizer.reversiinfo.PlayerPossibleMovesSummarizer;
+
+/**
+ * Test class for undoing and rewinding a ReversiModel.
+ */
+public class UndoTests {
+
+  @Test
+  public void testUndoMoveAndPass() {
+    ReversiModel model = new ReversiModel(4);
+    HexPlane<Player> start = model.getHexPlane();
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    model.passAsPlayer(Player.PLAYER2);
+    Assert.assertEquals(2, model.getTurnCount());
+    model.undo();
+    Assert.assertEquals(Player.PLAYER2, model.getPlayer());
+    model.undo();
+    Assert.assertEquals(Player.PLAYER1, model.getPlayer());
+    Assert.assertEquals(start, model.getHexPlane());
+    Assert.assertEquals(new ReversiModel(4).getPositionHash(), model.getPositionHash());
+    Assert.assertNotEquals(new ReversiModel(4, Player.PLAYER2).getPositionHash(),
+        model.getPositionHash());
+    Assert.assertEquals(3, model.getScore(Player.PLAYER1));
+    Assert.assertThrows(IllegalStateException.class, model::undo);
+    Assert.assertThrows(IllegalArgumentException.class, () -> model.rewindTo(1));
+  }
+
+  @Test
+  public void testRewindRandomGames() {
+    Random rand = new Random(3);
+    for (int game = 0; game < 10; game++) {
+      ReversiModel model = new ReversiModel(3 + game % 5);
+      List<HexPlane<Player>> planes = new ArrayList<>();
+      List<Player> players = new ArrayList<>();
+      List<Long> hashes = new ArrayList<>();
+      for (int ply = 0; ply < 100; ply++) {
+        planes.add(model.getHexPlane());
+        players.add(model.getPlayer());
+        hashes.add(model.getPositionHash());
+        List<HexPlaneCoord> moves = model.getPossibleMoves(model.getPlayer());
+        if (moves.isEmpty()) {
+          model.passAsPlayer(model.getPlayer());
+        } else {
+          model.makeMoveAsPlayer(moves.get(rand.nextInt(moves.size())), model.getPlayer());
+        }
+      }
+      for (int turn = planes.size() - 1; turn >= 0; turn -= 1 + rand.nextInt(10)) {
+        model.rewindTo(turn);
+        Assert.assertEquals(turn, model.getTurnCount());
+        Assert.assertEquals(planes.get(turn), model.getHexPlane());
+        Assert.assertEquals(players.get(turn), model.getPlayer());
+        Assert.assertEquals(hashes.get(turn).longValue(), model.getPositionHash());
+        for (Player player : Player.values()) {
+          Assert.assertEquals(new PlayerPossibleMovesSummarizer(player)
+              .apply(model.getHexPlane()), model.getPossibleMoves(player));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    ReversiModel model = new ReversiModel(4);
+    ReversiModel copy = new ReversiModel(model);
+    copy.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    Assert.assertEquals(new ReversiModel(4).getHexPlane(), model.getHexPlane());
+    Assert.assertEquals(0, model.getTurnCount());
+    Assert.assertEquals(new PlayerPossibleMovesSummarizer(Player.PLAYER2)
+        .apply(copy.getHexPlane()), copy.getPossibleMoves(Player.PLAYER2));
+  }
+}
@@ -0,0 +1,87 @@
+package reversi.simulation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Pass;
+import reversi.controller.Player;
+
+/**
+ * Tests for {@link SelfPlay}.
+ */
+public class SelfPlayTests {
+
+  @Test
+  public void testCountsEveryGame() {
+    SelfPlay selfPlay = new SelfPlay(TestAgents.GREEDY, TestAgents.PASTE);
+    selfPlay.setGames(40);
+    selfPlay.setRadii(4, 5);
+    selfPlay.setThreads(3);
+    selfPlay.setRandomOpeningMoves(2);
+    SelfPlayResult result = selfPlay.run();
+    Assert.assertEquals(40, result.getGames());
+    Assert.assertEquals(40, result.getWins(Player.PLAYER1) + result.getWins(Player.PLAYER2)
+        + result.getDraws());
+    Assert.assertTrue(result.getWins(Player.PLAYER1) > result.getWins(Player.PLAYER2));
+    Assert.assertEquals(0, result.getForfeits(Player.PLAYER1) + result.getForfeits(Player.PLAYER2));
+    Assert.assertTrue(result.getMoves(Player.PLAYER1) > 0);
+    Assert.assertTrue(result.getLatencyPercentile(Player.PLAYER1, 50)
+        <= result.getLatencyPercentile(Player.PLAYER1, 100));
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testSeededRunsRepeat() {
+    SelfPlayResult[] results = new SelfPlayResult[2];
+    for (int run = 0; run < results.length; run++) {
+      SelfPlay selfPlay = new SelfPlay(TestAgents.GREEDY, TestAgents.GREEDY);
+      selfPlay.setGames(20);
+      selfPlay.setRadii(5);
+      selfPlay.setThreads(1 + run);
+      selfPlay.setSeed(11);
+      selfPlay.setRandomOpeningMoves(3);
+      results[run] = selfPlay.run();
+    }
+    for (Player player : Player.values()) {
+      Assert.assertEquals(results[0].getWins(player), results[1].getWins(player));
+      Assert.assertEquals(results[0].getMoves(player), results[1].getMoves(player));
+    }
+  }
+
+  @Test
+  public void testIllegalMovesForfeit() {
+    SelfPlay selfPlay = new SelfPlay(TestAgents.GREEDY, TestAgents.ILLEGAL);
+    selfPlay.setGames(4);
+    selfPlay.setFirstPlayer(Player.PLAYER2);
+    SelfPlayResult result = selfPlay.run();
+    Assert.assertEquals(4, result.getWins(Player.PLAYER1));
+    Assert.assertEquals(4, result.getForfeits(Player.PLAYER2));
+  }
+
+  @Test
+  public void testPassingAgentsCannotStall() {
+    AgentConfig passing =
+        (player, model) -> TestAgents.always(player, new UnifiedCommand(new Pass()));
+    SelfPlay selfPlay = new SelfPlay(passing, passing);
+    selfPlay.setGames(2);
+    SelfPlayResult result = selfPlay.run();
+    Assert.assertEquals(2, result.getDraws());
+    Assert.assertEquals(2, result.getMoves(Player.PLAYER1));
+  }
+
+  @Test
+  public void testIllegalArguments() {
+    SelfPlay selfPlay = new SelfPlay(TestAgents.GREEDY, TestAgents.PASTE);
+    Assert.assertThrows(IllegalArgumentException.class, () -> selfPlay.setGames(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> selfPlay.setThreads(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> selfPlay.setRadii());
+    Assert.assertThrows(IllegalArgumentException.class, () -> selfPlay.setRadii(2));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> selfPlay.setRandomOpeningMoves(-1));
+    Assert.assertThrows(NullPointerException.class, () -> new SelfPlay(null, TestAgents.PASTE));
+    selfPlay.setGames(1);
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> selfPlay.run().getLatencyPercentile(Player.PLAYER1, 101));
+  }
+}
@@ -0,0 +1,51 @@
+package reversi.simulation;
+
+import reversi.command.UnifiedCommand;
+import reversi.command.commands.Move;
+import reversi.controller.Player;
+import reversi.controller.agent.AbsoluteAgent;
+import reversi.controller.agent.AgentBuilder;
+import reversi.controller.agent.GreedyAIAgent;
+import reversi.controller.agent.PasteAIAgent;
+import reversi.hex.coordinates.AxialCoordinate;
+
+/**
+ * The agents the simulation tests play with.
+ */
+final class TestAgents {
+  static final AgentConfig GREEDY = (player, model) -> AgentBuilder
+      .create(new GreedyAIAgent(player, model))
+      .getFirstMoveOrPassFinalizer()
+      .build();
+  static final AgentConfig PASTE = (player, model) -> AgentBuilder
+      .create(new PasteAIAgent(player, model))
+      .getFirstMoveOrPassFinalizer()
+      .build();
+  // always moves at the center of the board, which is empty at the start but never a legal first
+  // move, so it forfeits every game
+  static final AgentConfig ILLEGAL = (player, model) -> always(player,
+      new UnifiedCommand(new Move(new AxialCoordinate(0, 0))));
+
+  private TestAgents() {
+  }
+
+  // an agent that always answers with the same command
+  static AbsoluteAgent always(Player player, UnifiedCommand command) {
+    return new AbsoluteAgent() {
+      @Override
+      public UnifiedCommand getAndResetCommand() {
+        return command;
+      }
+
+      @Override
+      public boolean viewIsVisible() {
+        return false;
+      }
+
+      @Override
+      public Player getPlayer() {
+        return player;
+      }
+    };
+  }
+}
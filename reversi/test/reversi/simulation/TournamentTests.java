@@ -0,0 +1,146 @@
+package reversi.simulation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Tournament} and {@link TournamentResult}.
+ */
+public class TournamentTests {
+
+  private static Map<String, AgentConfig> entrants() {
+    Map<String, AgentConfig> entrants = new LinkedHashMap<>();
+    entrants.put("greedy", TestAgents.GREEDY);
+    entrants.put("paste", TestAgents.PASTE);
+    entrants.put("illegal", TestAgents.ILLEGAL);
+    return entrants;
+  }
+
+  @Test
+  public void testPlaysEveryPairingBothWays() throws IOException {
+    Tournament tournament = new Tournament(entrants());
+    tournament.setGamesPerMatch(3);
+    tournament.setRadii(4, 5);
+    tournament.setThreads(2);
+    tournament.setRandomOpeningMoves(2);
+    TournamentResult result = tournament.run();
+    // 3 pairs, on 2 boards, with either entrant playing each side, 3 games each
+    Assert.assertEquals(36, result.getGames());
+    Assert.assertEquals(12, result.getGames("greedy", "paste"));
+    Assert.assertEquals(12, result.getGames("paste", "illegal"));
+    Assert.assertEquals(12, result.getPoints("greedy", "paste")
+        + result.getPoints("paste", "greedy"), 1e-9);
+    Assert.assertEquals(12, result.getPoints("greedy", "illegal"), 1e-9);
+    Assert.assertEquals(0, result.getPoints("illegal", "paste"), 1e-9);
+  }
+
+  @Test
+  public void testBrokenEntrantForfeitsAndRunContinues() throws IOException {
+    Path checkpoint = Files.createTempFile("tournament", ".txt");
+    Files.delete(checkpoint);
+    try {
+      Map<String, AgentConfig> entrants = entrants();
+      entrants.put("broken", (player, model) -> {
+        throw new IllegalStateException("cannot create agent");
+      });
+      Tournament tournament = new Tournament(entrants);
+      tournament.setRadii(4);
+      tournament.setCheckpoint(checkpoint);
+      TournamentResult result = tournament.run();
+      // 6 pairs, with either entrant playing each side, 2 games each
+      Assert.assertEquals(24, result.getGames());
+      Assert.assertEquals(4, result.getPoints("greedy", "broken"), 1e-9);
+      Assert.assertEquals(0, result.getPoints("broken", "greedy"), 1e-9);
+      Assert.assertEquals(1 + result.getGames(),
+          Files.readAllLines(checkpoint, StandardCharsets.UTF_8).size());
+    } finally {
+      Files.deleteIfExists(checkpoint);
+    }
+  }
+
+  @Test
+  public void testRatingsFollowResults() throws IOException {
+    Tournament tournament = new Tournament(entrants());
+    tournament.setRadii(5);
+    tournament.setRandomOpeningMoves(2);
+    TournamentResult result = tournament.run();
+    Assert.assertTrue(result.getRating("greedy") > result.getRating("paste"));
+    Assert.assertTrue(result.getRating("paste") > result.getRating("illegal"));
+    double sum = 0;
+    for (String entrant : result.getEntrants()) {
+      sum += result.getRating(entrant);
+      Assert.assertTrue(result.getRatingError(entrant) > 0);
+      Assert.assertTrue(Double.isFinite(result.getRatingError(entrant)));
+    }
+    Assert.assertEquals(0, sum, 1e-6);
+    Assert.assertTrue(result.toString().contains("1. greedy"));
+  }
+
+  @Test
+  public void testEvenResultsRateEqually() {
+    TournamentResult.Builder builder = new TournamentResult.Builder(List.of("a", "b"));
+    builder.add(0, 1, 0);
+    builder.add(1, 0, 0);
+    builder.add(0, 1, -1);
+    TournamentResult result = builder.build(1);
+    Assert.assertEquals(0, result.getRating("a"), 1e-6);
+    Assert.assertEquals(0, result.getRating("b"), 1e-6);
+    Assert.assertEquals(1.5, result.getPoints("a", "b"), 1e-9);
+  }
+
+  @Test
+  public void testResumesFromCheckpoint() throws IOException {
+    Path checkpoint = Files.createTempFile("tournament", ".txt");
+    Files.delete(checkpoint);
+    try {
+      Tournament tournament = new Tournament(entrants());
+      tournament.setRadii(4);
+      tournament.setRandomOpeningMoves(2);
+      tournament.setCheckpoint(checkpoint);
+      TournamentResult first = tournament.run();
+      List<String> lines = Files.readAllLines(checkpoint, StandardCharsets.UTF_8);
+      Assert.assertEquals(1 + first.getGames(), lines.size());
+
+      // forget the last game and cut the one before it short, as a crash would
+      List<String> kept = lines.subList(0, lines.size() - 2);
+      Files.write(checkpoint, kept, StandardCharsets.UTF_8);
+      Files.write(checkpoint, lines.get(lines.size() - 2).substring(0, 1)
+          .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+      TournamentResult resumed = tournament.run();
+      Assert.assertEquals(first.getGames(), resumed.getGames());
+      for (String entrant : first.getEntrants()) {
+        Assert.assertEquals(first.getRating(entrant), resumed.getRating(entrant), 1e-9);
+      }
+    } finally {
+      Files.deleteIfExists(checkpoint);
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testRefusesOtherCheckpoints() throws IOException {
+    Path checkpoint = Files.createTempFile("tournament", ".txt");
+    try {
+      Files.write(checkpoint, List.of("reversi-tournament 1 entrants=[someone, else]"),
+          StandardCharsets.UTF_8);
+      Tournament tournament = new Tournament(entrants());
+      tournament.setCheckpoint(checkpoint);
+      tournament.run();
+    } finally {
+      Files.deleteIfExists(checkpoint);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNeedsTwoEntrants() {
+    new Tournament(Map.of("greedy", TestAgents.GREEDY));
+  }
+}
@@ -0,0 +1,68 @@
+package reversi.view;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+
+import reversi.controller.Player;
+import reversi.hex.coordinates.AxialCoordinate;
+import reversi.model.ReversiModel;
+
+/**
+ * Test class for the cached drawing of a ReversiPanel.
+ */
+public class ReversiPanelTests {
+
+  private static BufferedImage paint(ReversiPanel panel) {
+    BufferedImage image = new BufferedImage(panel.getWidth(), panel.getHeight(),
+        BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    panel.paint(g);
+    g.dispose();
+    return image;
+  }
+
+  private static ReversiPanel panel(ReversiModel model, int width, int height) {
+    ReversiPanel panel = new ReversiPanel(model, new HashSet<>(), 12);
+    panel.setSize(width, height);
+    return panel;
+  }
+
+  private static void assertSameImage(BufferedImage expected, BufferedImage actual) {
+    Assert.assertEquals(expected.getWidth(), actual.getWidth());
+    Assert.assertEquals(expected.getHeight(), actual.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        Assert.assertEquals("pixel " + x + ", " + y, expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void testRedrawnCellsMatchFreshPanel() {
+    ReversiModel model = new ReversiModel(4);
+    ReversiPanel panel = panel(model, 240, 220);
+    BufferedImage start = paint(panel);
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    model.makeMoveAsPlayer(new AxialCoordinate(2, -1), Player.PLAYER2);
+    BufferedImage moved = paint(panel);
+    Assert.assertThrows(AssertionError.class, () -> assertSameImage(start, moved));
+    assertSameImage(paint(panel(model, 240, 220)), moved);
+
+    model.rewindTo(0);
+    assertSameImage(start, paint(panel));
+  }
+
+  @Test
+  public void testResizeRecomputesGeometry() {
+    ReversiModel model = new ReversiModel(3);
+    ReversiPanel panel = panel(model, 200, 200);
+    paint(panel);
+    panel.setSize(260, 230);
+    model.makeMoveAsPlayer(new AxialCoordinate(1, -2), Player.PLAYER1);
+    assertSameImage(paint(panel(model, 260, 230)), paint(panel));
+  }
+}